@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.benchmark;
+
+import com.avispl.symphony.dal.device.snmp.simulator.SnmpWalkDataset;
+import org.snmp4j.smi.OctetString;
+
+/**
+ * Synthetic property sets of the benchmarks
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+final class BenchmarkData {
+    /**
+     * Root OID of the synthetic dataset
+     * */
+    static final String ROOT_OID = ".1.3.6.1.4.1.99999.1.";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Build snmpProperties configuration of the given number of scalar OIDs
+     *
+     * @param oidCount number of OIDs
+     * @return snmpProperties in a format of OID:PropertyName separated with a pipe character
+     * */
+    static String snmpProperties(int oidCount) {
+        StringBuilder snmpProperties = new StringBuilder();
+        for (int i = 0; i < oidCount; i++) {
+            if (i > 0) {
+                snmpProperties.append('|');
+            }
+            snmpProperties.append(ROOT_OID).append(i).append(".0:Benchmark#Property").append(i);
+        }
+        return snmpProperties.toString();
+    }
+
+    /**
+     * Build simulator dataset of the given number of scalar OIDs, matching {@link #snmpProperties(int)}
+     *
+     * @param oidCount number of OIDs
+     * @return simulator dataset
+     * */
+    static SnmpWalkDataset dataset(int oidCount) {
+        SnmpWalkDataset dataset = new SnmpWalkDataset();
+        for (int i = 0; i < oidCount; i++) {
+            dataset.put(ROOT_OID + i + ".0", new OctetString(value(i)));
+        }
+        return dataset;
+    }
+
+    /**
+     * Build value of the synthetic OID
+     *
+     * @param index OID index
+     * @return OID value
+     * */
+    static String value(int index) {
+        return "value-" + index;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.benchmark;
+
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.dal.device.snmp.SNMPCommunicator;
+import com.avispl.symphony.dal.device.snmp.simulator.SnmpAgentSimulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full SNMPv2c poll of the loopback {@link SnmpAgentSimulator} with {@link SNMPCommunicator#getMultipleStatistics()}
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetMultipleStatisticsBenchmark {
+    @Param({"10", "100", "1000"})
+    private int oidCount;
+
+    private SnmpAgentSimulator agent;
+    private SNMPCommunicator communicator;
+
+    @Setup
+    public void setup() throws Exception {
+        agent = new SnmpAgentSimulator(BenchmarkData.dataset(oidCount));
+        communicator = new SNMPCommunicator();
+        communicator.setHost("127.0.0.1");
+        communicator.setSnmpPort(agent.getPort());
+        communicator.setSnmpCommunity("public");
+        communicator.setSnmpProperties(BenchmarkData.snmpProperties(oidCount));
+        communicator.init();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        communicator.destroy();
+        agent.close();
+    }
+
+    @Benchmark
+    public List<Statistics> getMultipleStatistics() throws Exception {
+        return communicator.getMultipleStatistics();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.benchmark;
+
+import com.avispl.symphony.dal.device.snmp.polling.PollingPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.snmp4j.PDU;
+import org.snmp4j.asn1.BERInputStream;
+import org.snmp4j.asn1.BEROutputStream;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.VariableBinding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BER encoding of GET request PDUs and decoding of the response PDUs, for the whole property set in a single PDU
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PduCodecBenchmark {
+    @Param({"10", "100", "1000"})
+    private int oidCount;
+
+    private List<VariableBinding> requestBindings;
+    private byte[] encodedResponse;
+
+    @Setup
+    public void setup() throws IOException {
+        PollingPlan plan = PollingPlan.compile(BenchmarkData.snmpProperties(oidCount));
+        requestBindings = plan.getRequestBindings();
+        PDU response = new PDU();
+        response.setType(PDU.RESPONSE);
+        for (int i = 0; i < requestBindings.size(); i++) {
+            response.add(new VariableBinding(requestBindings.get(i).getOid(), new OctetString(BenchmarkData.value(i))));
+        }
+        encodedResponse = encode(response);
+    }
+
+    @Benchmark
+    public byte[] encodeRequest() throws IOException {
+        PDU request = new PDU();
+        request.setType(PDU.GET);
+        for (VariableBinding binding : requestBindings) {
+            request.add(binding);
+        }
+        return encode(request);
+    }
+
+    @Benchmark
+    public PDU decodeResponse() throws IOException {
+        PDU response = new PDU();
+        response.decodeBER(new BERInputStream(ByteBuffer.wrap(encodedResponse)));
+        return response;
+    }
+
+    /**
+     * Encode PDU with BER
+     *
+     * @param pdu to encode
+     * @return encoded PDU
+     * @throws IOException if the PDU cannot be encoded
+     * */
+    private static byte[] encode(PDU pdu) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(pdu.getBERLength());
+        pdu.encodeBER(new BEROutputStream(buffer));
+        return buffer.array();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.benchmark;
+
+import com.avispl.symphony.dal.device.snmp.polling.PollingPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.snmp4j.smi.OID;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * snmpProperties parsing, request layout and OID index lookup cost, see {@link PollingPlan}
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PollingPlanBenchmark {
+    @Param({"10", "100", "1000"})
+    private int oidCount;
+
+    private String snmpProperties;
+    private PollingPlan plan;
+    private int[] halfOfEntries;
+    private OID lastEntryOid;
+
+    @Setup
+    public void setup() {
+        snmpProperties = BenchmarkData.snmpProperties(oidCount);
+        plan = PollingPlan.compile(snmpProperties);
+        halfOfEntries = new int[oidCount / 2];
+        for (int i = 0; i < halfOfEntries.length; i++) {
+            halfOfEntries[i] = i * 2;
+        }
+        lastEntryOid = plan.getEntries().get(oidCount - 1).getOid();
+    }
+
+    /**
+     * Parse snmpProperties, performed once per configuration change
+     * */
+    @Benchmark
+    public PollingPlan compile() {
+        return PollingPlan.compile(snmpProperties);
+    }
+
+    /**
+     * Request layout of the full plan, cached per request limits
+     * */
+    @Benchmark
+    public int[][] cachedRequestLayout() {
+        return plan.requestLayout(plan.getAllEntries(), 20, 1400);
+    }
+
+    /**
+     * Request layout of a partial plan, computed on every poll with refresh intervals
+     * */
+    @Benchmark
+    public int[][] partialRequestLayout() {
+        return plan.requestLayout(halfOfEntries, 20, 1400);
+    }
+
+    /**
+     * OID index lookup of a retrieved variable binding, expected to stay flat as the plan grows
+     * */
+    @Benchmark
+    public int[] oidIndexLookup() {
+        return plan.getOidIndex().getEntryIndices(lastEntryOid);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.benchmark;
+
+import com.avispl.symphony.dal.device.snmp.polling.PollResult;
+import com.avispl.symphony.dal.device.snmp.polling.PollingPlan;
+import com.avispl.symphony.dal.device.snmp.polling.PropertyValueCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembly of the statistics map from the poll values, performed on every poll
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultAssemblyBenchmark {
+    @Param({"10", "100", "1000"})
+    private int oidCount;
+
+    private PollingPlan plan;
+    private String[] values;
+
+    @Setup
+    public void setup() {
+        plan = PollingPlan.compile(BenchmarkData.snmpProperties(oidCount));
+        values = new String[oidCount];
+        for (int i = 0; i < oidCount; i++) {
+            values[i] = BenchmarkData.value(i);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> assembleStatistics() {
+        PollResult pollResult = new PollResult(plan);
+        for (int i = 0; i < values.length; i++) {
+            pollResult.setValue(i, values[i]);
+        }
+        PropertyValueCache cache = new PropertyValueCache(plan);
+        cache.update(pollResult, 0);
+        Map<String, String> statistics = new TreeMap<>();
+        cache.putValues(statistics);
+        pollResult.putValues(plan, statistics);
+        return statistics;
+    }
+}
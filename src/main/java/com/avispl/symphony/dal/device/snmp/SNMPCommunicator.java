@@ -1,577 +1,1975 @@
-/*
- * Copyright (c) 2022-2025 AVI-SPL, Inc. All Rights Reserved.
- */
-package com.avispl.symphony.dal.device.snmp;
-
-import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
-import com.avispl.symphony.api.dal.dto.monitor.Statistics;
-import com.avispl.symphony.api.dal.dto.snmp.SnmpEntry;
-import com.avispl.symphony.api.dal.monitor.Monitorable;
-import com.avispl.symphony.dal.BaseDevice;
-import com.avispl.symphony.dal.util.StringUtils;
-import org.snmp4j.*;
-import org.snmp4j.event.ResponseEvent;
-import org.snmp4j.mp.MPv3;
-import org.snmp4j.mp.SnmpConstants;
-import org.snmp4j.security.*;
-import org.snmp4j.smi.OID;
-import org.snmp4j.smi.OctetString;
-import org.snmp4j.smi.UdpAddress;
-import org.snmp4j.smi.VariableBinding;
-import org.snmp4j.transport.DefaultUdpTransportMapping;
-import com.avispl.symphony.dal.device.snmp.v3.LocalSecurityLevel;
-
-import javax.security.auth.login.FailedLoginException;
-import java.io.IOException;
-import java.util.*;
-
-/**
- * Generic SNMP Device Adapter
- * <p>
- * Main features:
- * - Provide SNMP device info as ExtendedProperties, based on {@link #snmpProperties}
- * - Provide Adapter Metadata based on Build information and runtime stats
- *
- * @author Maksym.Rossiytsev / Symphony Dev Team<br>
- * Created on May 24, 2022
- */
-public class SNMPCommunicator extends BaseDevice implements Monitorable {
-    private String snmpProperties;
-    /**
-     * Adapter metadata, collected from the version.properties
-     */
-    private Properties adapterProperties;
-    /**
-     * Device adapter instantiation timestamp.
-     */
-    private long adapterInitializationTimestamp;
-    /**
-     * Snmpv3 auth password
-     * */
-    private String authPassword;
-    /**
-     * Snmpv3 private password
-     * */
-    private String privatePassword;
-    /**
-     * {@link SecurityLevel#AUTH_PRIV}, {@link SecurityLevel#AUTH_NOPRIV} or {@link SecurityLevel#NOAUTH_NOPRIV} security level
-     * for SNMPv3
-     * */
-    private String securityLevel;
-    /**
-     * Authentication protocol for SNMPv3
-     * */
-    private String authenticationProtocol = "AuthSHA";
-    /**
-     * Privacy protocol for SNMPv3
-     * */
-    private String privacyProtocol = "PrivAES128";
-    /**
-     * SNMP Version, 2c by default
-     * */
-    private String version = "2";
-    /**
-     *
-     * */
-    private String login;
-    /**
-     *
-     * */
-    private String password;
-    /**
-     * Instance of SNMPv3 client
-     * */
-    Snmp snmpv3;
-    /**
-     * Snmpv3 transport reference
-     * */
-    TransportMapping<UdpAddress> snmpv3Transport;
-    /**
-     * UserTarget storage for snmpv3 configuration
-     * */
-    UserTarget<UdpAddress> snmpv3target;
-
-    /**
-     * Retrieves {@link #login}
-     *
-     * @return value of {@link #login}
-     */
-    public String getLogin() {
-        return login;
-    }
-
-    /**
-     * Sets {@link #login} value
-     *
-     * @param login new value of {@link #login}
-     */
-    public void setLogin(String login) {
-        this.login = login;
-    }
-
-    /**
-     * Retrieves {@link #password}
-     *
-     * @return value of {@link #password}
-     */
-    public String getPassword() {
-        return String.format("%s|%s", authPassword, privatePassword);
-    }
-
-    /**
-     * Sets {@link #password} value
-     *
-     * @param password new value of {@link #password}
-     */
-    public void setPassword(String password) {
-        if (password == null) {
-            return;
-        }
-        String[] passwords = password.split("\\|");
-        this.authPassword = passwords[0];
-        if (passwords.length == 2) {
-            this.privatePassword = passwords[1];
-        } else if (passwords.length > 2) {
-            throw new IllegalArgumentException("Password value is corrupted. Please make sure to only include SNMPv3 auth and private password, separated by a | character.");
-        }
-    }
-
-    /**
-     * Retrieves {@link #authenticationProtocol}
-     *
-     * @return value of {@link #authenticationProtocol}
-     */
-    public String getAuthenticationProtocol() {
-        return authenticationProtocol;
-    }
-
-    /**
-     * Sets {@link #authenticationProtocol} value
-     *
-     * @param authenticationProtocol new value of {@link #authenticationProtocol}
-     */
-    public void setAuthenticationProtocol(String authenticationProtocol) {
-        this.authenticationProtocol = authenticationProtocol;
-    }
-
-    /**
-     * Retrieves {@link #privacyProtocol}
-     *
-     * @return value of {@link #privacyProtocol}
-     */
-    public String getPrivacyProtocol() {
-        return privacyProtocol;
-    }
-
-    /**
-     * Sets {@link #privacyProtocol} value
-     *
-     * @param privacyProtocol new value of {@link #privacyProtocol}
-     */
-    public void setPrivacyProtocol(String privacyProtocol) {
-        this.privacyProtocol = privacyProtocol;
-    }
-
-    /**
-     * Retrieves {@link #securityLevel}
-     *
-     * @return value of {@link #securityLevel}
-     */
-    public String getSecurityLevel() {
-        return securityLevel;
-    }
-
-    /**
-     * Sets {@link #securityLevel} value
-     *
-     * @param securityLevel new value of {@link #securityLevel}
-     */
-    public void setSecurityLevel(String securityLevel) {
-        this.securityLevel = securityLevel;
-    }
-
-    /**
-     * Retrieves {@link #version}
-     *
-     * @return value of {@link #version}
-     */
-    public String getVersion() {
-        return version;
-    }
-
-    /**
-     * Sets {@link #version} value
-     *
-     * @param version new value of {@link #version}
-     */
-    public void setVersion(String version) {
-        this.version = version;
-    }
-
-    /**
-     * Retrieves {@link #snmpProperties}
-     *
-     * @return value of {@link #snmpProperties}
-     */
-    public String getSnmpProperties() {
-        return snmpProperties;
-    }
-
-    /**
-     * Sets {@link #snmpProperties} value
-     *
-     * @param snmpProperties new value of {@link #snmpProperties}
-     */
-    public void setSnmpProperties(String snmpProperties) {
-        this.snmpProperties = snmpProperties;
-    }
-
-    @Override
-    protected void internalInit() throws Exception {
-        if (logger.isDebugEnabled()) {
-            logger.debug("Internal init is called.");
-        }
-        adapterInitializationTimestamp = System.currentTimeMillis();
-        try {
-            loadAdapterMetaData();
-        } catch (IOException exc) {
-            // Catching an error there because adapter should remain functional regardless of this issue.
-            logger.error("Unable to load adapter metadata during internalInit stage.", exc);
-        }
-        super.internalInit();
-    }
-
-    @Override
-    protected void internalDestroy() {
-        try {
-            snmpv3target = null;
-            if (snmpv3Transport != null && snmpv3Transport.isListening()) {
-                snmpv3Transport.close();
-                snmpv3Transport = null;
-            }
-            if (snmpv3 != null) {
-                snmpv3.close();
-                snmpv3 = null;
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Exception during SNMPv3 client termination", e);
-        } finally {
-            super.internalDestroy();
-        }
-    }
-
-    @Override
-    public List<Statistics> getMultipleStatistics() throws Exception {
-        ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-
-        Map<String, String> statistics = fetchSNMPProperties();
-        statistics.put("AdapterMetadata#AdapterVersion", adapterProperties.getProperty("adapter.version"));
-        statistics.put("AdapterMetadata#AdapterBuildDate", adapterProperties.getProperty("adapter.build.date"));
-        statistics.put("AdapterMetadata#AdapterUptime", normalizeUptime((System.currentTimeMillis() - adapterInitializationTimestamp) / 1000));
-        statistics.put("AdapterMetadata#SNMPVersion", String.valueOf(version));
-        boolean snmpv3 = Objects.equals(version, "3");
-        if (snmpv3 && StringUtils.isNotNullOrEmpty(authenticationProtocol)) {
-            statistics.put("AdapterMetadata#AuthenticationProtocol", authenticationProtocol);
-        }
-        if (snmpv3 && StringUtils.isNotNullOrEmpty(securityLevel)) {
-            statistics.put("AdapterMetadata#SecurityLevel", securityLevel);
-        }
-        if (snmpv3 && StringUtils.isNotNullOrEmpty(privacyProtocol)) {
-            statistics.put("AdapterMetadata#PrivacyProtocol", privacyProtocol);
-        }
-
-        extendedStatistics.setStatistics(statistics);
-        return Collections.singletonList(extendedStatistics);
-    }
-
-    /**
-     * Load adapter metadata - adapter.version, adapter.build.date and adapter.uptime, based on
-     * the build data and {@link #adapterInitializationTimestamp}
-     *
-     * @throws IOException if unable to read "version.properties" file
-     */
-    private void loadAdapterMetaData() throws IOException {
-        adapterProperties = new Properties();
-        adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
-    }
-
-    /**
-     * Fetch SNMP properties based on settings provided in {@link #snmpProperties}
-     * in a format of OID:PropertyName separated with a pipe character, e.g
-     * .1.3.6.1.2.1.1.1.0:SystemDescription|.1.3.6.1.2.1.1.2.0:SystemID|.1.3.6.1.2.1.1.3.0:SystemUptime
-     *
-     * @return {@link Map} with values retrieved by OIDs with property names retrieved from {@link #snmpProperties}
-     * @throws IOException if a critical error occurs while retrieving SNMP properties
-     * */
-    private Map<String, String> fetchSNMPProperties() throws Exception {
-        Map<String, String> result = new TreeMap<>();
-        if(StringUtils.isNullOrEmpty(snmpProperties)) {
-            return result;
-        }
-        if (version.equals("3")) {
-            initSNMPv3();
-        }
-
-        String[] SNMPPropertyPairs = snmpProperties.split("\\|");
-        for (String entry : SNMPPropertyPairs) {
-            String[] entries = entry.split(":");
-            if (entries.length < 2) {
-                if (logger.isWarnEnabled()) {
-                    logger.warn("Error: Corrupted SNMP property entry: " + entry);
-                }
-                continue;
-            }
-            String oid = entries[0];
-            if (StringUtils.isNullOrEmpty(oid)) {
-                if (logger.isWarnEnabled()) {
-                    logger.warn("Error: Corrupted SNMP OID entry: " + entry);
-                }
-                continue;
-            }
-            String propertyName = entries[1];
-            if (StringUtils.isNullOrEmpty(propertyName)) {
-                if (logger.isWarnEnabled()) {
-                    logger.warn("Error: Corrupted SNMP propertyName entry: " + entry);
-                }
-                continue;
-            }
-
-            Collection<SnmpEntry> snmpEntries;
-            if (version.equals("3")) {
-                snmpEntries = querySnmpv3(oid);
-            } else {
-                snmpEntries = querySnmp(Collections.singletonList(oid));
-                if (snmpEntries.isEmpty()) {
-                    if (logger.isWarnEnabled()) {
-                        logger.warn("No variable bindings available, skipping.");
-                    }
-                    continue;
-                }
-            }
-
-            snmpEntries.forEach(snmpEntry -> {
-                String responseOid = snmpEntry.getOid();
-                if (!oid.endsWith(String.valueOf(responseOid))) {
-                    if (logger.isWarnEnabled()) {
-                        logger.warn(String.format("SNMP Entry does not match by OID. Expected: %s, Actual: %s", oid, responseOid));
-                    }
-                    return;
-                }
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Found matching variable binding, adding to monitored statistics: " + snmpEntry);
-                }
-                String variableValue = snmpEntry.getValue();
-                if (StringUtils.isNullOrEmpty(variableValue)) {
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("Variable value is empty, skipping.");
-                    }
-                    return;
-                }
-                result.put(propertyName, variableValue.trim());
-            });
-        }
-
-        return result;
-    }
-
-    /**
-     * Initialize v3 SNMP client
-     *
-     * @throws IOException if SNMP isn't initialized properly
-     * @since 2.0.0
-     * */
-    private void initSNMPv3() throws IOException, FailedLoginException {
-        if (StringUtils.isNullOrEmpty(login) && ("AUTH_PRIV".equals(securityLevel) || "AUTH_NOPRIV".equals(securityLevel))) {
-            throw new FailedLoginException("Invalid login: please check snmp version, security name or security level configured.");
-        }
-        if (StringUtils.isNullOrEmpty(authPassword) && ("AUTH_PRIV".equals(securityLevel) || "AUTH_NOPRIV".equals(securityLevel))) {
-            throw new FailedLoginException("Invalid authPassword: please check snmp version, auth password or security level configured.");
-        }
-        if (StringUtils.isNullOrEmpty(privatePassword) && ("AUTH_PRIV".equals(securityLevel) || "NOAUTH_PRIV".equals(securityLevel))) {
-            throw new FailedLoginException("Invalid privatePassword: please check snmp version, private password or security level configured.");
-        }
-        if (StringUtils.isNullOrEmpty(securityLevel)) {
-            throw new FailedLoginException("Invalid securityLevel: please check snmp version or security level configured [AUTH_PRIV, NOAUTH_PRIV, NOAUTH_NOPRIV].");
-        }
-
-        SecurityProtocols.getInstance().addAuthenticationProtocol( new AuthSHA());
-        SecurityProtocols.getInstance().addAuthenticationProtocol( new AuthHMAC128SHA224());
-        SecurityProtocols.getInstance().addAuthenticationProtocol( new AuthHMAC384SHA512());
-        SecurityProtocols.getInstance().addAuthenticationProtocol( new AuthHMAC192SHA256());
-        SecurityProtocols.getInstance().addAuthenticationProtocol( new AuthHMAC256SHA384());
-        SecurityProtocols.getInstance().addAuthenticationProtocol( new AuthMD5());
-
-        USM usm = new USM(SecurityProtocols.getInstance(),
-                new OctetString(MPv3.createLocalEngineID()), 0);
-        SecurityModels.getInstance().addSecurityModel(usm);
-
-        if (snmpv3Transport == null || !snmpv3Transport.isListening()) {
-            snmpv3Transport = new DefaultUdpTransportMapping();
-            snmpv3Transport.listen();
-
-            snmpv3 = new Snmp(snmpv3Transport);
-        }
-        if (snmpv3 == null) {
-            snmpv3 = new Snmp(snmpv3Transport);
-        }
-        snmpv3.getMessageDispatcher().addMessageProcessingModel(new MPv3(usm));
-
-        OctetString loginOctet = null;
-        OctetString authPasswordOctet = null;
-        OctetString privPasswordOctet = null;
-
-        if (StringUtils.isNotNullOrEmpty(login)) {
-            loginOctet = new OctetString(login);
-        }
-        if (StringUtils.isNotNullOrEmpty(authPassword)) {
-            authPasswordOctet = new OctetString(authPassword);
-        }
-        if (StringUtils.isNotNullOrEmpty(privatePassword)) {
-            privPasswordOctet = new OctetString(privatePassword);
-        }
-        OID authenticationProtocol = retrieveAuthenticationProtocol();
-        OID privacyProtocol = retrievePrivacyProtocol();
-
-        UsmUser user = new UsmUser(loginOctet,
-                authPasswordOctet == null ? null : authenticationProtocol,  authPasswordOctet,
-                privPasswordOctet == null ? null : privacyProtocol, privPasswordOctet);
-        usm.addUser(loginOctet, null, user);
-
-        UdpAddress agentAddr = new UdpAddress(getHost() + "/" + getSnmpPort());
-        byte[] agentEID = snmpv3.discoverAuthoritativeEngineID(agentAddr, 1500);
-        if (agentEID == null) {
-            throw new IllegalStateException("SNMPv3 EngineID discovery failed. Please check target hostname or SNMP service status.");
-        }
-
-        snmpv3target = new UserTarget<>();
-        snmpv3target.setAddress(agentAddr);
-        snmpv3target.setVersion(SnmpConstants.version3);
-        snmpv3target.setSecurityName(new OctetString(login));
-        snmpv3target.setSecurityLevel(LocalSecurityLevel.findLevelByName(securityLevel));
-        snmpv3target.setAuthoritativeEngineID(agentEID);
-        snmpv3target.setRetries(2);
-        snmpv3target.setTimeout(2000);
-    }
-
-    /**
-     * Retrieve authentication protocol based on {@link #authenticationProtocol} variable
-     * AuthSHA is used by default - if the {@link #authenticationProtocol} is not supported or not provided
-     *
-     * @return OID of the selected privacy protocol
-     * */
-    private OID retrieveAuthenticationProtocol() {
-        switch (this.authenticationProtocol) {
-            case "AuthSHA":
-                return AuthSHA.ID;
-            case "AuthMD5":
-                return AuthMD5.ID;
-            case "AuthHMAC384SHA512":
-                return AuthHMAC384SHA512.ID;
-            case "AuthHMAC128SHA224":
-                return AuthHMAC128SHA224.ID;
-            case "AuthHMAC256SHA384":
-                return AuthHMAC256SHA384.ID;
-            case "AuthHMAC192SHA256":
-                return AuthHMAC192SHA256.ID;
-            default:
-                logger.warn(String.format("Cannot set authentication protocol to %s, switching to AuthSHA.", this.authenticationProtocol));
-                return AuthSHA.ID;
-        }
-    }
-
-    /**
-     * Retrieve privacy protocol based on {@link #privacyProtocol} variable
-     * PrivAES128 is used by default - if the {@link #privacyProtocol} is not supported or not provided
-     *
-     * @return OID of the selected privacy protocol
-     * */
-    private OID retrievePrivacyProtocol() {
-        switch (this.privacyProtocol) {
-            case "PrivAES128":
-                return PrivAES128.ID;
-            case "PrivAES192":
-                return PrivAES192.ID;
-            case "PrivAES256":
-                return PrivAES256.ID;
-            case "PrivDES":
-                return PrivDES.ID;
-            case "Priv3DES":
-                return Priv3DES.ID;
-            default:
-                logger.warn(String.format("Cannot set privacy protocol to %s, switching to PrivAES128.", this.privacyProtocol));
-                return PrivAES128.ID;
-        }
-    }
-
-    /**
-     * Make an SNMPv3 query and retrieve remote OID value
-     *
-     * @param oid to retreive a value for
-     * @throws IOException if operation cannot be completed due to an IO issue
-     * @since 2.0.0
-     * */
-    private Collection<SnmpEntry> querySnmpv3(String oid) throws IOException {
-        if (logger.isDebugEnabled()) {
-            logger.debug("Retrieving SNMPv3 OID: " + oid);
-        }
-        ScopedPDU pdu = new ScopedPDU();
-        pdu.setType(PDU.GET);
-        pdu.add(new VariableBinding(new OID(oid)));
-
-        ResponseEvent<?> ev = snmpv3.send(pdu, snmpv3target);
-        String response;
-        if (ev.getResponse() != null && ev.getResponse().toString().startsWith("REPORT")) {
-            if (logger.isDebugEnabled()) {
-                logger.debug(String.format("Unable to retrieve oid %s value: REPORT received: %s", oid, ev.getResponse().toString()));
-            }
-            response = "N/A";
-        } else if (ev.getResponse() == null) {
-            response = "Request timed out";
-            if (logger.isDebugEnabled()) {
-                logger.debug(String.format("OID %s retrieval timeout.", oid));
-            }
-        } else {
-            VariableBinding vb = ev.getResponse().get(0);
-            response = vb.getVariable().toString();
-            if (logger.isDebugEnabled()) {
-                logger.debug(String.format("OID %s retrieved successfully with value %s", oid, response));
-            }
-        }
-        SnmpEntry entry = new SnmpEntry();
-        entry.setOid(oid);
-        entry.setValue(response);
-        return Collections.singletonList(entry);
-    }
-
-    /**
-     * Uptime is received in seconds, need to normalize it and make it human readable, like
-     * 1 day(s) 5 hour(s) 12 minute(s) 55 minute(s)
-     * Incoming parameter is may have a decimal point, so in order to safely process this - it's rounded first.
-     * We don't need to add a segment of time if it's 0.
-     *
-     * @param uptimeSeconds value in seconds
-     * @return string value of format 'x day(s) x hour(s) x minute(s) x minute(s)'
-     */
-    private String normalizeUptime(long uptimeSeconds) {
-        StringBuilder normalizedUptime = new StringBuilder();
-
-        long seconds = uptimeSeconds % 60;
-        long minutes = uptimeSeconds % 3600 / 60;
-        long hours = uptimeSeconds % 86400 / 3600;
-        long days = uptimeSeconds / 86400;
-
-        if (days > 0) {
-            normalizedUptime.append(days).append(" day(s) ");
-        }
-        if (hours > 0) {
-            normalizedUptime.append(hours).append(" hour(s) ");
-        }
-        if (minutes > 0) {
-            normalizedUptime.append(minutes).append(" minute(s) ");
-        }
-        if (seconds > 0) {
-            normalizedUptime.append(seconds).append(" second(s)");
-        }
-        return normalizedUptime.toString().trim();
-    }
-}
+/*
+ * Copyright (c) 2022-2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.dto.snmp.SnmpEntry;
+import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.dal.BaseDevice;
+import com.avispl.symphony.dal.util.StringUtils;
+import org.snmp4j.*;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.security.*;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import com.avispl.symphony.dal.device.snmp.engine.DispatcherPool;
+import com.avispl.symphony.dal.device.snmp.engine.NotificationReceiver;
+import com.avispl.symphony.dal.device.snmp.engine.SharedSnmpEngine;
+import com.avispl.symphony.dal.device.snmp.engine.SnmpEngineRegistry;
+import com.avispl.symphony.dal.device.snmp.polling.AsyncPoll;
+import com.avispl.symphony.dal.device.snmp.polling.BackgroundPoller;
+import com.avispl.symphony.dal.device.snmp.polling.CircuitBreaker;
+import com.avispl.symphony.dal.device.snmp.polling.CounterTracker;
+import com.avispl.symphony.dal.device.snmp.polling.OidQuarantine;
+import com.avispl.symphony.dal.device.snmp.polling.PollContext;
+import com.avispl.symphony.dal.device.snmp.polling.PollRequest;
+import com.avispl.symphony.dal.device.snmp.polling.PollResult;
+import com.avispl.symphony.dal.device.snmp.polling.PollingMetrics;
+import com.avispl.symphony.dal.device.snmp.polling.PollingPlan;
+import com.avispl.symphony.dal.device.snmp.polling.PropertyEntry;
+import com.avispl.symphony.dal.device.snmp.polling.PropertyValueCache;
+import com.avispl.symphony.dal.device.snmp.polling.RttEstimator;
+import com.avispl.symphony.dal.device.snmp.polling.StatisticsSnapshot;
+import com.avispl.symphony.dal.device.snmp.polling.WarmStartStore;
+import com.avispl.symphony.dal.device.snmp.v3.LocalSecurityLevel;
+import com.avispl.symphony.dal.device.snmp.v3.LocalizedKeyCache;
+import com.avispl.symphony.dal.device.snmp.v3.SnmpV3Credentials;
+import com.avispl.symphony.dal.device.snmp.v3.SnmpV3Session;
+
+import javax.security.auth.login.FailedLoginException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Generic SNMP Device Adapter
+ * <p>
+ * Main features:
+ * - Provide SNMP device info as ExtendedProperties, based on {@link #snmpProperties}
+ * - Provide Adapter Metadata based on Build information and runtime stats
+ *
+ * @author Maksym.Rossiytsev / Symphony Dev Team<br>
+ * Created on May 24, 2022
+ */
+public class SNMPCommunicator extends BaseDevice implements Monitorable {
+    private String snmpProperties;
+    /**
+     * Polling plan compiled from {@link #snmpProperties}, swapped atomically when the configuration changes
+     * */
+    private volatile PollingPlan pollingPlan = PollingPlan.EMPTY;
+    /**
+     * Cached values of the {@link #pollingPlan} entries with a refresh interval, recreated when the plan changes
+     * */
+    private volatile PropertyValueCache valueCache = new PropertyValueCache(PollingPlan.EMPTY);
+    /**
+     * Result slots of the {@link #pollingPlan}, reused by the subsequent polls and recreated when the plan changes
+     * */
+    private volatile PollResult pollResult = new PollResult(PollingPlan.EMPTY);
+    /**
+     * Adapter metadata, collected from the version.properties
+     */
+    private Properties adapterProperties;
+    /**
+     * Device adapter instantiation timestamp.
+     */
+    private long adapterInitializationTimestamp;
+    /**
+     * Snmpv3 auth password
+     * */
+    private String authPassword;
+    /**
+     * Snmpv3 private password
+     * */
+    private String privatePassword;
+    /**
+     * {@link SecurityLevel#AUTH_PRIV}, {@link SecurityLevel#AUTH_NOPRIV} or {@link SecurityLevel#NOAUTH_NOPRIV} security level
+     * for SNMPv3
+     * */
+    private String securityLevel;
+    /**
+     * Authentication protocol for SNMPv3
+     * */
+    private String authenticationProtocol = "AuthSHA";
+    /**
+     * Privacy protocol for SNMPv3
+     * */
+    private String privacyProtocol = "PrivAES128";
+    /**
+     * SNMP Version, 2c by default
+     * */
+    private String version = "2";
+    /**
+     *
+     * */
+    private String login;
+    /**
+     *
+     * */
+    private String password;
+    /**
+     * Maximum number of variable bindings packed into a single GET request
+     * */
+    private int maxVarbindsPerRequest = 20;
+    /**
+     * Maximum encoded size of a single GET request in bytes, 0 to only split requests by {@link #maxVarbindsPerRequest}
+     * */
+    private int maxRequestSize = 1400;
+    /**
+     * Variable bindings limit learned from tooBig device responses, 0 if the device has never responded with tooBig
+     * */
+    private volatile int learnedVarbindsLimit;
+    /**
+     * Maximum number of GET requests in flight to the device at the same time
+     * */
+    private int maxRequestsInFlight = 4;
+    /**
+     * Max repetitions of the GETBULK requests, used to walk subtrees configured as OID.*:PropertyName
+     * */
+    private int maxRepetitions = 25;
+    /**
+     * Whether request timeouts and retries are derived from the measured device round trip time, see {@link RttEstimator}
+     * */
+    private boolean adaptiveTimeout = true;
+    /**
+     * Min adaptive request timeout, in milliseconds
+     * */
+    private long minRequestTimeout = 200;
+    /**
+     * Max adaptive request timeout, in milliseconds
+     * */
+    private long maxRequestTimeout = 10000;
+    /**
+     * Round trip time estimator of the device
+     * */
+    private final RttEstimator rttEstimator = new RttEstimator();
+    /**
+     * Current number of requests allowed in flight, halved after polls with timeouts and increased by one
+     * after polls without them, up to {@link #maxRequestsInFlight}. 0 until the first adaptive poll
+     * */
+    private volatile int requestWindow;
+    /**
+     * Number of consecutive polls without a single response from the device to open the {@link #circuitBreaker},
+     * 0 to disable the circuit breaker
+     * */
+    private int circuitBreakerThreshold = 3;
+    /**
+     * Time until the first probe after the {@link #circuitBreaker} opens, in milliseconds,
+     * doubled after each failed probe
+     * */
+    private long circuitBreakerBackoff = 10000;
+    /**
+     * Max time between {@link #circuitBreaker} probes, in milliseconds
+     * */
+    private long circuitBreakerMaxBackoff = 300000;
+    /**
+     * OID requested by the {@link #circuitBreaker} probes, sysUpTime by default
+     * */
+    private String probeOid = ".1.3.6.1.2.1.1.3.0";
+    /**
+     * Circuit breaker of the device, skips polls while the device is unreachable
+     * */
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+    /**
+     * Values of the last poll with responses from the device, reported while the {@link #circuitBreaker} is open
+     * */
+    private volatile Map<String, String> lastKnownValues = Collections.emptyMap();
+    /**
+     * Total time budget of a single poll, in milliseconds, including SNMPv3 engine ID rediscovery.
+     * Properties not retrieved within the budget are carried forward from the previous poll. 0 for no budget,
+     * polls are then only limited by the request timeouts
+     * */
+    private long pollTimeout;
+    /**
+     * Number of OIDs which requests have missed the poll deadline during the last poll, each walk is counted as a single OID
+     * */
+    private volatile int missedOids;
+    /**
+     * Number of properties reported with values of the previous polls during the last poll
+     * */
+    private volatile int staleProperties;
+    /**
+     * Number of consecutive polls the device responds with noSuchObject, noSuchInstance, endOfMibView or noSuchName
+     * for an OID to quarantine it, 0 to disable the quarantine. See {@link OidQuarantine}
+     * */
+    private int oidQuarantineThreshold = 3;
+    /**
+     * Time until the first re-check of a quarantined OID, in milliseconds, doubled after each failed re-check
+     * */
+    private long oidQuarantineBackoff = 300000;
+    /**
+     * Max time between re-checks of a quarantined OID, in milliseconds
+     * */
+    private long oidQuarantineMaxBackoff = 3600000;
+    /**
+     * Quarantine of the {@link #pollingPlan} entries, recreated when the plan changes
+     * */
+    private volatile OidQuarantine oidQuarantine = new OidQuarantine(PollingPlan.EMPTY);
+    /**
+     * Number of OIDs quarantined after the last poll
+     * */
+    private volatile int quarantinedOids;
+    /**
+     * Whether to emit only the properties changed since the previous poll, along with a full snapshot
+     * every {@link #fullRefreshInterval}
+     * */
+    private boolean emitChangesOnly;
+    /**
+     * Max time between full snapshots while {@link #emitChangesOnly} is enabled, in milliseconds
+     * */
+    private long fullRefreshInterval = 300000;
+    /**
+     * Statistics of the previous poll, see {@link #emitChangesOnly}
+     * */
+    private final StatisticsSnapshot statisticsSnapshot = new StatisticsSnapshot();
+    /**
+     * Whether to interpret values by their SNMP types: TimeTicks are reported as normalized durations, and
+     * Counter32/Counter64 properties are reported along with their deltas and per-second rates since the previous poll
+     * */
+    private boolean typedValues = true;
+    /**
+     * Counter samples of the previous poll, see {@link #typedValues}
+     * */
+    private final CounterTracker counterTracker = new CounterTracker();
+    /**
+     * UDP port to receive TRAPs and INFORMs of the device on, 0 to only poll the device. Notification varbinds are
+     * mapped onto the {@link #pollingPlan} entries and update the cached values, see {@link NotificationReceiver}
+     * */
+    private int trapPort;
+    /**
+     * Path to the local file to persist the device state to between adapter restarts, empty to start cold:
+     * SNMPv3 engine ID and time, learned varbinds limit, round trip time estimates and last known values,
+     * see {@link WarmStartStore}
+     * */
+    private String warmStartFile;
+    /**
+     * Store of the {@link #warmStartFile}, null until the state is restored
+     * */
+    private WarmStartStore warmStartStore;
+    /**
+     * Whether the device state has been restored from the {@link #warmStartFile} since init
+     * */
+    private boolean warmStartRestored;
+    /**
+     * Restored record with the SNMPv3 engine ID, applied once the SNMPv3 session is created
+     * */
+    private WarmStartStore.Record warmStartRecord;
+    /**
+     * Time between background polls of the device, in milliseconds, 0 to poll the device on the
+     * {@link #getMultipleStatistics()} caller thread. See {@link BackgroundPoller}
+     * */
+    private long backgroundPollInterval;
+    /**
+     * Background poller of the device, created on the first {@link #getMultipleStatistics()} call
+     * once {@link #backgroundPollInterval} is set, null otherwise
+     * */
+    private BackgroundPoller backgroundPoller;
+    /**
+     * Guards {@link #backgroundPoller}
+     * */
+    private final Object backgroundPollerLock = new Object();
+    /**
+     * SNMP transport metrics of the device, reported under PollingMetrics# group
+     * */
+    private final PollingMetrics pollingMetrics = new PollingMetrics();
+    /**
+     * Device specific part of the asynchronous polls
+     * */
+    private final PollContext pollContext = new CommunicatorPollContext();
+    /**
+     * JVM-wide SNMP engine, shared with other adapter instances, see {@link SnmpEngineRegistry}
+     * */
+    SharedSnmpEngine snmpEngine;
+    /**
+     * Instance of SNMP client of the {@link #snmpEngine}, used for both SNMPv2c and SNMPv3 requests
+     * */
+    Snmp snmp;
+    /**
+     * Target storage for SNMP configuration - {@link UserTarget} for SNMPv3 and {@link CommunityTarget} otherwise
+     * */
+    Target<UdpAddress> snmpTarget;
+    /**
+     * Long-lived SNMPv3 session, keeps the discovered authoritative engine ID between polls
+     * */
+    SnmpV3Session snmpV3Session;
+    /**
+     * JVM-wide receiver of the {@link #trapPort}, shared with other adapter instances, see {@link SnmpEngineRegistry}
+     * */
+    NotificationReceiver notificationReceiver;
+    /**
+     * Address of the device, the {@link #notificationListener} is subscribed to
+     * */
+    private InetAddress notificationSender;
+    /**
+     * SNMPv3 credentials registered with the {@link #notificationReceiver} engine
+     * */
+    private SnmpV3Credentials notificationCredentials;
+    /**
+     * Engine IDs the {@link #notificationCredentials} user is registered for: the device engine ID, for TRAPs,
+     * and the receiver engine ID, for INFORMs
+     * */
+    private List<OctetString> notificationEngineIds = Collections.emptyList();
+    /**
+     * Listener of the device notifications
+     * */
+    private final CommandResponder notificationListener = new CommunicatorNotificationListener();
+
+    /**
+     * Retrieves {@link #login}
+     *
+     * @return value of {@link #login}
+     */
+    public String getLogin() {
+        return login;
+    }
+
+    /**
+     * Sets {@link #login} value
+     *
+     * @param login new value of {@link #login}
+     */
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    /**
+     * Retrieves {@link #password}
+     *
+     * @return value of {@link #password}
+     */
+    public String getPassword() {
+        return String.format("%s|%s", authPassword, privatePassword);
+    }
+
+    /**
+     * Sets {@link #password} value
+     *
+     * @param password new value of {@link #password}
+     */
+    public void setPassword(String password) {
+        if (password == null) {
+            return;
+        }
+        String[] passwords = password.split("\\|");
+        this.authPassword = passwords[0];
+        if (passwords.length == 2) {
+            this.privatePassword = passwords[1];
+        } else if (passwords.length > 2) {
+            throw new IllegalArgumentException("Password value is corrupted. Please make sure to only include SNMPv3 auth and private password, separated by a | character.");
+        }
+    }
+
+    /**
+     * Retrieves {@link #authenticationProtocol}
+     *
+     * @return value of {@link #authenticationProtocol}
+     */
+    public String getAuthenticationProtocol() {
+        return authenticationProtocol;
+    }
+
+    /**
+     * Sets {@link #authenticationProtocol} value
+     *
+     * @param authenticationProtocol new value of {@link #authenticationProtocol}
+     */
+    public void setAuthenticationProtocol(String authenticationProtocol) {
+        this.authenticationProtocol = authenticationProtocol;
+    }
+
+    /**
+     * Retrieves {@link #privacyProtocol}
+     *
+     * @return value of {@link #privacyProtocol}
+     */
+    public String getPrivacyProtocol() {
+        return privacyProtocol;
+    }
+
+    /**
+     * Sets {@link #privacyProtocol} value
+     *
+     * @param privacyProtocol new value of {@link #privacyProtocol}
+     */
+    public void setPrivacyProtocol(String privacyProtocol) {
+        this.privacyProtocol = privacyProtocol;
+    }
+
+    /**
+     * Retrieves {@link #securityLevel}
+     *
+     * @return value of {@link #securityLevel}
+     */
+    public String getSecurityLevel() {
+        return securityLevel;
+    }
+
+    /**
+     * Sets {@link #securityLevel} value
+     *
+     * @param securityLevel new value of {@link #securityLevel}
+     */
+    public void setSecurityLevel(String securityLevel) {
+        this.securityLevel = securityLevel;
+    }
+
+    /**
+     * Retrieves {@link #version}
+     *
+     * @return value of {@link #version}
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets {@link #version} value
+     *
+     * @param version new value of {@link #version}
+     */
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    /**
+     * Retrieves {@link #snmpProperties}
+     *
+     * @return value of {@link #snmpProperties}
+     */
+    public String getSnmpProperties() {
+        return snmpProperties;
+    }
+
+    /**
+     * Sets {@link #snmpProperties} value
+     *
+     * @param snmpProperties new value of {@link #snmpProperties}
+     */
+    public void setSnmpProperties(String snmpProperties) {
+        this.snmpProperties = snmpProperties;
+        if (!pollingPlan.isCompiledFrom(snmpProperties)) {
+            pollingPlan = PollingPlan.compile(snmpProperties);
+            counterTracker.reset();
+        }
+    }
+
+    /**
+     * Retrieves {@link #maxVarbindsPerRequest}
+     *
+     * @return value of {@link #maxVarbindsPerRequest}
+     */
+    public int getMaxVarbindsPerRequest() {
+        return maxVarbindsPerRequest;
+    }
+
+    /**
+     * Sets {@link #maxVarbindsPerRequest} value
+     *
+     * @param maxVarbindsPerRequest new value of {@link #maxVarbindsPerRequest}
+     */
+    public void setMaxVarbindsPerRequest(int maxVarbindsPerRequest) {
+        this.maxVarbindsPerRequest = maxVarbindsPerRequest;
+        this.learnedVarbindsLimit = 0;
+    }
+
+    /**
+     * Retrieves {@link #maxRequestSize}
+     *
+     * @return value of {@link #maxRequestSize}
+     */
+    public int getMaxRequestSize() {
+        return maxRequestSize;
+    }
+
+    /**
+     * Sets {@link #maxRequestSize} value
+     *
+     * @param maxRequestSize new value of {@link #maxRequestSize}
+     */
+    public void setMaxRequestSize(int maxRequestSize) {
+        this.maxRequestSize = maxRequestSize;
+    }
+
+    /**
+     * Retrieves {@link #maxRequestsInFlight}
+     *
+     * @return value of {@link #maxRequestsInFlight}
+     */
+    public int getMaxRequestsInFlight() {
+        return maxRequestsInFlight;
+    }
+
+    /**
+     * Sets {@link #maxRequestsInFlight} value
+     *
+     * @param maxRequestsInFlight new value of {@link #maxRequestsInFlight}
+     */
+    public void setMaxRequestsInFlight(int maxRequestsInFlight) {
+        this.maxRequestsInFlight = maxRequestsInFlight;
+    }
+
+    /**
+     * Retrieves {@link #maxRepetitions}
+     *
+     * @return value of {@link #maxRepetitions}
+     */
+    public int getMaxRepetitions() {
+        return maxRepetitions;
+    }
+
+    /**
+     * Sets {@link #maxRepetitions} value
+     *
+     * @param maxRepetitions new value of {@link #maxRepetitions}
+     */
+    public void setMaxRepetitions(int maxRepetitions) {
+        this.maxRepetitions = maxRepetitions;
+    }
+
+    /**
+     * Retrieves {@link #adaptiveTimeout}
+     *
+     * @return value of {@link #adaptiveTimeout}
+     */
+    public boolean isAdaptiveTimeout() {
+        return adaptiveTimeout;
+    }
+
+    /**
+     * Sets {@link #adaptiveTimeout} value
+     *
+     * @param adaptiveTimeout new value of {@link #adaptiveTimeout}
+     */
+    public void setAdaptiveTimeout(boolean adaptiveTimeout) {
+        this.adaptiveTimeout = adaptiveTimeout;
+    }
+
+    /**
+     * Retrieves {@link #minRequestTimeout}
+     *
+     * @return value of {@link #minRequestTimeout}
+     */
+    public long getMinRequestTimeout() {
+        return minRequestTimeout;
+    }
+
+    /**
+     * Sets {@link #minRequestTimeout} value
+     *
+     * @param minRequestTimeout new value of {@link #minRequestTimeout}
+     */
+    public void setMinRequestTimeout(long minRequestTimeout) {
+        this.minRequestTimeout = minRequestTimeout;
+    }
+
+    /**
+     * Retrieves {@link #maxRequestTimeout}
+     *
+     * @return value of {@link #maxRequestTimeout}
+     */
+    public long getMaxRequestTimeout() {
+        return maxRequestTimeout;
+    }
+
+    /**
+     * Sets {@link #maxRequestTimeout} value
+     *
+     * @param maxRequestTimeout new value of {@link #maxRequestTimeout}
+     */
+    public void setMaxRequestTimeout(long maxRequestTimeout) {
+        this.maxRequestTimeout = maxRequestTimeout;
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerThreshold}
+     *
+     * @return value of {@link #circuitBreakerThreshold}
+     */
+    public int getCircuitBreakerThreshold() {
+        return circuitBreakerThreshold;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerThreshold} value
+     *
+     * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+     */
+    public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+        this.circuitBreakerThreshold = circuitBreakerThreshold;
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerBackoff}
+     *
+     * @return value of {@link #circuitBreakerBackoff}
+     */
+    public long getCircuitBreakerBackoff() {
+        return circuitBreakerBackoff;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerBackoff} value
+     *
+     * @param circuitBreakerBackoff new value of {@link #circuitBreakerBackoff}
+     */
+    public void setCircuitBreakerBackoff(long circuitBreakerBackoff) {
+        this.circuitBreakerBackoff = circuitBreakerBackoff;
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerMaxBackoff}
+     *
+     * @return value of {@link #circuitBreakerMaxBackoff}
+     */
+    public long getCircuitBreakerMaxBackoff() {
+        return circuitBreakerMaxBackoff;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerMaxBackoff} value
+     *
+     * @param circuitBreakerMaxBackoff new value of {@link #circuitBreakerMaxBackoff}
+     */
+    public void setCircuitBreakerMaxBackoff(long circuitBreakerMaxBackoff) {
+        this.circuitBreakerMaxBackoff = circuitBreakerMaxBackoff;
+    }
+
+    /**
+     * Retrieves {@link #probeOid}
+     *
+     * @return value of {@link #probeOid}
+     */
+    public String getProbeOid() {
+        return probeOid;
+    }
+
+    /**
+     * Sets {@link #probeOid} value
+     *
+     * @param probeOid new value of {@link #probeOid}
+     */
+    public void setProbeOid(String probeOid) {
+        this.probeOid = probeOid;
+    }
+
+    /**
+     * Retrieves {@link #pollTimeout}
+     *
+     * @return value of {@link #pollTimeout}
+     */
+    public long getPollTimeout() {
+        return pollTimeout;
+    }
+
+    /**
+     * Sets {@link #pollTimeout} value
+     *
+     * @param pollTimeout new value of {@link #pollTimeout}
+     */
+    public void setPollTimeout(long pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    /**
+     * Retrieves {@link #oidQuarantineThreshold}
+     *
+     * @return value of {@link #oidQuarantineThreshold}
+     */
+    public int getOidQuarantineThreshold() {
+        return oidQuarantineThreshold;
+    }
+
+    /**
+     * Sets {@link #oidQuarantineThreshold} value
+     *
+     * @param oidQuarantineThreshold new value of {@link #oidQuarantineThreshold}
+     */
+    public void setOidQuarantineThreshold(int oidQuarantineThreshold) {
+        this.oidQuarantineThreshold = oidQuarantineThreshold;
+    }
+
+    /**
+     * Retrieves {@link #oidQuarantineBackoff}
+     *
+     * @return value of {@link #oidQuarantineBackoff}
+     */
+    public long getOidQuarantineBackoff() {
+        return oidQuarantineBackoff;
+    }
+
+    /**
+     * Sets {@link #oidQuarantineBackoff} value
+     *
+     * @param oidQuarantineBackoff new value of {@link #oidQuarantineBackoff}
+     */
+    public void setOidQuarantineBackoff(long oidQuarantineBackoff) {
+        this.oidQuarantineBackoff = oidQuarantineBackoff;
+    }
+
+    /**
+     * Retrieves {@link #oidQuarantineMaxBackoff}
+     *
+     * @return value of {@link #oidQuarantineMaxBackoff}
+     */
+    public long getOidQuarantineMaxBackoff() {
+        return oidQuarantineMaxBackoff;
+    }
+
+    /**
+     * Sets {@link #oidQuarantineMaxBackoff} value
+     *
+     * @param oidQuarantineMaxBackoff new value of {@link #oidQuarantineMaxBackoff}
+     */
+    public void setOidQuarantineMaxBackoff(long oidQuarantineMaxBackoff) {
+        this.oidQuarantineMaxBackoff = oidQuarantineMaxBackoff;
+    }
+
+    /**
+     * Retrieves {@link #emitChangesOnly}
+     *
+     * @return value of {@link #emitChangesOnly}
+     */
+    public boolean isEmitChangesOnly() {
+        return emitChangesOnly;
+    }
+
+    /**
+     * Sets {@link #emitChangesOnly} value
+     *
+     * @param emitChangesOnly new value of {@link #emitChangesOnly}
+     */
+    public void setEmitChangesOnly(boolean emitChangesOnly) {
+        this.emitChangesOnly = emitChangesOnly;
+    }
+
+    /**
+     * Retrieves {@link #fullRefreshInterval}
+     *
+     * @return value of {@link #fullRefreshInterval}
+     */
+    public long getFullRefreshInterval() {
+        return fullRefreshInterval;
+    }
+
+    /**
+     * Sets {@link #fullRefreshInterval} value
+     *
+     * @param fullRefreshInterval new value of {@link #fullRefreshInterval}
+     */
+    public void setFullRefreshInterval(long fullRefreshInterval) {
+        this.fullRefreshInterval = fullRefreshInterval;
+    }
+
+    /**
+     * Retrieves {@link #typedValues}
+     *
+     * @return value of {@link #typedValues}
+     */
+    public boolean isTypedValues() {
+        return typedValues;
+    }
+
+    /**
+     * Sets {@link #typedValues} value
+     *
+     * @param typedValues new value of {@link #typedValues}
+     */
+    public void setTypedValues(boolean typedValues) {
+        this.typedValues = typedValues;
+    }
+
+    /**
+     * Retrieves {@link #trapPort}
+     *
+     * @return value of {@link #trapPort}
+     */
+    public int getTrapPort() {
+        return trapPort;
+    }
+
+    /**
+     * Sets {@link #trapPort} value
+     *
+     * @param trapPort new value of {@link #trapPort}
+     */
+    public void setTrapPort(int trapPort) {
+        this.trapPort = trapPort;
+    }
+
+    /**
+     * Retrieves {@link #warmStartFile}
+     *
+     * @return value of {@link #warmStartFile}
+     */
+    public String getWarmStartFile() {
+        return warmStartFile;
+    }
+
+    /**
+     * Sets {@link #warmStartFile} value
+     *
+     * @param warmStartFile new value of {@link #warmStartFile}
+     */
+    public void setWarmStartFile(String warmStartFile) {
+        this.warmStartFile = warmStartFile;
+    }
+
+    /**
+     * Retrieves {@link #backgroundPollInterval}
+     *
+     * @return value of {@link #backgroundPollInterval}
+     */
+    public long getBackgroundPollInterval() {
+        return backgroundPollInterval;
+    }
+
+    /**
+     * Sets {@link #backgroundPollInterval} value
+     *
+     * @param backgroundPollInterval new value of {@link #backgroundPollInterval}
+     */
+    public void setBackgroundPollInterval(long backgroundPollInterval) {
+        this.backgroundPollInterval = backgroundPollInterval;
+    }
+
+    @Override
+    protected void internalInit() throws Exception {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Internal init is called.");
+        }
+        adapterInitializationTimestamp = System.currentTimeMillis();
+        try {
+            loadAdapterMetaData();
+        } catch (IOException exc) {
+            // Catching an error there because adapter should remain functional regardless of this issue.
+            logger.error("Unable to load adapter metadata during internalInit stage.", exc);
+        }
+        // BaseDevice opens an SNMP client with a socket and a listener thread of its own whenever the community is set,
+        // so it is initialized without one: requests of the adapter go through the shared engine instead
+        String snmpCommunity = getSnmpCommunity();
+        setSnmpCommunity(null);
+        try {
+            super.internalInit();
+        } finally {
+            setSnmpCommunity(snmpCommunity);
+        }
+    }
+
+    @Override
+    protected void internalDestroy() {
+        try {
+            stopBackgroundPoller();
+            snmpTarget = null;
+            if (snmpV3Session != null) {
+                snmpV3Session.close();
+                snmpV3Session = null;
+            }
+            learnedVarbindsLimit = 0;
+            rttEstimator.reset();
+            requestWindow = 0;
+            circuitBreaker.reset();
+            pollingMetrics.reset();
+            lastKnownValues = Collections.emptyMap();
+            statisticsSnapshot.reset();
+            counterTracker.reset();
+            valueCache = new PropertyValueCache(PollingPlan.EMPTY);
+            pollResult = new PollResult(PollingPlan.EMPTY);
+            oidQuarantine = new OidQuarantine(PollingPlan.EMPTY);
+            quarantinedOids = 0;
+            releaseNotificationReceiver();
+            WarmStartStore store = warmStartStore;
+            if (store != null) {
+                store.flush(System.currentTimeMillis());
+            }
+            warmStartStore = null;
+            warmStartRecord = null;
+            warmStartRestored = false;
+            snmp = null;
+            SnmpEngineRegistry.release(snmpEngine);
+            snmpEngine = null;
+        } finally {
+            super.internalDestroy();
+        }
+    }
+
+    /**
+     * Query SNMPv2c or SNMPv3 OIDs through the shared engine, since {@link BaseDevice} has no SNMP client of its own
+     *
+     * @param oids to query
+     * @return retrieved entries, in the response order
+     * @throws Exception if the request fails or times out
+     * */
+    @Override
+    public Collection<SnmpEntry> querySnmp(Collection<String> oids) throws Exception {
+        if (!isInitialized()) {
+            throw new IllegalStateException("Cannot use device class without calling init() first");
+        }
+        if (oids == null || oids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (version.equals("3")) {
+            initSNMPv3();
+        } else {
+            initSNMPv2c();
+        }
+        applyRequestTimers();
+        PDU pdu = pollContext.createPDU();
+        pdu.setType(PDU.GET);
+        for (String oid : oids) {
+            pdu.add(new VariableBinding(new OID(oid)));
+        }
+        ResponseEvent<UdpAddress> event = snmp.send(pdu, snmpTarget);
+        if (event.getError() != null) {
+            throw event.getError();
+        }
+        PDU response = event.getResponse();
+        if (response == null) {
+            throw new IOException("SNMP request to device " + getHost() + " has timed out.");
+        }
+        if (response.getErrorStatus() != PDU.noError) {
+            throw new IOException("SNMP request to device " + getHost() + " has failed: " + response.getErrorStatusText());
+        }
+        List<SnmpEntry> entries = new ArrayList<>(response.size());
+        for (VariableBinding variableBinding : response.getVariableBindings()) {
+            entries.add(new SnmpEntry(variableBinding.getOid().toDottedString(), formatVariable(variableBinding.getVariable())));
+        }
+        return entries;
+    }
+
+    @Override
+    public List<Statistics> getMultipleStatistics() throws Exception {
+        ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+
+        Map<String, String> statistics;
+        if (backgroundPollInterval > 0) {
+            statistics = retrieveBackgroundStatistics();
+        } else {
+            // background polling may have been disabled at runtime, its poll must not run along with this one
+            stopBackgroundPoller();
+            statistics = pollStatistics();
+        }
+        statistics.put("AdapterMetadata#AdapterVersion", adapterProperties.getProperty("adapter.version"));
+        statistics.put("AdapterMetadata#AdapterBuildDate", adapterProperties.getProperty("adapter.build.date"));
+        statistics.put("AdapterMetadata#AdapterUptime", normalizeUptime((System.currentTimeMillis() - adapterInitializationTimestamp) / 1000));
+        statistics.put("AdapterMetadata#SNMPVersion", String.valueOf(version));
+        boolean snmpv3 = Objects.equals(version, "3");
+        if (snmpv3 && StringUtils.isNotNullOrEmpty(authenticationProtocol)) {
+            statistics.put("AdapterMetadata#AuthenticationProtocol", authenticationProtocol);
+        }
+        if (snmpv3 && StringUtils.isNotNullOrEmpty(securityLevel)) {
+            statistics.put("AdapterMetadata#SecurityLevel", securityLevel);
+        }
+        if (snmpv3 && StringUtils.isNotNullOrEmpty(privacyProtocol)) {
+            statistics.put("AdapterMetadata#PrivacyProtocol", privacyProtocol);
+        }
+        if (emitChangesOnly) {
+            statistics = statisticsSnapshot.changes(statistics, System.currentTimeMillis(), fullRefreshInterval);
+            statistics.put("AdapterMetadata#FullSnapshot", String.valueOf(statisticsSnapshot.isFull()));
+            statistics.put("AdapterMetadata#ChangedProperties", String.valueOf(statisticsSnapshot.getChangedProperties()));
+        }
+
+        extendedStatistics.setStatistics(statistics);
+        return Collections.singletonList(extendedStatistics);
+    }
+
+    /**
+     * Poll the device and retrieve its properties, along with the poll metadata and {@link #pollingMetrics}
+     *
+     * @return statistics of the poll
+     * @throws Exception if a critical error occurs while retrieving SNMP properties
+     * */
+    private Map<String, String> pollStatistics() throws Exception {
+        Map<String, String> statistics = fetchSNMPProperties();
+        CircuitBreaker.State breakerState = circuitBreaker.getState();
+        statistics.put("AdapterMetadata#CircuitBreakerState", breakerState.name());
+        statistics.put("AdapterMetadata#StaleData", String.valueOf(breakerState == CircuitBreaker.State.OPEN || staleProperties > 0));
+        statistics.put("AdapterMetadata#StaleProperties", String.valueOf(staleProperties));
+        statistics.put("AdapterMetadata#MissedOIDs", String.valueOf(missedOids));
+        statistics.put("AdapterMetadata#QuarantinedOIDs", String.valueOf(quarantinedOids));
+        putPollingMetrics(statistics);
+        return statistics;
+    }
+
+    /**
+     * Retrieve statistics of the last background poll, see {@link #backgroundPollInterval}. The first call polls
+     * the device on the caller thread and starts the {@link #backgroundPoller}, subsequent calls only copy the snapshot.
+     * Values restored from the {@link #warmStartFile} are reported as stale right away instead, while the first
+     * background poll is in progress. If the last background poll has failed, statistics of the last successful one
+     * are reported as stale, the failure is only rethrown if no poll has succeeded yet
+     *
+     * @return copy of the snapshot statistics with the data age, the last refresh duration and outcome
+     * @throws Exception failure of the background poll, if no poll has succeeded yet
+     * */
+    private Map<String, String> retrieveBackgroundStatistics() throws Exception {
+        BackgroundPoller poller;
+        synchronized (backgroundPollerLock) {
+            if (backgroundPoller == null) {
+                backgroundPoller = new BackgroundPoller(getHost(), this::pollStatistics);
+                WarmStartStore.Record record = warmStartRestored || pollingPlan.isEmpty() ? null : restoreWarmStart();
+                if (record != null) {
+                    backgroundPoller.restoreSnapshot(record.getValues(), record.getSavedAt());
+                    backgroundPoller.start(backgroundPollInterval);
+                }
+            }
+            poller = backgroundPoller;
+        }
+        BackgroundPoller.Snapshot snapshot = poller.getSnapshot();
+        if (snapshot == null) {
+            snapshot = poller.getOrRefreshSnapshot();
+            poller.start(backgroundPollInterval);
+        }
+        if (snapshot.getFailure() != null && !snapshot.isRetrieved()) {
+            throw snapshot.getFailure();
+        }
+        Map<String, String> statistics = new TreeMap<>(snapshot.getStatistics());
+        boolean refreshFailed = snapshot.getFailure() != null;
+        if (refreshFailed || snapshot.isRestored()) {
+            statistics.put("AdapterMetadata#StaleData", "true");
+        }
+        statistics.put("AdapterMetadata#LastRefreshFailed", String.valueOf(refreshFailed));
+        statistics.put("AdapterMetadata#DataAge(ms)", String.valueOf(snapshot.getAge(System.currentTimeMillis())));
+        statistics.put("AdapterMetadata#LastRefreshDuration(ms)", String.valueOf(snapshot.getRefreshDuration()));
+        return statistics;
+    }
+
+    /**
+     * Stop the {@link #backgroundPoller}, waiting for the background poll in progress
+     * */
+    private void stopBackgroundPoller() {
+        BackgroundPoller poller;
+        synchronized (backgroundPollerLock) {
+            poller = backgroundPoller;
+            backgroundPoller = null;
+        }
+        if (poller != null) {
+            poller.stop();
+        }
+    }
+
+    /**
+     * Put {@link #pollingMetrics} and the current request settings of the device into the statistics map
+     *
+     * @param statistics map to put metrics into
+     * */
+    private void putPollingMetrics(Map<String, String> statistics) {
+        pollingMetrics.putStatistics(statistics);
+        Target<UdpAddress> target = snmpTarget;
+        if (target != null) {
+            statistics.put("PollingMetrics#RequestTimeout(ms)", String.valueOf(target.getTimeout()));
+            statistics.put("PollingMetrics#RequestRetries", String.valueOf(target.getRetries()));
+        }
+        statistics.put("PollingMetrics#SmoothedRTT(ms)", PollingMetrics.formatDecimal(rttEstimator.getSmoothedRtt()));
+        statistics.put("PollingMetrics#RequestsInFlight", String.valueOf(currentRequestWindow()));
+        SnmpV3Session session = snmpV3Session;
+        if (session != null) {
+            statistics.put("PollingMetrics#EngineDiscoveries", String.valueOf(session.getDiscoveries()));
+            LocalizedKeyCache localizedKeyCache = LocalizedKeyCache.getInstance();
+            statistics.put("PollingMetrics#LocalizedKeyCacheHits", String.valueOf(localizedKeyCache.getHits()));
+            statistics.put("PollingMetrics#LocalizedKeyCacheMisses", String.valueOf(localizedKeyCache.getMisses()));
+        }
+        SharedSnmpEngine engine = snmpEngine;
+        if (engine != null) {
+            DispatcherPool dispatcherPool = engine.getDispatcherPool();
+            statistics.put("PollingMetrics#DispatcherThreads", String.valueOf(dispatcherPool.getThreads()));
+            statistics.put("PollingMetrics#DispatcherBusyThreads", String.valueOf(dispatcherPool.getBusyThreads()));
+            statistics.put("PollingMetrics#DispatcherQueueDepth", String.valueOf(dispatcherPool.getQueueDepth()));
+            statistics.put("PollingMetrics#DispatcherRejections", String.valueOf(dispatcherPool.getRejectedTasks()));
+        }
+    }
+
+    /**
+     * Load adapter metadata - adapter.version, adapter.build.date and adapter.uptime, based on
+     * the build data and {@link #adapterInitializationTimestamp}
+     *
+     * @throws IOException if unable to read "version.properties" file
+     */
+    private void loadAdapterMetaData() throws IOException {
+        adapterProperties = new Properties();
+        adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
+    }
+
+    /**
+     * Fetch SNMP properties based on the {@link #pollingPlan}, compiled from {@link #snmpProperties}
+     * in a format of OID:PropertyName separated with a pipe character, e.g
+     * .1.3.6.1.2.1.1.1.0:SystemDescription|.1.3.6.1.2.1.1.2.0:SystemID|.1.3.6.1.2.1.1.3.0:SystemUptime
+     * OIDs ending with .* are walked with GETBULK, retrieved values are named with the OID index suffix,
+     * e.g. .1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr provides Interfaces#ifDescr.1, Interfaces#ifDescr.2 etc.
+     * Entries with a refresh interval, e.g. .1.3.6.1.2.1.1.1.0:SystemDescription@3600s, are only requested once
+     * the interval expires, cached values are reported in between, see {@link PropertyValueCache}.
+     * All the due OIDs are packed into as few GET requests as possible, see {@link PollingPlan#requestLayout(int[], int, int)},
+     * requests are sent asynchronously, with up to {@link #maxRequestsInFlight} requests in flight, see {@link AsyncPoll}.
+     * While the device is unreachable, polls are skipped and last known values are reported, see {@link CircuitBreaker}.
+     * Polls are limited by {@link #pollTimeout}, properties not retrieved in time are carried forward from the previous poll
+     *
+     * @return {@link Map} with values retrieved by OIDs with property names retrieved from {@link #snmpProperties}
+     * @throws IOException if a critical error occurs while retrieving SNMP properties
+     * */
+    private Map<String, String> fetchSNMPProperties() throws Exception {
+        Map<String, String> result = new TreeMap<>();
+        PollingPlan plan = pollingPlan;
+        missedOids = 0;
+        staleProperties = 0;
+        if (plan.isEmpty()) {
+            return result;
+        }
+        PropertyValueCache cache = valueCache;
+        if (!cache.isBoundTo(plan)) {
+            cache = new PropertyValueCache(plan);
+            valueCache = cache;
+        }
+        if (!warmStartRestored) {
+            restoreWarmStart();
+        }
+        OidQuarantine quarantine = oidQuarantine;
+        boolean quarantineEnabled = oidQuarantineThreshold > 0;
+        // OIDs quarantined before the quarantine got disabled are polled again right away
+        if (!quarantine.isBoundTo(plan) || !quarantineEnabled && quarantinedOids > 0) {
+            quarantine = new OidQuarantine(plan);
+            oidQuarantine = quarantine;
+            quarantinedOids = 0;
+        }
+        long pollStart = System.currentTimeMillis();
+        int[] dueEntries = cache.dueEntries(pollStart);
+        int[] recheckEntries = new int[0];
+        if (quarantineEnabled) {
+            recheckEntries = quarantine.recheckEntries(dueEntries, pollStart);
+            dueEntries = quarantine.activeEntries(dueEntries);
+        }
+        List<PropertyEntry> dueWalkEntries = cache.dueWalkEntries(pollStart);
+        if (dueEntries.length == 0 && recheckEntries.length == 0 && dueWalkEntries.isEmpty()) {
+            cache.putValues(result);
+            quarantine.putValues(result);
+            return result;
+        }
+
+        boolean breakerEnabled = circuitBreakerThreshold > 0;
+        CircuitBreaker.State breakerState = breakerEnabled ? circuitBreaker.acquire(pollStart) : CircuitBreaker.State.CLOSED;
+        if (breakerState == CircuitBreaker.State.OPEN) {
+            return reportLastKnownValues();
+        }
+        if (breakerState == CircuitBreaker.State.HALF_OPEN) {
+            if (!probe()) {
+                recordFailedPoll();
+                return reportLastKnownValues();
+            }
+            if (logger.isInfoEnabled()) {
+                logger.info("Device " + getHost() + " responded to the probe, closing the circuit breaker.");
+            }
+            circuitBreaker.onSuccess();
+        }
+
+        boolean responded;
+        try {
+            long budgetDeadline = pollTimeout > 0 ? pollStart + pollTimeout : Long.MAX_VALUE;
+            long pollStartNanos = System.nanoTime();
+            responded = pollDevice(plan, cache, quarantine, dueEntries, recheckEntries, dueWalkEntries, pollStart, budgetDeadline, result);
+            pollingMetrics.onPoll(System.nanoTime() - pollStartNanos);
+        } catch (FailedLoginException e) {
+            throw e;
+        } catch (Exception e) {
+            if (breakerEnabled && recordFailedPoll()) {
+                logger.error("Unable to poll device " + getHost() + ", reporting last known values.", e);
+                return reportLastKnownValues();
+            }
+            throw e;
+        }
+        if (responded) {
+            circuitBreaker.onSuccess();
+            Map<String, String> knownValues = new HashMap<>(result);
+            lastKnownValues = knownValues;
+            saveWarmStart(knownValues);
+        } else if (breakerEnabled && recordFailedPoll()) {
+            return reportLastKnownValues();
+        }
+        return result;
+    }
+
+    /**
+     * Restore the device state from the {@link #warmStartFile}, once after init: last known values, reported while
+     * the device is unreachable and carried forward for the OIDs missing the poll deadline, learned varbinds limit
+     * and round trip time estimates. SNMPv3 engine ID and time are restored once the session is created, see {@link #initSNMPv3()}
+     *
+     * @return restored record, null if the device has none
+     * */
+    private WarmStartStore.Record restoreWarmStart() {
+        warmStartRestored = true;
+        if (StringUtils.isNullOrEmpty(warmStartFile)) {
+            return null;
+        }
+        WarmStartStore store = WarmStartStore.forFile(warmStartFile);
+        warmStartStore = store;
+        WarmStartStore.Record record = store.get(warmStartKey());
+        if (record == null) {
+            return null;
+        }
+        if (lastKnownValues.isEmpty()) {
+            lastKnownValues = new HashMap<>(record.getValues());
+        }
+        if (learnedVarbindsLimit == 0) {
+            learnedVarbindsLimit = record.getVarbindsLimit();
+        }
+        if (adaptiveTimeout) {
+            rttEstimator.restore(record.getSmoothedRtt(), record.getRttVariation());
+        }
+        warmStartRecord = record.getEngineId() == null ? null : record;
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("State of device %s is restored from warm start file, saved %d s ago.", getHost(),
+                    (System.currentTimeMillis() - record.getSavedAt()) / 1000));
+        }
+        return record;
+    }
+
+    /**
+     * Save the device state to the {@link #warmStartFile}, the file itself is rewritten at most once per
+     * {@link WarmStartStore#FLUSH_INTERVAL}
+     *
+     * @param knownValues values of the poll
+     * */
+    private void saveWarmStart(Map<String, String> knownValues) {
+        WarmStartStore store = warmStartStore;
+        if (store == null) {
+            return;
+        }
+        byte[] engineId = null;
+        int engineBoots = 0;
+        int engineTime = 0;
+        SnmpV3Session session = snmpV3Session;
+        if (version.equals("3") && session != null) {
+            UsmTimeEntry engineTimeEntry = session.getEngineTime();
+            if (engineTimeEntry != null) {
+                engineId = session.getEngineId();
+                engineBoots = engineTimeEntry.getEngineBoots();
+                engineTime = engineTimeEntry.getLatestReceivedTime();
+            }
+        }
+        long now = System.currentTimeMillis();
+        store.put(warmStartKey(), new WarmStartStore.Record(now, engineId, engineBoots, engineTime, learnedVarbindsLimit,
+                rttEstimator.getSmoothedRtt(), rttEstimator.getRttVariation(), knownValues));
+        store.flushIfDue(now);
+    }
+
+    /**
+     * Key of the device within the {@link #warmStartStore}. Adapters of the same device with another SNMP version,
+     * credentials or snmpProperties keep records of their own, the community is only kept as a digest
+     *
+     * @return host:port, SNMP version, SNMPv3 security name or community digest and snmpProperties digest of the device
+     * */
+    private String warmStartKey() {
+        boolean snmpv3 = version.equals("3");
+        return getHost() + ":" + getSnmpPort() + "/" + (snmpv3 ? version : getSnmpVersion()) + "/"
+                + (snmpv3 ? login : digest(getSnmpCommunity())) + "/" + digest(snmpProperties);
+    }
+
+    /**
+     * Digest of a warm start key part, so secrets and long values are not kept in the {@link #warmStartFile} as is
+     *
+     * @param value to digest, may be null
+     * @return first 8 bytes of the value SHA-256 digest, in hex
+     * */
+    private static String digest(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Report values of the last poll with responses from the device, all of them are counted as stale
+     *
+     * @return copy of the {@link #lastKnownValues}
+     * */
+    private Map<String, String> reportLastKnownValues() {
+        Map<String, String> result = new TreeMap<>(lastKnownValues);
+        staleProperties = result.size();
+        return result;
+    }
+
+    /**
+     * Poll the due entries of the plan
+     *
+     * @param plan to poll
+     * @param cache of the values with a refresh interval
+     * @param quarantine of the entries the device doesn't implement
+     * @param dueEntries indices of the scalar entries to request
+     * @param recheckEntries indices of the quarantined scalar entries to re-check with single-OID requests
+     * @param dueWalkEntries walk entries to request
+     * @param pollStart poll start time, in milliseconds
+     * @param budgetDeadline time the poll must be complete by, in milliseconds, see {@link #pollTimeout}
+     * @param result map to put retrieved and cached values into
+     * @return true if the device has responded to at least one request
+     * @throws Exception if a critical error occurs while retrieving SNMP properties
+     * */
+    private boolean pollDevice(PollingPlan plan, PropertyValueCache cache, OidQuarantine quarantine, int[] dueEntries, int[] recheckEntries,
+                               List<PropertyEntry> dueWalkEntries, long pollStart, long budgetDeadline, Map<String, String> result) throws Exception {
+        if (version.equals("3")) {
+            initSNMPv3();
+        } else {
+            initSNMPv2c();
+        }
+
+        int varbindsLimit = maxVarbindsPerRequest;
+        int learnedLimit = learnedVarbindsLimit;
+        if (learnedLimit > 0 && learnedLimit < varbindsLimit) {
+            varbindsLimit = learnedLimit;
+        }
+        int[][] requestLayout = plan.requestLayout(dueEntries, varbindsLimit, maxRequestSize);
+        int[][] recheckLayout = plan.requestLayout(recheckEntries, 1, 0);
+        PollResult pollResult = this.pollResult;
+        if (pollResult.isBoundTo(plan)) {
+            pollResult.reset();
+        } else {
+            pollResult = new PollResult(plan);
+            this.pollResult = pollResult;
+        }
+        applyRequestTimers();
+        int window = currentRequestWindow();
+
+        AsyncPoll poll = new AsyncPoll(snmp, snmpTarget, plan, pollContext, window, pollResult);
+        for (int[] requestEntries : requestLayout) {
+            poll.submit(requestEntries);
+        }
+        for (int[] requestEntries : recheckLayout) {
+            poll.submit(requestEntries);
+        }
+        List<PropertyEntry> walkEntries = plan.uniqueWalkEntries(dueWalkEntries);
+        for (PropertyEntry walkEntry : walkEntries) {
+            poll.submitWalk(walkEntry);
+        }
+        poll.await(limitToBudget(calculatePollDeadline(requestLayout.length + recheckLayout.length + walkEntries.size(), window), budgetDeadline));
+        int timeouts = poll.getTimeouts();
+        int responses = poll.getResponses();
+
+        SnmpV3Session session = snmpV3Session;
+        List<PollRequest> rediscoveryRequests = poll.drainRediscoveryRequests();
+        if (session != null && !rediscoveryRequests.isEmpty()) {
+            if (logger.isInfoEnabled()) {
+                logger.info("SNMPv3 engine ID or time window is no longer valid, rediscovering.");
+            }
+            session.invalidate();
+            snmpTarget = session.getTarget();
+            applyRequestTimers();
+            AsyncPoll retryPoll = new AsyncPoll(snmp, snmpTarget, plan, pollContext, window, pollResult);
+            for (PollRequest request : rediscoveryRequests) {
+                retryPoll.submit(request);
+            }
+            retryPoll.await(limitToBudget(calculatePollDeadline(rediscoveryRequests.size(), window), budgetDeadline));
+            timeouts += retryPoll.getTimeouts();
+            responses += retryPoll.getResponses();
+            for (PollRequest request : retryPoll.drainRediscoveryRequests()) {
+                pollResult.fill(request, AsyncPoll.NOT_AVAILABLE);
+            }
+        }
+
+        updateRequestWindow(window, timeouts);
+
+        cache.update(pollResult, pollStart);
+        cache.putValues(result);
+        if (oidQuarantineThreshold > 0) {
+            quarantine.update(pollResult, pollStart, oidQuarantineThreshold, oidQuarantineBackoff, oidQuarantineMaxBackoff);
+            quarantine.putValues(result);
+            quarantinedOids = quarantine.getQuarantinedCount();
+        }
+        pollResult.putValues(plan, result);
+        if (typedValues) {
+            counterTracker.derive(pollResult.getCounters(), pollResult.getAgentUptime(), System.currentTimeMillis(), result);
+        }
+        missedOids = pollResult.getMissedCount();
+        if (missedOids > 0) {
+            staleProperties = carryForward(plan, pollResult, result);
+            if (logger.isWarnEnabled()) {
+                logger.warn(String.format("%d OIDs of device %s missed the poll deadline, %d properties are carried forward from the previous poll.",
+                        missedOids, getHost(), staleProperties));
+            }
+        }
+        return responses > 0;
+    }
+
+    /**
+     * Limit the poll deadline by the remaining poll budget
+     *
+     * @param pollDeadline poll deadline, in milliseconds, see {@link #calculatePollDeadline(int, int)}
+     * @param budgetDeadline time the poll must be complete by, in milliseconds
+     * @return time to wait for the poll, in milliseconds
+     * */
+    private long limitToBudget(long pollDeadline, long budgetDeadline) {
+        return Math.max(0, Math.min(pollDeadline, budgetDeadline - System.currentTimeMillis()));
+    }
+
+    /**
+     * Report values of the previous poll for the properties which requests have missed the poll deadline
+     *
+     * @param plan of the poll
+     * @param pollResult of the poll
+     * @param result map to put carried forward values into
+     * @return number of properties carried forward
+     * */
+    private int carryForward(PollingPlan plan, PollResult pollResult, Map<String, String> result) {
+        Map<String, String> previousValues = lastKnownValues;
+        int carriedForward = 0;
+        for (PropertyEntry entry : plan.getEntries()) {
+            if (!pollResult.isMissed(entry.getIndex())) {
+                continue;
+            }
+            String previousValue = previousValues.get(entry.getPropertyName());
+            if (previousValue != null && !AsyncPoll.REQUEST_TIMED_OUT.equals(previousValue)) {
+                result.put(entry.getPropertyName(), previousValue);
+                carriedForward++;
+            }
+        }
+        for (PropertyEntry walkEntry : plan.getWalkEntries()) {
+            if (!pollResult.isWalkMissed(walkEntry)) {
+                continue;
+            }
+            String prefix = walkEntry.getPropertyName() + ".";
+            for (Map.Entry<String, String> previousValue : previousValues.entrySet()) {
+                if (previousValue.getKey().startsWith(prefix) && !result.containsKey(previousValue.getKey())) {
+                    result.put(previousValue.getKey(), previousValue.getValue());
+                    carriedForward++;
+                }
+            }
+        }
+        return carriedForward;
+    }
+
+    /**
+     * Record a poll or probe without responses from the device
+     *
+     * @return true if the {@link #circuitBreaker} is open, so the last known values should be reported
+     * */
+    private boolean recordFailedPoll() {
+        circuitBreaker.onFailure(System.currentTimeMillis(), circuitBreakerThreshold, circuitBreakerBackoff, circuitBreakerMaxBackoff);
+        if (circuitBreaker.getState() != CircuitBreaker.State.OPEN) {
+            return false;
+        }
+        if (logger.isWarnEnabled()) {
+            logger.warn(String.format("Device %s is unreachable after %d attempts, circuit breaker is open until the next probe in %d ms.",
+                    getHost(), circuitBreaker.getConsecutiveFailures(), circuitBreaker.getNextProbeAt() - System.currentTimeMillis()));
+        }
+        return true;
+    }
+
+    /**
+     * Send a single {@link #probeOid} GET request without retries, to check whether the device is reachable again.
+     * Any response, including error responses and REPORTs, means the device is reachable.
+     *
+     * @return true if the device has responded
+     * @throws FailedLoginException if SNMPv3 credentials are invalid
+     * */
+    private boolean probe() throws FailedLoginException {
+        try {
+            if (version.equals("3")) {
+                initSNMPv3();
+            } else {
+                initSNMPv2c();
+            }
+            applyRequestTimers();
+            Target<UdpAddress> probeTarget = snmpTarget.duplicate();
+            probeTarget.setRetries(0);
+            PDU pdu = pollContext.createPDU();
+            pdu.setType(PDU.GET);
+            pdu.add(new VariableBinding(new OID(probeOid)));
+            return snmp.send(pdu, probeTarget).getResponse() != null;
+        } catch (FailedLoginException e) {
+            throw e;
+        } catch (Exception e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Circuit breaker probe of device " + getHost() + " has failed.", e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Calculate the max poll duration: all requests are expected to complete within
+     * request timeout with retries, for each full window of requests in flight.
+     * An extra window is reserved for tooBig and error retries.
+     *
+     * @param requestCount number of requests in the poll
+     * @param window number of requests in flight
+     * @return poll deadline, in milliseconds
+     * */
+    private long calculatePollDeadline(int requestCount, int window) {
+        long requestTimeout = snmpTarget.getTimeout() * (snmpTarget.getRetries() + 1L);
+        return requestTimeout * ((requestCount + window - 1) / window + 1);
+    }
+
+    /**
+     * Set {@link #snmpTarget} timeout and retries: configured values if {@link #adaptiveTimeout} is disabled
+     * or no round trip time is measured yet, values derived from the {@link #rttEstimator} otherwise.
+     * SNMPv2c requests are configured with {@link BaseDevice} SNMP settings, SNMPv3 requests with {@link SnmpV3Session} defaults.
+     * */
+    private void applyRequestTimers() {
+        boolean snmpv3 = snmpTarget instanceof UserTarget;
+        long configuredTimeout = snmpv3 ? SnmpV3Session.REQUEST_TIMEOUT : getSnmpTimeout();
+        int configuredRetries = snmpv3 ? SnmpV3Session.REQUEST_RETRIES : Math.max(0, getSnmpAttempts() - 1);
+        if (!adaptiveTimeout) {
+            snmpTarget.setTimeout(configuredTimeout);
+            snmpTarget.setRetries(configuredRetries);
+            return;
+        }
+        long timeout = rttEstimator.getTimeout(configuredTimeout, minRequestTimeout, maxRequestTimeout);
+        snmpTarget.setTimeout(timeout);
+        snmpTarget.setRetries(rttEstimator.getRetries(timeout, configuredTimeout, configuredRetries));
+    }
+
+    /**
+     * Retrieve number of requests allowed in flight for the next poll
+     *
+     * @return {@link #requestWindow}, limited by {@link #maxRequestsInFlight}
+     * */
+    private int currentRequestWindow() {
+        int maxWindow = Math.max(1, maxRequestsInFlight);
+        int window = requestWindow;
+        if (!adaptiveTimeout || window <= 0 || window > maxWindow) {
+            return maxWindow;
+        }
+        return window;
+    }
+
+    /**
+     * Adjust {@link #requestWindow} and back off the {@link #rttEstimator} timeout after a poll: the window is halved
+     * if any request has timed out, so lossy or congested links are not flooded with retransmissions,
+     * and is increased by one otherwise
+     *
+     * @param window number of requests in flight during the poll
+     * @param timeouts number of requests timed out during the poll
+     * */
+    private void updateRequestWindow(int window, int timeouts) {
+        if (!adaptiveTimeout) {
+            return;
+        }
+        if (timeouts > 0) {
+            rttEstimator.onTimeout();
+            requestWindow = Math.max(1, window / 2);
+        } else {
+            requestWindow = Math.min(Math.max(1, maxRequestsInFlight), window + 1);
+        }
+    }
+
+    /**
+     * Convert retrieved variable to string.
+     * SNMPv2c octet strings are decoded as raw text, the same way {@link BaseDevice#querySnmp(Collection)} does,
+     * SNMPv3 variables are converted with {@link Variable#toString()}.
+     * TimeTicks are reported as normalized durations if {@link #typedValues} are enabled
+     *
+     * @param variable to convert
+     * @return string value of the variable
+     * */
+    private String formatVariable(Variable variable) {
+        if (typedValues && variable instanceof TimeTicks) {
+            String duration = normalizeUptime(variable.toLong() / 100);
+            return duration.isEmpty() ? "0 second(s)" : duration;
+        }
+        if (!version.equals("3") && variable instanceof OctetString) {
+            return new String(((OctetString) variable).getValue());
+        }
+        return variable.toString();
+    }
+
+    /**
+     * Initialize v2c SNMP client, based on {@link BaseDevice} SNMP settings
+     *
+     * @throws IOException if SNMP isn't initialized properly
+     * @since 2.1.0
+     * */
+    private void initSNMPv2c() throws IOException {
+        initSnmpClient();
+        releaseNotificationUser();
+        if (snmpTarget instanceof CommunityTarget) {
+            return;
+        }
+        CommunityTarget<UdpAddress> communityTarget = new CommunityTarget<>();
+        communityTarget.setCommunity(new OctetString(getSnmpCommunity()));
+        communityTarget.setAddress(new UdpAddress(getHost() + "/" + getSnmpPort()));
+        communityTarget.setVersion("1".equals(getSnmpVersion()) ? SnmpConstants.version1 : SnmpConstants.version2c);
+        communityTarget.setRetries(Math.max(0, getSnmpAttempts() - 1));
+        communityTarget.setTimeout(getSnmpTimeout());
+        snmpTarget = communityTarget;
+    }
+
+    /**
+     * Initialize v3 SNMP client. SNMPv3 session is created once and reused by the subsequent polls,
+     * authoritative engine ID is only rediscovered if the session is invalidated or credentials are changed.
+     *
+     * @throws IOException if SNMP isn't initialized properly
+     * @since 2.0.0
+     * */
+    private void initSNMPv3() throws IOException, FailedLoginException {
+        if (StringUtils.isNullOrEmpty(login) && ("AUTH_PRIV".equals(securityLevel) || "AUTH_NOPRIV".equals(securityLevel))) {
+            throw new FailedLoginException("Invalid login: please check snmp version, security name or security level configured.");
+        }
+        if (StringUtils.isNullOrEmpty(authPassword) && ("AUTH_PRIV".equals(securityLevel) || "AUTH_NOPRIV".equals(securityLevel))) {
+            throw new FailedLoginException("Invalid authPassword: please check snmp version, auth password or security level configured.");
+        }
+        if (StringUtils.isNullOrEmpty(privatePassword) && ("AUTH_PRIV".equals(securityLevel) || "NOAUTH_PRIV".equals(securityLevel))) {
+            throw new FailedLoginException("Invalid privatePassword: please check snmp version, private password or security level configured.");
+        }
+        if (StringUtils.isNullOrEmpty(securityLevel)) {
+            throw new FailedLoginException("Invalid securityLevel: please check snmp version or security level configured [AUTH_PRIV, NOAUTH_PRIV, NOAUTH_NOPRIV].");
+        }
+
+        initSnmpClient();
+        SnmpV3Credentials credentials = new SnmpV3Credentials(login, securityLevel, retrieveAuthenticationProtocol(),
+                authPassword, retrievePrivacyProtocol(), privatePassword);
+        if (snmpV3Session == null || !snmpV3Session.isBoundTo(snmpEngine)) {
+            if (snmpV3Session != null) {
+                snmpV3Session.close();
+            }
+            snmpV3Session = new SnmpV3Session(snmpEngine, new UdpAddress(getHost() + "/" + getSnmpPort()), credentials);
+        } else {
+            snmpV3Session.updateCredentials(credentials);
+        }
+        WarmStartStore.Record record = warmStartRecord;
+        if (record != null) {
+            warmStartRecord = null;
+            snmpV3Session.restore(record.getEngineId(), record.getEngineBoots(), record.estimateEngineTime(System.currentTimeMillis()));
+        }
+        snmpV3Session.setDiscoveryTimeout(adaptiveTimeout
+                ? rttEstimator.getTimeout(SnmpV3Session.ENGINE_DISCOVERY_TIMEOUT, minRequestTimeout, maxRequestTimeout)
+                : SnmpV3Session.ENGINE_DISCOVERY_TIMEOUT);
+        snmpTarget = snmpV3Session.getTarget();
+        registerNotificationUser(credentials, snmpV3Session.getEngineId());
+    }
+
+    /**
+     * Register the SNMPv3 user with the {@link #notificationReceiver} engine, localized to the device engine ID,
+     * so devices sharing the receiver with the same security name and different passwords don't interfere,
+     * and to the receiver engine ID, which INFORMs are sent to. Registrations are reference-counted by the engine,
+     * see {@link SharedSnmpEngine#retainUser(OctetString, OctetString)}, the previous registration is released
+     *
+     * @param credentials of the user
+     * @param engineId discovered engine ID of the device
+     * */
+    private void registerNotificationUser(SnmpV3Credentials credentials, byte[] engineId) {
+        NotificationReceiver receiver = notificationReceiver;
+        if (receiver == null || engineId == null) {
+            return;
+        }
+        SharedSnmpEngine engine = receiver.getEngine();
+        List<OctetString> engineIds = Arrays.asList(new OctetString(engineId), new OctetString(engine.getUsm().getLocalEngineID()));
+        if (credentials.equals(notificationCredentials) && engineIds.equals(notificationEngineIds)) {
+            return;
+        }
+        for (OctetString userEngineId : engineIds) {
+            engine.retainUser(userEngineId, credentials.getSecurityName());
+            LocalizedKeyCache.getInstance().addUser(engine.getUsm(), credentials, userEngineId);
+        }
+        releaseNotificationUser();
+        notificationCredentials = credentials;
+        notificationEngineIds = engineIds;
+    }
+
+    /**
+     * Release the SNMPv3 user registered with the {@link #notificationReceiver} engine, if any
+     * */
+    private void releaseNotificationUser() {
+        NotificationReceiver receiver = notificationReceiver;
+        if (receiver != null && notificationCredentials != null) {
+            for (OctetString userEngineId : notificationEngineIds) {
+                receiver.getEngine().releaseUser(userEngineId, notificationCredentials.getSecurityName());
+            }
+        }
+        notificationCredentials = null;
+        notificationEngineIds = Collections.emptyList();
+    }
+
+    /**
+     * Acquire a shared SNMP engine, used by SNMPv2c and SNMPv3 requests. The engine is acquired once
+     * and released in {@link #internalDestroy()}.
+     *
+     * @throws IOException if a new engine transport cannot be created
+     * @since 2.1.0
+     * */
+    private void initSnmpClient() throws IOException {
+        if (snmpEngine == null) {
+            snmpEngine = SnmpEngineRegistry.acquire();
+            snmp = snmpEngine.getSnmp();
+        }
+        if (trapPort > 0 && notificationReceiver == null) {
+            initNotificationReceiver();
+        }
+    }
+
+    /**
+     * Acquire the {@link #trapPort} receiver and subscribe to the notifications of the device.
+     * The adapter remains functional if the port cannot be bound, the receiver is then acquired on the next poll
+     * */
+    private void initNotificationReceiver() {
+        try {
+            InetAddress sender = InetAddress.getByName(getHost());
+            NotificationReceiver receiver = SnmpEngineRegistry.acquireNotificationReceiver(snmpEngine, trapPort);
+            receiver.subscribe(sender, notificationListener);
+            notificationSender = sender;
+            notificationReceiver = receiver;
+        } catch (IOException e) {
+            logger.error("Unable to receive notifications of device " + getHost() + " on port " + trapPort, e);
+        }
+    }
+
+    /**
+     * Unsubscribe from the device notifications and release the {@link #notificationReceiver}
+     * */
+    private void releaseNotificationReceiver() {
+        NotificationReceiver receiver = notificationReceiver;
+        if (receiver == null) {
+            return;
+        }
+        receiver.unsubscribe(notificationSender, notificationListener);
+        releaseNotificationUser();
+        SnmpEngineRegistry.releaseNotificationReceiver(receiver);
+        notificationReceiver = null;
+        notificationSender = null;
+    }
+
+    /**
+     * Retrieve authentication protocol based on {@link #authenticationProtocol} variable
+     * AuthSHA is used by default - if the {@link #authenticationProtocol} is not supported or not provided
+     *
+     * @return OID of the selected privacy protocol
+     * */
+    private OID retrieveAuthenticationProtocol() {
+        switch (this.authenticationProtocol) {
+            case "AuthSHA":
+                return AuthSHA.ID;
+            case "AuthMD5":
+                return AuthMD5.ID;
+            case "AuthHMAC384SHA512":
+                return AuthHMAC384SHA512.ID;
+            case "AuthHMAC128SHA224":
+                return AuthHMAC128SHA224.ID;
+            case "AuthHMAC256SHA384":
+                return AuthHMAC256SHA384.ID;
+            case "AuthHMAC192SHA256":
+                return AuthHMAC192SHA256.ID;
+            default:
+                logger.warn(String.format("Cannot set authentication protocol to %s, switching to AuthSHA.", this.authenticationProtocol));
+                return AuthSHA.ID;
+        }
+    }
+
+    /**
+     * Retrieve privacy protocol based on {@link #privacyProtocol} variable
+     * PrivAES128 is used by default - if the {@link #privacyProtocol} is not supported or not provided
+     *
+     * @return OID of the selected privacy protocol
+     * */
+    private OID retrievePrivacyProtocol() {
+        switch (this.privacyProtocol) {
+            case "PrivAES128":
+                return PrivAES128.ID;
+            case "PrivAES192":
+                return PrivAES192.ID;
+            case "PrivAES256":
+                return PrivAES256.ID;
+            case "PrivDES":
+                return PrivDES.ID;
+            case "Priv3DES":
+                return Priv3DES.ID;
+            default:
+                logger.warn(String.format("Cannot set privacy protocol to %s, switching to PrivAES128.", this.privacyProtocol));
+                return PrivAES128.ID;
+        }
+    }
+
+    /**
+     * Uptime is received in seconds, need to normalize it and make it human readable, like
+     * 1 day(s) 5 hour(s) 12 minute(s) 55 minute(s)
+     * Incoming parameter is may have a decimal point, so in order to safely process this - it's rounded first.
+     * We don't need to add a segment of time if it's 0.
+     *
+     * @param uptimeSeconds value in seconds
+     * @return string value of format 'x day(s) x hour(s) x minute(s) x minute(s)'
+     */
+    private String normalizeUptime(long uptimeSeconds) {
+        StringBuilder normalizedUptime = new StringBuilder();
+
+        long seconds = uptimeSeconds % 60;
+        long minutes = uptimeSeconds % 3600 / 60;
+        long hours = uptimeSeconds % 86400 / 3600;
+        long days = uptimeSeconds / 86400;
+
+        if (days > 0) {
+            normalizedUptime.append(days).append(" day(s) ");
+        }
+        if (hours > 0) {
+            normalizedUptime.append(hours).append(" hour(s) ");
+        }
+        if (minutes > 0) {
+            normalizedUptime.append(minutes).append(" minute(s) ");
+        }
+        if (seconds > 0) {
+            normalizedUptime.append(seconds).append(" second(s)");
+        }
+        return normalizedUptime.toString().trim();
+    }
+
+    /**
+     * {@link PollContext} of the adapter, bound to the current SNMP version and request limits
+     * */
+    private class CommunicatorPollContext implements PollContext {
+        @Override
+        public PDU createPDU() {
+            return version.equals("3") ? new ScopedPDU() : new PDU();
+        }
+
+        @Override
+        public boolean isBulkSupported() {
+            return snmpTarget.getVersion() != SnmpConstants.version1;
+        }
+
+        @Override
+        public int getMaxRepetitions() {
+            return maxRepetitions;
+        }
+
+        @Override
+        public String formatVariable(Variable variable) {
+            return SNMPCommunicator.this.formatVariable(variable);
+        }
+
+        @Override
+        public boolean isTypedValues() {
+            return typedValues;
+        }
+
+        @Override
+        public void onTooBig(int varbindsLimit) {
+            int learnedLimit = learnedVarbindsLimit;
+            if (learnedLimit == 0 || varbindsLimit < learnedLimit) {
+                learnedVarbindsLimit = varbindsLimit;
+            }
+        }
+
+        @Override
+        public PollingMetrics getMetrics() {
+            return pollingMetrics;
+        }
+
+        @Override
+        public void onRoundTrip(long rttNanos) {
+            if (adaptiveTimeout) {
+                rttEstimator.onSample(rttNanos / 1_000_000.0);
+            }
+        }
+    }
+
+    /**
+     * Listener of the device TRAPs and INFORMs. Notifications are accepted if they match the configured SNMP version
+     * and community, or SNMPv3 security name and security level. Variable bindings of the {@link #pollingPlan} OIDs
+     * are cached as if they were polled, see {@link PropertyValueCache#notifyValue(int, String, long)}, and update
+     * the last known values and the {@link #backgroundPoller} snapshot, other variable bindings, e.g. snmpTrapOID.0,
+     * are ignored
+     * */
+    private class CommunicatorNotificationListener implements CommandResponder {
+        @Override
+        public <A extends Address> void processPdu(CommandResponderEvent<A> event) {
+            if (!isAuthorized(event)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Dropping notification of device " + getHost() + " with unexpected SNMP version or credentials.");
+                }
+                return;
+            }
+            event.setProcessed(true);
+            pollingMetrics.onNotification();
+            PollingPlan plan = pollingPlan;
+            PropertyValueCache cache = valueCache;
+            if (!cache.isBoundTo(plan)) {
+                cache = null;
+            }
+            long now = System.currentTimeMillis();
+            Map<String, String> notifiedValues = new HashMap<>();
+            for (VariableBinding vb : event.getPDU().getVariableBindings()) {
+                Variable variable = vb.getVariable();
+                if (variable == null || variable.isException()) {
+                    continue;
+                }
+                OID oid = vb.getOid();
+                String value = null;
+                for (int entryIndex : plan.getOidIndex().getEntryIndices(oid)) {
+                    if (value == null) {
+                        value = formatVariable(variable).trim();
+                    }
+                    if (cache != null) {
+                        cache.notifyValue(entryIndex, value, now);
+                    }
+                    notifiedValues.put(plan.getEntries().get(entryIndex).getPropertyName(), value);
+                }
+                PropertyEntry walkEntry = plan.getOidIndex().getWalkEntry(oid);
+                if (walkEntry == null) {
+                    continue;
+                }
+                if (value == null) {
+                    value = formatVariable(variable).trim();
+                }
+                for (PropertyEntry sameRootEntry : plan.getSameRootWalkEntries(walkEntry)) {
+                    String propertyName = sameRootEntry.walkPropertyName(oid);
+                    if (cache != null) {
+                        cache.notifyWalkValue(sameRootEntry, propertyName, value);
+                    }
+                    notifiedValues.put(propertyName, value);
+                }
+            }
+            if (notifiedValues.isEmpty()) {
+                return;
+            }
+            Map<String, String> knownValues = new HashMap<>(lastKnownValues);
+            knownValues.putAll(notifiedValues);
+            lastKnownValues = knownValues;
+            BackgroundPoller poller;
+            synchronized (backgroundPollerLock) {
+                poller = backgroundPoller;
+            }
+            if (poller != null) {
+                poller.publishValues(notifiedValues);
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Device " + getHost() + " notified of " + notifiedValues.keySet());
+            }
+        }
+
+        /**
+         * Check the notification against the configured SNMP version and credentials
+         *
+         * @param event notification event
+         * @return true if the notification is sent by the device with the configured community, or SNMPv3 user
+         * with at least the configured security level
+         * */
+        private <A extends Address> boolean isAuthorized(CommandResponderEvent<A> event) {
+            String securityName = new String(event.getSecurityName());
+            if (version.equals("3")) {
+                return event.getSecurityModel() == SecurityModel.SECURITY_MODEL_USM && Objects.equals(login, securityName)
+                        && event.getSecurityLevel() >= retrieveNotificationSecurityLevel();
+            }
+            return event.getSecurityModel() != SecurityModel.SECURITY_MODEL_USM && Objects.equals(getSnmpCommunity(), securityName);
+        }
+
+        /**
+         * Retrieve the min security level of the SNMPv3 notifications, based on {@link #securityLevel}
+         *
+         * @return SNMP4J security level, notifications are rejected if the configured level is not supported
+         * */
+        private int retrieveNotificationSecurityLevel() {
+            try {
+                return LocalSecurityLevel.findLevelByName(securityLevel);
+            } catch (IllegalArgumentException e) {
+                return Integer.MAX_VALUE;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.engine;
+
+import org.snmp4j.TransportStateReference;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * UDP transport, which receives all the datagrams into a single buffer of the max inbound message size.
+ * {@link DefaultUdpTransportMapping} allocates a new buffer of the max inbound message size (64 KB) for every
+ * datagram when messages are processed asynchronously, so the buffer can be handed over to the dispatcher threads.
+ * Here the datagram is copied out of the reused buffer instead, which only allocates the actual message size.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+class CompactUdpTransportMapping extends DefaultUdpTransportMapping {
+
+    CompactUdpTransportMapping() throws IOException {
+        super();
+        // the listen thread reuses its buffer when messages are not processed asynchronously, see prepareInPacket
+        setAsyncMsgProcessingSupported(false);
+    }
+
+    CompactUdpTransportMapping(UdpAddress udpAddress) throws IOException {
+        super(udpAddress);
+        setAsyncMsgProcessingSupported(false);
+    }
+
+    @Override
+    protected ByteBuffer prepareInPacket(DatagramPacket packet, byte[] buf, TransportStateReference tmStateReference) {
+        int offset = packet.getOffset();
+        return ByteBuffer.wrap(Arrays.copyOfRange(packet.getData(), offset, offset + packet.getLength()));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.engine;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.snmp4j.util.WorkerPool;
+import org.snmp4j.util.WorkerTask;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Worker pool of the {@link org.snmp4j.util.MultiThreadedMessageDispatcher} of a {@link SharedSnmpEngine}:
+ * incoming messages are decoded, decrypted and dispatched to the response listeners on the pool threads,
+ * instead of the transport listen thread, so SNMPv3 AUTH_PRIV crypto of many devices spreads across cores.
+ * <p>
+ * Unlike {@link org.snmp4j.util.ThreadPool}, which blocks the listen thread until a worker is idle, the pool
+ * has a bounded queue, and messages arriving while the queue is full are handled by the {@link RejectionPolicy}.
+ * Queue depth, busy threads and rejections are exposed as gauges of the pool.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class DispatcherPool implements WorkerPool {
+    private static final Log logger = LogFactory.getLog(DispatcherPool.class);
+
+    /**
+     * Handling of the messages arriving while all the threads are busy and the queue is full
+     * */
+    public enum RejectionPolicy {
+        /**
+         * Process the message on the transport listen thread, which stops reading the socket in the meantime,
+         * so the excess datagrams are buffered, and eventually dropped, by the OS socket buffer
+         * */
+        CALLER_RUNS,
+        /**
+         * Drop the message, the request is retransmitted or times out as if the datagram was lost
+         * */
+        DISCARD
+    }
+
+    private final RejectionPolicy rejectionPolicy;
+    private final BlockingQueue<Runnable> queue;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejectedTasks = new LongAdder();
+
+    /**
+     * Create and start the pool
+     *
+     * @param name thread name prefix
+     * @param threads number of the pool threads
+     * @param queueSize max number of the messages waiting for a thread
+     * @param rejectionPolicy handling of the messages arriving while the queue is full
+     * */
+    DispatcherPool(String name, int threads, int queueSize, RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = rejectionPolicy;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        AtomicInteger threadIndex = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, name + "." + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, new Rejection());
+        executor.prestartAllCoreThreads();
+    }
+
+    @Override
+    public void execute(WorkerTask task) {
+        executor.execute(task);
+    }
+
+    @Override
+    public boolean tryToExecute(WorkerTask task) {
+        if (queue.remainingCapacity() == 0) {
+            return false;
+        }
+        executor.execute(task);
+        return true;
+    }
+
+    @Override
+    public void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isIdle() {
+        return executor.getActiveCount() == 0 && queue.isEmpty();
+    }
+
+    /**
+     * Retrieves {@link #rejectionPolicy}
+     *
+     * @return value of {@link #rejectionPolicy}
+     */
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    /**
+     * Number of the pool threads
+     *
+     * @return pool size
+     * */
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Number of the messages waiting for a thread
+     *
+     * @return queue depth
+     * */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Approximate number of the threads processing messages
+     *
+     * @return busy threads
+     * */
+    public int getBusyThreads() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Number of the messages, which arrived while the queue was full, see {@link #rejectionPolicy}
+     *
+     * @return rejected messages
+     * */
+    public long getRejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    /**
+     * {@link RejectionPolicy} of the pool executor
+     * */
+    private final class Rejection implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                return;
+            }
+            rejectedTasks.increment();
+            if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+                task.run();
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("SNMP dispatcher queue is full, incoming message is discarded.");
+            }
+        }
+    }
+}
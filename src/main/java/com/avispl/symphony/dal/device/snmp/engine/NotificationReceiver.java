@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.engine;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.UdpAddress;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Receiver of the SNMP notifications (TRAP, SNMPv1 TRAP and INFORM), bound to a UDP port and attached
+ * to the {@link Snmp} client of a {@link SharedSnmpEngine}, so notifications are decoded by the engine
+ * dispatcher threads and SNMPv3 notifications are authenticated by the engine {@link org.snmp4j.security.USM}.
+ * <p>
+ * Notifications are dispatched to the listeners subscribed to the sender address, notifications of other senders
+ * are dropped. Listeners accept the notification by marking the event as processed, INFORMs are only acknowledged
+ * once accepted, so unknown senders and senders with wrong credentials keep retransmitting and eventually time out.
+ * Instances are created and reference-counted by {@link SnmpEngineRegistry}, a single receiver serves all
+ * the adapters of the JVM, listening on the same port.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class NotificationReceiver implements CommandResponder {
+    private static final Log logger = LogFactory.getLog(NotificationReceiver.class);
+
+    private final int port;
+    /**
+     * Engine the receiver transport is attached to
+     * */
+    private final SharedSnmpEngine engine;
+    private final CompactUdpTransportMapping transport;
+    /**
+     * Listeners, keyed by the sender address
+     * */
+    private final Map<InetAddress, List<CommandResponder>> listeners = new ConcurrentHashMap<>();
+    /**
+     * Number of adapters, holding a reference to the receiver. Guarded by {@link SnmpEngineRegistry}
+     * */
+    private int references;
+
+    NotificationReceiver(SharedSnmpEngine engine, int port) throws IOException {
+        this.engine = engine;
+        this.port = port;
+        this.transport = new CompactUdpTransportMapping(new UdpAddress("0.0.0.0/" + port));
+        Snmp snmp = engine.getSnmp();
+        snmp.addTransportMapping(transport);
+        snmp.addCommandResponder(this);
+        try {
+            transport.listen();
+        } catch (IOException e) {
+            snmp.removeCommandResponder(this);
+            snmp.removeTransportMapping(transport);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves {@link #port}
+     *
+     * @return value of {@link #port}
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Retrieves {@link #engine}
+     *
+     * @return value of {@link #engine}
+     */
+    public SharedSnmpEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Subscribe listener to the notifications of the sender. The listener is called on the dispatcher threads
+     * and must not block, accepted notifications are marked with {@link CommandResponderEvent#setProcessed(boolean)}
+     *
+     * @param sender address of the notifications sender
+     * @param listener to call with the notification event
+     * */
+    public void subscribe(InetAddress sender, CommandResponder listener) {
+        listeners.computeIfAbsent(sender, address -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Unsubscribe listener from the notifications of the sender
+     *
+     * @param sender address of the notifications sender
+     * @param listener to unsubscribe
+     * */
+    public void unsubscribe(InetAddress sender, CommandResponder listener) {
+        listeners.computeIfPresent(sender, (address, senderListeners) -> {
+            senderListeners.remove(listener);
+            return senderListeners.isEmpty() ? null : senderListeners;
+        });
+    }
+
+    @Override
+    public <A extends Address> void processPdu(CommandResponderEvent<A> event) {
+        PDU pdu = event.getPDU();
+        if (pdu == null || (pdu.getType() != PDU.TRAP && pdu.getType() != PDU.V1TRAP && pdu.getType() != PDU.INFORM)) {
+            return;
+        }
+        Address peerAddress = event.getPeerAddress();
+        List<CommandResponder> senderListeners = peerAddress instanceof IpAddress
+                ? listeners.get(((IpAddress) peerAddress).getInetAddress()) : null;
+        if (senderListeners == null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Dropping notification of unknown sender " + peerAddress);
+            }
+            event.setProcessed(true);
+            return;
+        }
+        boolean accepted = false;
+        for (CommandResponder listener : senderListeners) {
+            event.setProcessed(false);
+            try {
+                listener.processPdu(event);
+            } catch (RuntimeException e) {
+                logger.error("Unable to process notification of " + peerAddress, e);
+            }
+            accepted |= event.isProcessed();
+        }
+        event.setProcessed(true);
+        if (accepted && pdu.getType() == PDU.INFORM) {
+            acknowledge(event);
+        }
+    }
+
+    /**
+     * Send the INFORM response, with the same variable bindings as the INFORM
+     *
+     * @param event INFORM event
+     * */
+    private <A extends Address> void acknowledge(CommandResponderEvent<A> event) {
+        PDU response = (PDU) event.getPDU().clone();
+        response.setType(PDU.RESPONSE);
+        response.setErrorStatus(PDU.noError);
+        response.setErrorIndex(0);
+        try {
+            event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(), event.getSecurityModel(),
+                    event.getSecurityName(), event.getSecurityLevel(), response, event.getMaxSizeResponsePDU(),
+                    event.getStateReference(), new StatusInformation());
+        } catch (MessageException e) {
+            logger.warn("Unable to acknowledge INFORM of " + event.getPeerAddress(), e);
+        }
+    }
+
+    /**
+     * Number of adapters, referencing the receiver
+     *
+     * @return reference count
+     * */
+    int getReferences() {
+        return references;
+    }
+
+    /**
+     * Increment reference count
+     * */
+    void retain() {
+        references++;
+    }
+
+    /**
+     * Decrement reference count
+     *
+     * @return remaining reference count
+     * */
+    int release() {
+        return --references;
+    }
+
+    /**
+     * Detach the receiver from the engine and close its transport
+     *
+     * @throws IOException if transport cannot be closed
+     * */
+    void close() throws IOException {
+        Snmp snmp = engine.getSnmp();
+        snmp.removeCommandResponder(this);
+        snmp.removeTransportMapping(transport);
+        transport.close();
+    }
+}
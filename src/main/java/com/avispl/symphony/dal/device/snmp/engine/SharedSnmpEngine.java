@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.engine;
+
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.Snmp;
+import org.snmp4j.TransportMapping;
+import org.snmp4j.mp.MPv1;
+import org.snmp4j.mp.MPv2c;
+import org.snmp4j.mp.MPv3;
+import org.snmp4j.security.*;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.util.MultiThreadedMessageDispatcher;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SNMP engine, shared by multiple adapter instances: a single UDP transport, a multi-threaded message dispatcher
+ * with a bounded {@link DispatcherPool} and a single {@link USM}, used for SNMPv3 sessions of all the devices of the engine.
+ * Instances are created and reference-counted by {@link SnmpEngineRegistry}. USM users are reference-counted as well,
+ * see {@link #retainUser(OctetString, OctetString)}, so a session never removes a user other sessions depend on.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class SharedSnmpEngine {
+    static {
+        SecurityProtocols.getInstance().addAuthenticationProtocol(new AuthSHA());
+        SecurityProtocols.getInstance().addAuthenticationProtocol(new AuthHMAC128SHA224());
+        SecurityProtocols.getInstance().addAuthenticationProtocol(new AuthHMAC384SHA512());
+        SecurityProtocols.getInstance().addAuthenticationProtocol(new AuthHMAC192SHA256());
+        SecurityProtocols.getInstance().addAuthenticationProtocol(new AuthHMAC256SHA384());
+        SecurityProtocols.getInstance().addAuthenticationProtocol(new AuthMD5());
+    }
+
+    /**
+     * Engine index within the registry
+     * */
+    private final int index;
+    private final TransportMapping<UdpAddress> transport;
+    private final DispatcherPool dispatcherPool;
+    private final Snmp snmp;
+    private final USM usm;
+    private final MPv3 mpv3;
+    /**
+     * Number of adapters, holding a reference to the engine. Guarded by {@link SnmpEngineRegistry}
+     * */
+    private int references;
+    /**
+     * Number of sessions, using the USM user, keyed by engine ID and security name. Guarded by itself
+     * */
+    private final Map<List<OctetString>, Integer> userReferences = new HashMap<>();
+
+    SharedSnmpEngine(int index, int dispatcherThreads, int dispatcherQueueSize, DispatcherPool.RejectionPolicy rejectionPolicy) throws IOException {
+        this.index = index;
+        this.transport = new CompactUdpTransportMapping();
+        this.dispatcherPool = new DispatcherPool("SNMPDispatcher-" + index, dispatcherThreads, dispatcherQueueSize, rejectionPolicy);
+        MultiThreadedMessageDispatcher dispatcher = new MultiThreadedMessageDispatcher(dispatcherPool, new MessageDispatcherImpl());
+        this.usm = new USM(SecurityProtocols.getInstance(), new OctetString(MPv3.createLocalEngineID()), 0);
+        this.mpv3 = new MPv3(usm);
+        dispatcher.addMessageProcessingModel(new MPv1());
+        dispatcher.addMessageProcessingModel(new MPv2c());
+        dispatcher.addMessageProcessingModel(mpv3);
+        this.snmp = new Snmp(dispatcher, transport);
+        try {
+            transport.listen();
+        } catch (IOException e) {
+            dispatcherPool.cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves {@link #index}
+     *
+     * @return value of {@link #index}
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Retrieves {@link #snmp}
+     *
+     * @return value of {@link #snmp}
+     */
+    public Snmp getSnmp() {
+        return snmp;
+    }
+
+    /**
+     * Retrieves {@link #dispatcherPool}
+     *
+     * @return value of {@link #dispatcherPool}
+     */
+    public DispatcherPool getDispatcherPool() {
+        return dispatcherPool;
+    }
+
+    /**
+     * Retrieves {@link #usm}
+     *
+     * @return value of {@link #usm}
+     */
+    public USM getUsm() {
+        return usm;
+    }
+
+    /**
+     * Retrieves {@link #mpv3}
+     *
+     * @return value of {@link #mpv3}
+     */
+    public MPv3 getMpv3() {
+        return mpv3;
+    }
+
+    /**
+     * Number of adapters, referencing the engine
+     *
+     * @return reference count
+     * */
+    int getReferences() {
+        return references;
+    }
+
+    /**
+     * Increment reference count
+     * */
+    void retain() {
+        references++;
+    }
+
+    /**
+     * Decrement reference count
+     *
+     * @return remaining reference count
+     * */
+    int release() {
+        return --references;
+    }
+
+    /**
+     * Increment reference count of the USM user. Must be called before the user is added to the {@link #usm},
+     * so a concurrent {@link #releaseUser(OctetString, OctetString)} of another session doesn't remove it
+     *
+     * @param engineId authoritative engine ID the user is added for
+     * @param securityName of the user
+     * */
+    public void retainUser(OctetString engineId, OctetString securityName) {
+        synchronized (userReferences) {
+            userReferences.merge(Arrays.asList(engineId, securityName), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Decrement reference count of the USM user, the user is removed from the {@link #usm} once the last session
+     * releases it
+     *
+     * @param engineId authoritative engine ID the user was added for
+     * @param securityName of the user
+     * @return true if the user is removed
+     * */
+    public boolean releaseUser(OctetString engineId, OctetString securityName) {
+        List<OctetString> key = Arrays.asList(engineId, securityName);
+        synchronized (userReferences) {
+            Integer userReferenceCount = userReferences.get(key);
+            if (userReferenceCount == null) {
+                return false;
+            }
+            if (userReferenceCount > 1) {
+                userReferences.put(key, userReferenceCount - 1);
+                return false;
+            }
+            userReferences.remove(key);
+            usm.removeAllUsers(securityName, engineId);
+            return true;
+        }
+    }
+
+    /**
+     * Close SNMP client, transport and dispatcher threads
+     *
+     * @throws IOException if transport cannot be closed
+     * */
+    void close() throws IOException {
+        try {
+            snmp.close();
+        } finally {
+            dispatcherPool.cancel();
+        }
+    }
+}
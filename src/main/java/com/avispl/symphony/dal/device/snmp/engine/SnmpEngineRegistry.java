@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.engine;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JVM-wide registry of {@link SharedSnmpEngine} instances.
+ * <p>
+ * Adapters acquire an engine on the first poll and release it on destroy, instead of opening a private
+ * UDP socket and listener thread per adapter. Up to {@link #TRANSPORTS_PROPERTY} engines are created,
+ * adapters are assigned to the least referenced one. An engine is closed when its last reference is released.
+ * <p>
+ * Since engines are shared between all the adapters of the JVM, they are configured with system properties:
+ * {@link #TRANSPORTS_PROPERTY} (1 by default), {@link #DISPATCHER_THREADS_PROPERTY} (4 by default),
+ * {@link #DISPATCHER_QUEUE_SIZE_PROPERTY} (1024 by default) and {@link #DISPATCHER_REJECTION_POLICY_PROPERTY}
+ * ({@link DispatcherPool.RejectionPolicy#CALLER_RUNS} by default).
+ * <p>
+ * {@link NotificationReceiver}s are registered per port: the receiver is attached to the engine of the first adapter,
+ * listening on the port, and holds a reference to the engine until the last adapter releases the receiver.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class SnmpEngineRegistry {
+    private static final Log logger = LogFactory.getLog(SnmpEngineRegistry.class);
+    /**
+     * System property with the number of shared UDP transports
+     * */
+    public static final String TRANSPORTS_PROPERTY = "com.avispl.symphony.dal.snmp.transports";
+    /**
+     * System property with the number of message dispatcher threads per transport
+     * */
+    public static final String DISPATCHER_THREADS_PROPERTY = "com.avispl.symphony.dal.snmp.dispatcherThreads";
+    /**
+     * System property with the max number of incoming messages waiting for a dispatcher thread, per transport
+     * */
+    public static final String DISPATCHER_QUEUE_SIZE_PROPERTY = "com.avispl.symphony.dal.snmp.dispatcherQueueSize";
+    /**
+     * System property with the {@link DispatcherPool.RejectionPolicy} of the messages arriving while the dispatcher queue is full
+     * */
+    public static final String DISPATCHER_REJECTION_POLICY_PROPERTY = "com.avispl.symphony.dal.snmp.dispatcherRejectionPolicy";
+
+    private static final SharedSnmpEngine[] engines = new SharedSnmpEngine[Math.max(1, Integer.getInteger(TRANSPORTS_PROPERTY, 1))];
+    /**
+     * Notification receivers, keyed by port
+     * */
+    private static final Map<Integer, NotificationReceiver> receivers = new HashMap<>();
+
+    private SnmpEngineRegistry() {
+    }
+
+    /**
+     * Acquire a reference to the least referenced shared engine, creating it if needed
+     *
+     * @return {@link SharedSnmpEngine} instance
+     * @throws IOException if a new engine transport cannot be created
+     * */
+    public static synchronized SharedSnmpEngine acquire() throws IOException {
+        int selected = 0;
+        for (int i = 0; i < engines.length; i++) {
+            if (engines[i] == null) {
+                selected = i;
+                break;
+            }
+            if (engines[i].getReferences() < engines[selected].getReferences()) {
+                selected = i;
+            }
+        }
+        if (engines[selected] == null) {
+            engines[selected] = new SharedSnmpEngine(selected, Integer.getInteger(DISPATCHER_THREADS_PROPERTY, 4),
+                    Integer.getInteger(DISPATCHER_QUEUE_SIZE_PROPERTY, 1024), retrieveRejectionPolicy());
+            if (logger.isInfoEnabled()) {
+                logger.info("Shared SNMP engine " + selected + " is created.");
+            }
+        }
+        engines[selected].retain();
+        return engines[selected];
+    }
+
+    /**
+     * Retrieve dispatcher rejection policy based on {@link #DISPATCHER_REJECTION_POLICY_PROPERTY}
+     * {@link DispatcherPool.RejectionPolicy#CALLER_RUNS} is used by default - if the policy is not supported or not provided
+     *
+     * @return dispatcher rejection policy
+     * */
+    private static DispatcherPool.RejectionPolicy retrieveRejectionPolicy() {
+        String rejectionPolicy = System.getProperty(DISPATCHER_REJECTION_POLICY_PROPERTY);
+        if (rejectionPolicy == null) {
+            return DispatcherPool.RejectionPolicy.CALLER_RUNS;
+        }
+        try {
+            return DispatcherPool.RejectionPolicy.valueOf(rejectionPolicy.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn(String.format("Cannot set dispatcher rejection policy to %s, switching to CALLER_RUNS.", rejectionPolicy));
+            return DispatcherPool.RejectionPolicy.CALLER_RUNS;
+        }
+    }
+
+    /**
+     * Release a reference to the shared engine, the engine is closed once it's no longer referenced
+     *
+     * @param engine to release
+     * */
+    public static synchronized void release(SharedSnmpEngine engine) {
+        if (engine == null || engines[engine.getIndex()] != engine) {
+            return;
+        }
+        if (engine.release() > 0) {
+            return;
+        }
+        engines[engine.getIndex()] = null;
+        try {
+            engine.close();
+            if (logger.isInfoEnabled()) {
+                logger.info("Shared SNMP engine " + engine.getIndex() + " is closed.");
+            }
+        } catch (IOException e) {
+            logger.error("Unable to close shared SNMP engine " + engine.getIndex(), e);
+        }
+    }
+
+    /**
+     * Acquire a reference to the notification receiver of the port, creating it on the engine if needed
+     *
+     * @param engine acquired by the adapter, the new receiver is attached to
+     * @param port UDP port to listen on
+     * @return {@link NotificationReceiver} instance
+     * @throws IOException if the port cannot be bound
+     * */
+    public static synchronized NotificationReceiver acquireNotificationReceiver(SharedSnmpEngine engine, int port) throws IOException {
+        NotificationReceiver receiver = receivers.get(port);
+        if (receiver == null) {
+            receiver = new NotificationReceiver(engine, port);
+            engine.retain();
+            receivers.put(port, receiver);
+            if (logger.isInfoEnabled()) {
+                logger.info("SNMP notification receiver is listening on port " + port + " of the shared SNMP engine " + engine.getIndex() + ".");
+            }
+        }
+        receiver.retain();
+        return receiver;
+    }
+
+    /**
+     * Release a reference to the notification receiver, the receiver is closed once it's no longer referenced,
+     * and its reference to the engine is released
+     *
+     * @param receiver to release
+     * */
+    public static synchronized void releaseNotificationReceiver(NotificationReceiver receiver) {
+        if (receiver == null || receivers.get(receiver.getPort()) != receiver) {
+            return;
+        }
+        if (receiver.release() > 0) {
+            return;
+        }
+        receivers.remove(receiver.getPort());
+        try {
+            receiver.close();
+            if (logger.isInfoEnabled()) {
+                logger.info("SNMP notification receiver of port " + receiver.getPort() + " is closed.");
+            }
+        } catch (IOException e) {
+            logger.error("Unable to close SNMP notification receiver of port " + receiver.getPort(), e);
+        }
+        release(receiver.getEngine());
+    }
+}
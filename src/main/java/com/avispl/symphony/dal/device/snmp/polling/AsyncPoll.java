@@ -0,0 +1,573 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import com.avispl.symphony.dal.device.snmp.v3.SnmpV3Session;
+import com.avispl.symphony.dal.util.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.Target;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.event.ResponseListener;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single asynchronous poll of a {@link PollingPlan}.
+ * <p>
+ * Requests are sent with {@link Snmp#send(PDU, Target, Object, ResponseListener)}, keeping up to maxInFlight
+ * requests in flight, the rest are queued and sent as soon as responses arrive. Responses are correlated back to
+ * the plan entries through the {@link PollRequest} user handle, and retrieved values are stored into
+ * the {@link PollResult} slots, indexed by the plan entry index.
+ * <p>
+ * Walk entries of the plan are retrieved with consecutive GETBULK requests (GETNEXT for SNMPv1), values are
+ * reported with index-suffixed property names, see {@link PropertyEntry#walkPropertyName(OID)}.
+ * <p>
+ * Responses are processed on the SNMP transport threads, so nothing there blocks: tooBig and error responses
+ * are resubmitted as smaller requests, and requests that need an SNMPv3 engine ID rediscovery are collected
+ * for the caller, see {@link #drainRediscoveryRequests()}.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class AsyncPoll implements ResponseListener {
+    private static final Log logger = LogFactory.getLog(AsyncPoll.class);
+    /**
+     * Value reported for properties which requests have timed out
+     * */
+    public static final String REQUEST_TIMED_OUT = "Request timed out";
+    /**
+     * Value reported for properties which requests were answered with a REPORT
+     * */
+    public static final String NOT_AVAILABLE = "N/A";
+
+    private final Snmp snmp;
+    private final Target<?> target;
+    private final PollingPlan plan;
+    private final PollContext context;
+    private final int maxInFlight;
+    /**
+     * Retrieved values of the scalar and walk entries
+     * */
+    private final PollResult result;
+    /**
+     * Requests waiting for an in-flight slot
+     * */
+    private final Deque<PollRequest> queue = new ArrayDeque<>();
+    /**
+     * Requests in flight, with their PDUs, so they can be cancelled when the deadline expires
+     * */
+    private final Map<PollRequest, PDU> inFlight = new IdentityHashMap<>();
+    /**
+     * Send timestamps of the requests in flight, in nanoseconds, used to measure round trip times
+     * */
+    private final Map<PollRequest, Long> sentAt = new IdentityHashMap<>();
+    /**
+     * Number of requests timed out, including the requests expired at the poll deadline
+     * */
+    private int timeouts;
+    /**
+     * Number of responses received from the device, including error responses and REPORTs
+     * */
+    private int responses;
+    /**
+     * Requests answered with an unknownEngineID/notInTimeWindow REPORT
+     * */
+    private final List<PollRequest> rediscoveryRequests = new ArrayList<>();
+    /**
+     * Number of responses being processed at the moment
+     * */
+    private int handling;
+    /**
+     * Set once the poll is complete or its deadline has expired, late responses are ignored
+     * */
+    private boolean closed;
+
+    public AsyncPoll(Snmp snmp, Target<?> target, PollingPlan plan, PollContext context, int maxInFlight, PollResult result) {
+        this.snmp = snmp;
+        this.target = target;
+        this.plan = plan;
+        this.context = context;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.result = result;
+    }
+
+    /**
+     * Submit a GET request for the scalar plan entries
+     *
+     * @param entryIndices indices of the entries to request, the array is shared and must not be modified
+     * */
+    public void submit(int[] entryIndices) {
+        submit(PollRequest.get(entryIndices));
+    }
+
+    /**
+     * Submit a walk of the plan walk entry, starting at the entry root OID
+     *
+     * @param walkEntry entry to walk
+     * */
+    public void submitWalk(PropertyEntry walkEntry) {
+        submit(PollRequest.walk(walkEntry, walkEntry.getOid(), context.getMaxRepetitions()));
+    }
+
+    /**
+     * Submit a request. Request is sent immediately, if there's an in-flight slot available, and queued otherwise.
+     *
+     * @param request to submit
+     * */
+    public void submit(PollRequest request) {
+        synchronized (this) {
+            if (closed) {
+                result.markMissed(request);
+                return;
+            }
+            queue.add(request);
+        }
+        dispatch();
+    }
+
+    /**
+     * Wait until all the submitted requests are answered, or the deadline expires.
+     * Requests still in flight or queued at the deadline are cancelled and marked as missed, see {@link PollResult#markMissed(PollRequest)}.
+     *
+     * @param timeoutMillis max time to wait, in milliseconds
+     * @return true if all requests completed before the deadline
+     * @throws InterruptedException if the calling thread is interrupted
+     * */
+    public boolean await(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Map<PollRequest, PDU> expired;
+        synchronized (this) {
+            long remaining;
+            while (!isComplete() && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            closed = true;
+            while (handling > 0) {
+                // responses being processed are not blocked on anything, wait for them to finish writing values
+                wait();
+            }
+            if (isComplete()) {
+                return true;
+            }
+            expired = new IdentityHashMap<>(inFlight);
+            for (PollRequest request : queue) {
+                expired.put(request, null);
+            }
+            inFlight.clear();
+            sentAt.clear();
+            queue.clear();
+            timeouts += expired.size();
+        }
+        if (logger.isWarnEnabled()) {
+            logger.warn(String.format("Poll deadline of %d ms expired with %d requests unanswered.", timeoutMillis, expired.size()));
+        }
+        for (Map.Entry<PollRequest, PDU> request : expired.entrySet()) {
+            if (request.getValue() != null) {
+                snmp.cancel(request.getValue(), this);
+            }
+            result.markMissed(request.getKey());
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves number of requests timed out, including the requests expired at the poll deadline
+     *
+     * @return number of timed out requests
+     * */
+    public synchronized int getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Retrieves number of responses received from the device, including error responses and REPORTs
+     *
+     * @return number of responses
+     * */
+    public synchronized int getResponses() {
+        return responses;
+    }
+
+    /**
+     * Retrieve and clear the requests answered with an unknownEngineID/notInTimeWindow REPORT,
+     * to be resent after the engine ID rediscovery
+     *
+     * @return list of requests to resend
+     * */
+    public synchronized List<PollRequest> drainRediscoveryRequests() {
+        if (rediscoveryRequests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<PollRequest> requests = new ArrayList<>(rediscoveryRequests);
+        rediscoveryRequests.clear();
+        return requests;
+    }
+
+    @Override
+    public <A extends org.snmp4j.smi.Address> void onResponse(ResponseEvent<A> event) {
+        snmp.cancel(event.getRequest(), this);
+        long receivedAt = System.nanoTime();
+        PollRequest request = (PollRequest) event.getUserObject();
+        Long requestSentAt;
+        synchronized (this) {
+            if (closed || inFlight.remove(request) == null) {
+                return;
+            }
+            requestSentAt = sentAt.remove(request);
+            if (event.getResponse() == null) {
+                countTimeout(target.getRetries());
+            } else {
+                responses++;
+            }
+            handling++;
+        }
+        PollingMetrics metrics = context.getMetrics();
+        if (event.getResponse() != null && requestSentAt != null) {
+            long rttNanos = receivedAt - requestSentAt;
+            long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, target.getTimeout()));
+            if (rttNanos < timeoutNanos) {
+                context.onRoundTrip(rttNanos);
+            }
+            metrics.onResponse(event.getResponse().getBERLength(), rttNanos, (int) Math.min(target.getRetries(), rttNanos / timeoutNanos));
+        }
+        try {
+            handleResponse(request, event.getResponse());
+        } catch (Exception e) {
+            logger.error("Unable to process SNMP response for " + request, e);
+        } finally {
+            synchronized (this) {
+                handling--;
+                if (isComplete() || closed) {
+                    notifyAll();
+                }
+            }
+            dispatch();
+        }
+    }
+
+    /**
+     * Process response of a single request
+     *
+     * @param request the response is received for
+     * @param response PDU, null if the request has timed out
+     * */
+    private void handleResponse(PollRequest request, PDU response) {
+        int requestSize = request.size();
+        if (response == null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Retrieval of %d OIDs timed out.", requestSize));
+            }
+            fill(request, REQUEST_TIMED_OUT);
+            return;
+        }
+        if (response.getType() == PDU.REPORT) {
+            context.getMetrics().onReport();
+            if (SnmpV3Session.requiresRediscovery(response)) {
+                synchronized (this) {
+                    rediscoveryRequests.add(request);
+                }
+                return;
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Unable to retrieve OIDs values: REPORT received: " + response);
+            }
+            fill(request, NOT_AVAILABLE);
+            return;
+        }
+        if (request.isWalk()) {
+            handleWalkResponse(request, response);
+            return;
+        }
+        int errorStatus = response.getErrorStatus();
+        if (errorStatus == PDU.tooBig && requestSize > 1) {
+            int limit = requestSize / 2;
+            if (logger.isInfoEnabled()) {
+                logger.info(String.format("Device responded with tooBig for %d OIDs, limiting requests to %d OIDs.", requestSize, limit));
+            }
+            context.onTooBig(limit);
+            context.getMetrics().onTooBigSplit();
+            int[] entryIndices = request.getEntryIndices();
+            submit(Arrays.copyOfRange(entryIndices, 0, limit));
+            submit(Arrays.copyOfRange(entryIndices, limit, entryIndices.length));
+            return;
+        }
+        if (errorStatus != PDU.noError) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("SNMP GET request for %d OIDs produced an error: %s", requestSize, response.getErrorStatusText()));
+            }
+            if (requestSize > 1) {
+                for (int entryIndex : request.getEntryIndices()) {
+                    submit(new int[]{entryIndex});
+                }
+            } else if (errorStatus == PDU.noSuchName) {
+                result.setErrorValue(request.getEntryIndices()[0], response.getErrorStatusText());
+            } else {
+                fill(request, response.getErrorStatusText());
+            }
+            return;
+        }
+
+        List<PropertyEntry> entries = plan.getEntries();
+        int[] entryIndices = request.getEntryIndices();
+        for (int i = 0; i < response.size(); i++) {
+            VariableBinding vb = response.get(i);
+            PropertyEntry entry = i < requestSize ? entries.get(entryIndices[i]) : null;
+            if (entry == null || !entry.getOid().equals(vb.getOid())) {
+                // agents are expected to keep the request order, fall back to the OID index otherwise
+                entry = findRequestedEntry(request, vb.getOid());
+                if (entry == null) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn(String.format("SNMP response OID %s does not match any requested entry of %s", vb.getOid(), request));
+                    }
+                    continue;
+                }
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Found matching variable binding, adding to monitored statistics: " + vb);
+            }
+            if (vb.isException()) {
+                result.setErrorValue(entry.getIndex(), vb.getVariable().toString());
+                continue;
+            }
+            String variableValue = context.formatVariable(vb.getVariable());
+            if (StringUtils.isNullOrEmpty(variableValue)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Variable value is empty, skipping.");
+                }
+                continue;
+            }
+            result.setValue(entry.getIndex(), variableValue.trim());
+            for (int sameOidEntry : plan.getSameOidEntries(entry.getIndex())) {
+                captureTypedValue(entries.get(sameOidEntry).getPropertyName(), vb);
+            }
+        }
+    }
+
+    /**
+     * Find entry of the request by the retrieved OID, using the plan {@link OidIndex}.
+     * If several requested entries share the OID, the first one without a retrieved value is preferred.
+     *
+     * @param request the response is received for
+     * @param oid retrieved OID
+     * @return requested entry with the OID, null if the OID was not requested
+     * */
+    private PropertyEntry findRequestedEntry(PollRequest request, OID oid) {
+        PropertyEntry found = null;
+        for (int entryIndex : plan.getOidIndex().getEntryIndices(oid)) {
+            for (int requestedIndex : request.getEntryIndices()) {
+                if (requestedIndex != entryIndex) {
+                    continue;
+                }
+                if (!result.isRetrieved(entryIndex)) {
+                    return plan.getEntries().get(entryIndex);
+                }
+                if (found == null) {
+                    found = plan.getEntries().get(entryIndex);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Process response of a walk request: values within the walk subtree are stored, and the walk is continued
+     * after the last retrieved OID, until the response leaves the subtree or reaches the end of MIB view.
+     * Walks answered with other error statuses are marked as missed
+     *
+     * @param request walk request the response is received for
+     * @param response PDU
+     * */
+    private void handleWalkResponse(PollRequest request, PDU response) {
+        PropertyEntry entry = request.getWalkEntry();
+        int errorStatus = response.getErrorStatus();
+        if (errorStatus == PDU.tooBig && request.getMaxRepetitions() > 1) {
+            int maxRepetitions = request.getMaxRepetitions() / 2;
+            if (logger.isInfoEnabled()) {
+                logger.info(String.format("Device responded with tooBig for %s walk, limiting max repetitions to %d.", entry, maxRepetitions));
+            }
+            context.getMetrics().onTooBigSplit();
+            submit(PollRequest.walk(entry, request.getStartOid(), maxRepetitions));
+            return;
+        }
+        if (errorStatus == PDU.noSuchName) {
+            // SNMPv1 agents report the end of MIB view with noSuchName
+            result.completeWalk(entry);
+            return;
+        }
+        if (errorStatus != PDU.noError) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("SNMP walk of %s produced an error: %s", entry, response.getErrorStatusText()));
+            }
+            result.markMissed(request);
+            return;
+        }
+
+        OID root = entry.getOid();
+        OID lastOid = request.getStartOid();
+        boolean finished = response.size() == 0;
+        for (VariableBinding vb : response.getVariableBindings()) {
+            OID oid = vb.getOid();
+            if (vb.isException() || oid.size() <= root.size() || !oid.startsWith(root)) {
+                finished = true;
+                break;
+            }
+            if (oid.compareTo(lastOid) <= 0) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn(String.format("SNMP walk of %s stopped: OID %s is not increasing.", entry, oid));
+                }
+                finished = true;
+                break;
+            }
+            lastOid = oid;
+            String variableValue = context.formatVariable(vb.getVariable());
+            if (StringUtils.isNotNullOrEmpty(variableValue)) {
+                String value = variableValue.trim();
+                for (PropertyEntry sameRootEntry : plan.getSameRootWalkEntries(entry)) {
+                    String propertyName = sameRootEntry.walkPropertyName(oid);
+                    result.putWalkValue(sameRootEntry, propertyName, value);
+                    captureTypedValue(propertyName, vb);
+                }
+            }
+        }
+        if (finished) {
+            result.completeWalk(entry);
+        } else {
+            submit(PollRequest.walk(entry, lastOid, request.getMaxRepetitions()));
+        }
+    }
+
+    /**
+     * Keep counters and sysUpTime of the response in their SNMP types, so rates and deltas can be derived
+     * by the {@link CounterTracker}
+     *
+     * @param propertyName of the retrieved value
+     * @param vb retrieved variable binding
+     * */
+    private void captureTypedValue(String propertyName, VariableBinding vb) {
+        if (!context.isTypedValues()) {
+            return;
+        }
+        Variable variable = vb.getVariable();
+        if (variable instanceof Counter32 || variable instanceof Counter64) {
+            result.putCounter(propertyName, variable);
+        } else if (variable instanceof TimeTicks && CounterTracker.SYS_UPTIME.equals(vb.getOid())) {
+            result.setAgentUptime(variable.toLong());
+        }
+    }
+
+    /**
+     * Send queued requests while there are in-flight slots available. PDUs are sent outside of the poll lock,
+     * so SNMP transport threads are never blocked by the sending thread.
+     * */
+    private void dispatch() {
+        while (true) {
+            PollRequest request;
+            PDU pdu;
+            synchronized (this) {
+                if (closed || queue.isEmpty() || inFlight.size() >= maxInFlight) {
+                    return;
+                }
+                request = queue.poll();
+                pdu = createRequestPDU(request);
+                inFlight.put(request, pdu);
+                sentAt.put(request, System.nanoTime());
+            }
+            context.getMetrics().onRequestSent(pdu.size(), pdu.getBERLength());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Sending SNMP request: " + request);
+            }
+            try {
+                snmp.send(pdu, target, request, this);
+            } catch (IOException e) {
+                logger.error("Unable to send SNMP request for " + request, e);
+                synchronized (this) {
+                    if (inFlight.remove(request) != null) {
+                        sentAt.remove(request);
+                        countTimeout(0);
+                        fill(request, REQUEST_TIMED_OUT);
+                    }
+                    if (isComplete()) {
+                        notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Build request PDU: GET for scalar entries, GETBULK (or GETNEXT, if bulk requests are not supported) for walks
+     *
+     * @param request to build PDU for
+     * @return new request PDU
+     * */
+    private PDU createRequestPDU(PollRequest request) {
+        PDU pdu = context.createPDU();
+        if (request.isWalk()) {
+            if (context.isBulkSupported()) {
+                pdu.setType(PDU.GETBULK);
+                pdu.setNonRepeaters(0);
+                pdu.setMaxRepetitions(request.getMaxRepetitions());
+            } else {
+                pdu.setType(PDU.GETNEXT);
+            }
+            pdu.add(new VariableBinding(request.getStartOid()));
+        } else {
+            pdu.setType(PDU.GET);
+            List<VariableBinding> requestBindings = plan.getRequestBindings();
+            for (int entryIndex : request.getEntryIndices()) {
+                pdu.add(requestBindings.get(entryIndex));
+            }
+        }
+        return pdu;
+    }
+
+    /**
+     * Count a request which has timed out, or could not be sent at all, towards {@link #getTimeouts()},
+     * so the request window and the timeout estimate back off, and the timeout metrics.
+     * Must be called under the poll lock
+     *
+     * @param retransmissions number of request retransmissions
+     * */
+    private void countTimeout(int retransmissions) {
+        timeouts++;
+        context.getMetrics().onTimeout(retransmissions);
+    }
+
+    /**
+     * Set the same value to all the entries of the request, used for timeouts and error responses
+     *
+     * @param request to set values for
+     * @param value to set
+     * */
+    private void fill(PollRequest request, String value) {
+        result.fill(request, value);
+    }
+
+    /**
+     * Check whether there are no requests queued, in flight or being processed. Must be called under the poll lock.
+     *
+     * @return true if the poll is complete
+     * */
+    private boolean isComplete() {
+        return queue.isEmpty() && inFlight.isEmpty() && handling == 0;
+    }
+}
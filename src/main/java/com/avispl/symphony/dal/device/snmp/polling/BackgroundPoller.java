@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stale-while-revalidate poller of a single device: statistics are refreshed by a scheduled task and published
+ * as an immutable {@link Snapshot} through a single atomic reference, so the statistics are served to the caller
+ * without waiting for the device. Values the device notifies of are published in between the refreshes,
+ * see {@link #publishValues(Map)}.
+ * <p>
+ * Refreshes of the same poller never overlap, the next refresh is scheduled the refresh interval after the previous
+ * one is complete. Tasks of all the pollers of the JVM run on a shared scheduler with {@link #THREADS_PROPERTY} daemon
+ * threads (4 by default), a refresh blocks a scheduler thread for the duration of the device poll, so slow devices
+ * delay the refreshes of other devices instead of the callers, which is reported as the {@link Snapshot} age.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class BackgroundPoller {
+    private static final Log logger = LogFactory.getLog(BackgroundPoller.class);
+    /**
+     * System property with the number of the background poll threads of the JVM
+     * */
+    public static final String THREADS_PROPERTY = "com.avispl.symphony.dal.snmp.backgroundPollThreads";
+
+    /**
+     * Scheduler of the JVM, created on the first {@link #start(long)}
+     * */
+    private static ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Device name, used in logs
+     * */
+    private final String name;
+    /**
+     * Polls the device and retrieves its statistics
+     * */
+    private final Callable<Map<String, String>> refreshTask;
+    /**
+     * Guards the refreshes, so they never overlap
+     * */
+    private final Object refreshLock = new Object();
+    /**
+     * Last published snapshot, null until the first refresh is complete or a snapshot is restored
+     * */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    /**
+     * Scheduled refresh task, null until {@link #start(long)} and after {@link #stop()}
+     * */
+    private ScheduledFuture<?> future;
+    /**
+     * Whether the poller has been stopped, stopped pollers are not restarted
+     * */
+    private volatile boolean stopped;
+
+    /**
+     * Create a poller, the refreshes are only scheduled once the poller is started
+     *
+     * @param name device name, used in logs
+     * @param refreshTask polls the device and retrieves its statistics
+     * */
+    public BackgroundPoller(String name, Callable<Map<String, String>> refreshTask) {
+        this.name = name;
+        this.refreshTask = refreshTask;
+    }
+
+    /**
+     * Schedule the refreshes, subsequent calls are ignored. The first refresh is scheduled right away if the snapshot
+     * is only restored, see {@link #restoreSnapshot(Map, long)}
+     *
+     * @param interval time between the end of a refresh and the start of the next one, in milliseconds
+     * */
+    public synchronized void start(long interval) {
+        if (future != null || stopped) {
+            return;
+        }
+        Snapshot current = snapshot.get();
+        long initialDelay = current != null && current.restored ? 0 : interval;
+        future = getScheduler().scheduleWithFixedDelay(this::refreshQuietly, initialDelay, Math.max(1, interval), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancel the scheduled refreshes and wait for the refresh in progress, if any
+     * */
+    public void stop() {
+        stopped = true;
+        synchronized (this) {
+            if (future != null) {
+                future.cancel(false);
+                future = null;
+            }
+        }
+        // refreshes acquiring the lock afterwards see the poller stopped
+        synchronized (refreshLock) {
+            snapshot.set(null);
+        }
+    }
+
+    /**
+     * Retrieves {@link #snapshot}
+     *
+     * @return value of {@link #snapshot}
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Retrieve the last published snapshot, refresh the statistics on the calling thread if there is none yet.
+     * Concurrent first calls wait for a single refresh
+     *
+     * @return published {@link Snapshot}
+     * @throws IllegalStateException if the poller is stopped
+     * */
+    public Snapshot getOrRefreshSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (refreshLock) {
+            current = snapshot.get();
+            return current != null ? current : refresh();
+        }
+    }
+
+    /**
+     * Publish statistics restored from the previous run as the first snapshot, so they are served right away,
+     * as stale, until the first refresh succeeds. Nothing is published if a snapshot already exists or after {@link #stop()}
+     *
+     * @param statistics restored statistics
+     * @param retrievedAt time the statistics were retrieved at, in milliseconds
+     * */
+    public void restoreSnapshot(Map<String, String> statistics, long retrievedAt) {
+        synchronized (refreshLock) {
+            if (!stopped) {
+                snapshot.compareAndSet(null, new Snapshot(new HashMap<>(statistics), true, true, retrievedAt, 0, null));
+            }
+        }
+    }
+
+    /**
+     * Publish values the device has notified of, along with the statistics of the last snapshot. The snapshot keeps
+     * its refresh time and failure, nothing is published before the first refresh or after {@link #stop()}
+     *
+     * @param values property values to replace in the snapshot statistics
+     * */
+    public void publishValues(Map<String, String> values) {
+        while (!stopped) {
+            Snapshot current = snapshot.get();
+            if (current == null) {
+                return;
+            }
+            Map<String, String> statistics = new HashMap<>(current.statistics);
+            statistics.putAll(values);
+            if (snapshot.compareAndSet(current, new Snapshot(statistics, current.retrieved, current.restored, current.refreshedAt, current.refreshDuration, current.failure))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Refresh the statistics on the calling thread and publish the new snapshot. If the refresh fails, the snapshot
+     * keeps the statistics of the previous refresh, along with the failure
+     *
+     * @return published {@link Snapshot}
+     * @throws IllegalStateException if the poller is stopped
+     * */
+    public Snapshot refresh() {
+        synchronized (refreshLock) {
+            if (stopped) {
+                throw new IllegalStateException("Background poller of device " + name + " is stopped.");
+            }
+            long start = System.nanoTime();
+            Snapshot current;
+            try {
+                Map<String, String> statistics = refreshTask.call();
+                current = new Snapshot(statistics, true, false, System.currentTimeMillis(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), null);
+                snapshot.set(current);
+            } catch (Exception e) {
+                long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                // notified values may be published concurrently, so the failure is applied to the latest snapshot
+                Snapshot previous;
+                do {
+                    previous = snapshot.get();
+                    current = previous == null ? new Snapshot(Collections.emptyMap(), false, false, System.currentTimeMillis(), duration, e)
+                            : new Snapshot(previous.statistics, previous.retrieved, previous.restored, previous.refreshedAt, duration, e);
+                } while (!snapshot.compareAndSet(previous, current));
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Scheduled refresh, failures are logged and kept in the snapshot, so the subsequent refreshes are not suppressed
+     * */
+    private void refreshQuietly() {
+        if (stopped) {
+            return;
+        }
+        Snapshot current = refresh();
+        if (current.failure != null) {
+            logger.error("Background poll of device " + name + " failed.", current.failure);
+        }
+    }
+
+    /**
+     * Retrieve the scheduler of the JVM, creating it if needed
+     *
+     * @return {@link ScheduledThreadPoolExecutor} instance
+     * */
+    private static synchronized ScheduledThreadPoolExecutor getScheduler() {
+        if (scheduler == null) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            scheduler = new ScheduledThreadPoolExecutor(Math.max(1, Integer.getInteger(THREADS_PROPERTY, 4)), runnable -> {
+                Thread thread = new Thread(runnable, "SNMPBackgroundPoller." + threadIndex.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+        }
+        return scheduler;
+    }
+
+    /**
+     * Immutable result of a refresh
+     * */
+    public static final class Snapshot {
+        /**
+         * Statistics of the last successful refresh, along with the values notified since
+         * */
+        private final Map<String, String> statistics;
+        /**
+         * Whether any refresh has succeeded, the {@link #statistics} are empty otherwise
+         * */
+        private final boolean retrieved;
+        /**
+         * Whether the {@link #statistics} are restored from the previous run and no refresh has succeeded since
+         * */
+        private final boolean restored;
+        /**
+         * Time the {@link #statistics} were retrieved at, in milliseconds
+         * */
+        private final long refreshedAt;
+        /**
+         * Duration of the last refresh, in milliseconds
+         * */
+        private final long refreshDuration;
+        /**
+         * Failure of the last refresh, null if it succeeded
+         * */
+        private final Exception failure;
+
+        private Snapshot(Map<String, String> statistics, boolean retrieved, boolean restored, long refreshedAt, long refreshDuration,
+                         Exception failure) {
+            this.statistics = Collections.unmodifiableMap(statistics);
+            this.retrieved = retrieved;
+            this.restored = restored;
+            this.refreshedAt = refreshedAt;
+            this.refreshDuration = refreshDuration;
+            this.failure = failure;
+        }
+
+        /**
+         * Retrieves {@link #statistics}
+         *
+         * @return value of {@link #statistics}
+         */
+        public Map<String, String> getStatistics() {
+            return statistics;
+        }
+
+        /**
+         * Retrieves {@link #retrieved}
+         *
+         * @return value of {@link #retrieved}
+         */
+        public boolean isRetrieved() {
+            return retrieved;
+        }
+
+        /**
+         * Retrieves {@link #restored}
+         *
+         * @return value of {@link #restored}
+         */
+        public boolean isRestored() {
+            return restored;
+        }
+
+        /**
+         * Retrieves {@link #refreshedAt}
+         *
+         * @return value of {@link #refreshedAt}
+         */
+        public long getRefreshedAt() {
+            return refreshedAt;
+        }
+
+        /**
+         * Retrieves {@link #refreshDuration}
+         *
+         * @return value of {@link #refreshDuration}
+         */
+        public long getRefreshDuration() {
+            return refreshDuration;
+        }
+
+        /**
+         * Retrieves {@link #failure}
+         *
+         * @return value of {@link #failure}
+         */
+        public Exception getFailure() {
+            return failure;
+        }
+
+        /**
+         * Age of the {@link #statistics}
+         *
+         * @param now current time, in milliseconds
+         * @return time since the statistics were retrieved, in milliseconds
+         * */
+        public long getAge(long now) {
+            return Math.max(0, now - refreshedAt);
+        }
+    }
+}
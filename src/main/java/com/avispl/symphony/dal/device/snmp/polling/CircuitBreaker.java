@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+/**
+ * Circuit breaker of a single device.
+ * <p>
+ * The breaker opens after a number of consecutive failed polls (polls without a single response from the device).
+ * While it is open, polls are skipped entirely. Once the backoff expires, the breaker is half-open: a single probe
+ * request is sent, on success the breaker closes and the full poll is performed, on failure the breaker opens again
+ * with the backoff doubled, up to the max backoff.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class CircuitBreaker {
+    /**
+     * Circuit breaker states
+     * */
+    public enum State {
+        /**
+         * Device is reachable, polls are performed as usual
+         * */
+        CLOSED,
+        /**
+         * Device is unreachable, polls are skipped until the backoff expires
+         * */
+        OPEN,
+        /**
+         * Backoff has expired, a probe request is to be sent
+         * */
+        HALF_OPEN
+    }
+
+    private State state = State.CLOSED;
+    /**
+     * Number of consecutive failed polls and probes
+     * */
+    private int consecutiveFailures;
+    /**
+     * Current backoff, in milliseconds
+     * */
+    private long backoff;
+    /**
+     * Time of the next probe, in milliseconds
+     * */
+    private long nextProbeAt;
+
+    /**
+     * Check whether the device should be polled
+     *
+     * @param now current time, in milliseconds
+     * @return {@link State#CLOSED} if the full poll should be performed, {@link State#HALF_OPEN} if the probe
+     * should be sent first, {@link State#OPEN} if the poll should be skipped
+     * */
+    public synchronized State acquire(long now) {
+        if (state == State.OPEN && now >= nextProbeAt) {
+            state = State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Record a successful poll or probe: the breaker is closed and the backoff is reset
+     * */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        backoff = 0;
+    }
+
+    /**
+     * Record a failed poll or probe. Breaker opens after failureThreshold consecutive failed polls,
+     * a failed probe reopens it with the backoff doubled.
+     *
+     * @param now current time, in milliseconds
+     * @param failureThreshold number of consecutive failed polls to open the breaker
+     * @param initialBackoff backoff after the breaker opens, in milliseconds
+     * @param maxBackoff max backoff, in milliseconds
+     * */
+    public synchronized void onFailure(long now, int failureThreshold, long initialBackoff, long maxBackoff) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN) {
+            backoff = Math.min(maxBackoff, Math.max(initialBackoff, backoff * 2));
+        } else if (state == State.CLOSED && consecutiveFailures >= Math.max(1, failureThreshold)) {
+            backoff = Math.min(maxBackoff, initialBackoff);
+        } else {
+            return;
+        }
+        state = State.OPEN;
+        nextProbeAt = now + backoff;
+    }
+
+    /**
+     * Close the breaker, e.g. when the device configuration changes
+     * */
+    public synchronized void reset() {
+        onSuccess();
+        nextProbeAt = 0;
+    }
+
+    /**
+     * Retrieves {@link #state}
+     *
+     * @return value of {@link #state}
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Retrieves {@link #consecutiveFailures}
+     *
+     * @return value of {@link #consecutiveFailures}
+     */
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Retrieves {@link #nextProbeAt}
+     *
+     * @return value of {@link #nextProbeAt}
+     */
+    public synchronized long getNextProbeAt() {
+        return nextProbeAt;
+    }
+}
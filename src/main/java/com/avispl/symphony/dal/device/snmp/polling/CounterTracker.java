@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.Variable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Previous samples of the Counter32/Counter64 properties of the device, used to derive deltas and per-second rates
+ * between polls, reported as {@link #DELTA_SUFFIX} and {@link #RATE_SUFFIX} suffixed properties.
+ * <p>
+ * If sysUpTime is polled, rates are based on the agent clock and a sysUpTime going backwards is treated as
+ * an agent restart: counters are rebased and no values are derived for the poll. A decreasing Counter32 is
+ * a wraparound otherwise. Without sysUpTime the adapter clock is used, and a decreasing Counter32 is only
+ * treated as a wraparound if the wrapped delta is below half of the counter range, and as a restart otherwise.
+ * A decreasing Counter64 is always a discontinuity, since it does not wrap in practice.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class CounterTracker {
+    private static final Log logger = LogFactory.getLog(CounterTracker.class);
+    /**
+     * sysUpTime.0, hundredths of a second since the agent network management portion was last re-initialized
+     * */
+    public static final OID SYS_UPTIME = new OID("1.3.6.1.2.1.1.3.0");
+    /**
+     * Suffix of the derived property with the counter increase since the previous poll
+     * */
+    public static final String DELTA_SUFFIX = "Delta";
+    /**
+     * Suffix of the derived property with the counter increase per second since the previous poll
+     * */
+    public static final String RATE_SUFFIX = "Rate(/s)";
+    private static final long COUNTER32_RANGE = 1L << 32;
+
+    /**
+     * Previous samples, keyed by property name
+     * */
+    private final Map<String, Sample> samples = new HashMap<>();
+    /**
+     * sysUpTime of the previous poll, -1 if not polled
+     * */
+    private long previousUptime = -1;
+
+    /**
+     * Derive deltas and rates of the counters since the previous poll, and retain the counters as the next samples
+     *
+     * @param counters Counter32/Counter64 values of the poll, keyed by property name
+     * @param uptime sysUpTime of the poll, in hundredths of a second, -1 if not polled
+     * @param now poll time, in milliseconds
+     * @param statistics map to put the derived values into
+     * */
+    public synchronized void derive(Map<String, Variable> counters, long uptime, long now, Map<String, String> statistics) {
+        boolean restarted = uptime >= 0 && previousUptime >= 0 && uptime < previousUptime;
+        if (uptime >= 0) {
+            previousUptime = uptime;
+        }
+        if (restarted) {
+            if (logger.isInfoEnabled()) {
+                logger.info("sysUpTime went backwards, agent has restarted: counters are rebased.");
+            }
+            samples.clear();
+        }
+        for (Map.Entry<String, Variable> counter : counters.entrySet()) {
+            Variable variable = counter.getValue();
+            boolean counter64 = variable instanceof Counter64;
+            if (!counter64 && !(variable instanceof Counter32)) {
+                continue;
+            }
+            long value = variable.toLong();
+            Sample current = new Sample(value, counter64, uptime, now);
+            Sample previous = samples.put(counter.getKey(), current);
+            if (previous == null || previous.counter64 != counter64) {
+                continue;
+            }
+            long delta = value - previous.value;
+            if (Long.compareUnsigned(value, previous.value) < 0) {
+                if (counter64 || (uptime < 0 && delta + COUNTER32_RANGE >= COUNTER32_RANGE / 2)) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug(String.format("Counter %s decreased from %s to %s, treated as a discontinuity.",
+                                counter.getKey(), Long.toUnsignedString(previous.value), Long.toUnsignedString(value)));
+                    }
+                    continue;
+                }
+                delta += COUNTER32_RANGE;
+            }
+            statistics.put(counter.getKey() + DELTA_SUFFIX, Long.toUnsignedString(delta));
+            double elapsedSeconds = uptime >= 0 && previous.uptime >= 0 ? (uptime - previous.uptime) / 100.0 : (now - previous.time) / 1000.0;
+            if (elapsedSeconds > 0) {
+                statistics.put(counter.getKey() + RATE_SUFFIX, PollingMetrics.formatDecimal(unsignedToDouble(delta) / elapsedSeconds));
+            }
+        }
+    }
+
+    /**
+     * Drop all the samples, so the next poll only retains the counters
+     * */
+    public synchronized void reset() {
+        samples.clear();
+        previousUptime = -1;
+    }
+
+    /**
+     * Convert unsigned 64-bit value to double
+     *
+     * @param value unsigned value
+     * @return double value
+     * */
+    private static double unsignedToDouble(long value) {
+        return value >= 0 ? value : (value >>> 1) * 2.0 + (value & 1);
+    }
+
+    /**
+     * Counter value along with the agent and adapter time it was retrieved at
+     * */
+    private static final class Sample {
+        private final long value;
+        private final boolean counter64;
+        private final long uptime;
+        private final long time;
+
+        private Sample(long value, boolean counter64, long uptime, long time) {
+            this.value = value;
+            this.counter64 = counter64;
+            this.uptime = uptime;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets: bucket i covers latencies up to 100 * 2^(i/2) microseconds,
+ * from 100 us up to about 100 s, the last bucket collects everything above. Percentiles are reported as the upper
+ * bound of the bucket they fall into, so the relative error is below 42%.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class LatencyHistogram {
+    /**
+     * Number of buckets
+     * */
+    private static final int BUCKETS = 42;
+    /**
+     * Upper bounds of the buckets, in microseconds
+     * */
+    private static final long[] UPPER_BOUNDS = new long[BUCKETS];
+
+    static {
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            UPPER_BOUNDS[i] = Math.round(100 * Math.pow(2, i / 2.0));
+        }
+        UPPER_BOUNDS[BUCKETS - 1] = Long.MAX_VALUE;
+    }
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Record a latency sample
+     *
+     * @param nanos latency, in nanoseconds
+     * */
+    public void record(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+        int bucket = 0;
+        while (micros > UPPER_BOUNDS[bucket]) {
+            bucket++;
+        }
+        counts.incrementAndGet(bucket);
+    }
+
+    /**
+     * Retrieve number of samples recorded
+     *
+     * @return number of samples
+     * */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Retrieve latency percentile. Samples recorded concurrently may or may not be taken into account.
+     *
+     * @param percentile in range of (0, 100]
+     * @return upper bound of the percentile bucket in milliseconds, 0 if no samples were recorded
+     * */
+    public double getPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            // counts only grow, so the rank is reached even if samples are recorded in between
+            cumulative += counts.get(i);
+            if (cumulative >= rank) {
+                return UPPER_BOUNDS[i] / 1000.0;
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Drop all the samples
+     * */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+}
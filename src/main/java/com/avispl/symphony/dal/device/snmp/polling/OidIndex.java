@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.snmp4j.smi.OID;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * OID trie of the {@link PollingPlan} entries, used to map retrieved variable bindings back to the plan entries.
+ * <p>
+ * Each node is an OID sub-identifier, children are kept in sorted arrays, so a lookup costs a binary search
+ * per sub-identifier of the looked up OID, regardless of the number of entries. OIDs are compared as parsed
+ * {@link OID}s, so .1.3.6.1.2.1.1.5.0 and 1.3.6.1.2.1.1.5.0 are the same OID, and 1.1.0 never matches 2.1.1.0.
+ * Scalar entries are matched by the exact OID, several entries may share the same OID.
+ * Walk entries are matched by the longest walk root, the OID is a descendant of, e.g. a table column entry
+ * matches the OIDs of all its rows, see {@link PropertyEntry#walkPropertyName(OID)}.
+ * The index is immutable once built and is safe to use from the SNMP transport threads.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class OidIndex {
+    private static final int[] NO_ENTRIES = new int[0];
+
+    private final Node root;
+
+    /**
+     * Build index of the plan entries
+     *
+     * @param entries scalar entries, indexed by {@link PropertyEntry#getIndex()}
+     * @param walkEntries walk entries
+     * */
+    OidIndex(List<PropertyEntry> entries, List<PropertyEntry> walkEntries) {
+        NodeBuilder rootBuilder = new NodeBuilder();
+        for (PropertyEntry entry : entries) {
+            NodeBuilder node = rootBuilder.descend(entry.getOid());
+            node.entries = Arrays.copyOf(node.entries, node.entries.length + 1);
+            node.entries[node.entries.length - 1] = entry.getIndex();
+        }
+        for (PropertyEntry walkEntry : walkEntries) {
+            NodeBuilder node = rootBuilder.descend(walkEntry.getOid());
+            if (node.walkEntry == null) {
+                node.walkEntry = walkEntry;
+            }
+        }
+        root = rootBuilder.build();
+    }
+
+    /**
+     * Find scalar entries of the OID
+     *
+     * @param oid retrieved OID
+     * @return indices of the scalar entries with exactly the same OID, empty if there are none. Shared, must not be modified
+     * */
+    public int[] getEntryIndices(OID oid) {
+        Node node = root;
+        for (int i = 0; i < oid.size() && node != null; i++) {
+            node = node.child(oid.get(i));
+        }
+        return node == null ? NO_ENTRIES : node.entries;
+    }
+
+    /**
+     * Find walk entry the OID belongs to
+     *
+     * @param oid retrieved OID
+     * @return walk entry with the longest root OID, the OID is a descendant of, null if there is none
+     * */
+    public PropertyEntry getWalkEntry(OID oid) {
+        PropertyEntry walkEntry = null;
+        Node node = root;
+        // the OID itself is not a row of the walk, so the last sub-identifier is never a walk root
+        for (int i = 0; i < oid.size() - 1; i++) {
+            node = node.child(oid.get(i));
+            if (node == null) {
+                break;
+            }
+            if (node.walkEntry != null) {
+                walkEntry = node.walkEntry;
+            }
+        }
+        return walkEntry;
+    }
+
+    /**
+     * Immutable trie node
+     * */
+    private static final class Node {
+        /**
+         * Sub-identifiers of the children, sorted as unsigned values
+         * */
+        private final int[] arcs;
+        private final Node[] children;
+        /**
+         * Indices of the scalar entries, which OID ends at the node
+         * */
+        private final int[] entries;
+        /**
+         * Walk entry, which root OID ends at the node
+         * */
+        private final PropertyEntry walkEntry;
+
+        private Node(int[] arcs, Node[] children, int[] entries, PropertyEntry walkEntry) {
+            this.arcs = arcs;
+            this.children = children;
+            this.entries = entries;
+            this.walkEntry = walkEntry;
+        }
+
+        /**
+         * Find child node by sub-identifier
+         *
+         * @param arc sub-identifier
+         * @return child node, null if there is none
+         * */
+        private Node child(int arc) {
+            int low = 0;
+            int high = arcs.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = Integer.compareUnsigned(arcs[middle], arc);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return children[middle];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Mutable trie node, used while the index is built
+     * */
+    private static final class NodeBuilder {
+        private final Map<Integer, NodeBuilder> children = new TreeMap<>(Integer::compareUnsigned);
+        private int[] entries = NO_ENTRIES;
+        private PropertyEntry walkEntry;
+
+        /**
+         * Find or create the node of the OID, relative to this node
+         *
+         * @param oid to find the node for
+         * @return node of the last OID sub-identifier
+         * */
+        private NodeBuilder descend(OID oid) {
+            NodeBuilder node = this;
+            for (int i = 0; i < oid.size(); i++) {
+                node = node.children.computeIfAbsent(oid.get(i), arc -> new NodeBuilder());
+            }
+            return node;
+        }
+
+        /**
+         * Build immutable node with all the descendants
+         *
+         * @return immutable node
+         * */
+        private Node build() {
+            int[] arcs = new int[children.size()];
+            Node[] childNodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Integer, NodeBuilder> child : children.entrySet()) {
+                arcs[i] = child.getKey();
+                childNodes[i] = child.getValue().build();
+                i++;
+            }
+            return new Node(arcs, childNodes, entries, walkEntry);
+        }
+    }
+}
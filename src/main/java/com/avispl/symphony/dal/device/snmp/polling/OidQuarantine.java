@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+
+/**
+ * Quarantine of the {@link PollingPlan} scalar entries, which OIDs the device doesn't implement.
+ * <p>
+ * Entries answered with noSuchObject, noSuchInstance, endOfMibView or an SNMPv1 noSuchName error a number of consecutive
+ * polls in a row are quarantined: they are left out of the request batches, and re-checked with single-OID requests
+ * once the backoff expires. A failed re-check doubles the backoff, up to the max backoff, a retrieved value releases
+ * the entry. Timeouts are not counted either way. While quarantined, the last error value of the entry is reported.
+ * The quarantine is bound to a single plan and is dropped along with it once snmpProperties change.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class OidQuarantine {
+    private static final Log logger = LogFactory.getLog(OidQuarantine.class);
+    private static final int[] NO_ENTRIES = new int[0];
+
+    private final PollingPlan plan;
+    /**
+     * Number of consecutive error values, indexed by plan entry index
+     * */
+    private final int[] consecutiveErrors;
+    /**
+     * Time of the next re-check of the quarantined entries, in milliseconds, 0 if the entry is not quarantined,
+     * indexed by plan entry index
+     * */
+    private final long[] recheckAt;
+    /**
+     * Current backoff of the quarantined entries, in milliseconds, indexed by plan entry index
+     * */
+    private final long[] backoff;
+    /**
+     * Last error value of the entries, reported while they are quarantined, indexed by plan entry index
+     * */
+    private final String[] errorValues;
+    /**
+     * Number of the quarantined entries
+     * */
+    private int quarantinedEntries;
+
+    public OidQuarantine(PollingPlan plan) {
+        this.plan = plan;
+        int size = plan.getEntries().size();
+        this.consecutiveErrors = new int[size];
+        this.recheckAt = new long[size];
+        this.backoff = new long[size];
+        this.errorValues = new String[size];
+    }
+
+    /**
+     * Check whether the quarantine is bound to the plan
+     *
+     * @param plan to check
+     * @return true if the quarantine was created for the plan
+     * */
+    public boolean isBoundTo(PollingPlan plan) {
+        return this.plan == plan;
+    }
+
+    /**
+     * Retrieve due entries, which are not quarantined
+     *
+     * @param dueEntries indices of the entries due for the poll
+     * @return indices of the entries to batch, the same array if none of them is quarantined
+     * */
+    public synchronized int[] activeEntries(int[] dueEntries) {
+        if (quarantinedEntries == 0) {
+            return dueEntries;
+        }
+        int[] active = new int[dueEntries.length];
+        int activeCount = 0;
+        for (int entryIndex : dueEntries) {
+            if (recheckAt[entryIndex] == 0) {
+                active[activeCount++] = entryIndex;
+            }
+        }
+        int[] result = new int[activeCount];
+        System.arraycopy(active, 0, result, 0, activeCount);
+        return result;
+    }
+
+    /**
+     * Retrieve due entries, which are quarantined and due for a re-check
+     *
+     * @param dueEntries indices of the entries due for the poll
+     * @param now current time, in milliseconds
+     * @return indices of the entries to re-check
+     * */
+    public synchronized int[] recheckEntries(int[] dueEntries, long now) {
+        if (quarantinedEntries == 0) {
+            return NO_ENTRIES;
+        }
+        int[] recheck = new int[dueEntries.length];
+        int recheckCount = 0;
+        for (int entryIndex : dueEntries) {
+            if (recheckAt[entryIndex] != 0 && recheckAt[entryIndex] <= now) {
+                recheck[recheckCount++] = entryIndex;
+            }
+        }
+        int[] result = new int[recheckCount];
+        System.arraycopy(recheck, 0, result, 0, recheckCount);
+        return result;
+    }
+
+    /**
+     * Account the responses of the poll: entries with an error value are quarantined after errorThreshold consecutive
+     * polls or have their backoff doubled after a failed re-check, entries with a retrieved value are released.
+     * Entries which were not requested or timed out are left as is
+     *
+     * @param result of the poll
+     * @param now poll time, in milliseconds
+     * @param errorThreshold number of consecutive error values to quarantine the entry
+     * @param initialBackoff time until the first re-check, in milliseconds
+     * @param maxBackoff max time between re-checks, in milliseconds
+     * */
+    public synchronized void update(PollResult result, long now, int errorThreshold, long initialBackoff, long maxBackoff) {
+        for (int i = 0; i < consecutiveErrors.length; i++) {
+            if (result.isRetrieved(i)) {
+                if (recheckAt[i] != 0) {
+                    release(i);
+                }
+                consecutiveErrors[i] = 0;
+                continue;
+            }
+            if (!result.isError(i)) {
+                continue;
+            }
+            errorValues[i] = result.getValue(i);
+            consecutiveErrors[i]++;
+            if (recheckAt[i] != 0) {
+                backoff[i] = Math.min(backoff[i] * 2, Math.max(initialBackoff, maxBackoff));
+                recheckAt[i] = now + backoff[i];
+            } else if (consecutiveErrors[i] >= errorThreshold) {
+                backoff[i] = Math.max(1, initialBackoff);
+                recheckAt[i] = now + backoff[i];
+                quarantinedEntries++;
+                if (logger.isInfoEnabled()) {
+                    logger.info(String.format("OID %s of %s responded with %s %d times, quarantining it for %d ms.",
+                            plan.getEntries().get(i).getOid(), plan.getEntries().get(i).getPropertyName(), errorValues[i],
+                            consecutiveErrors[i], backoff[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Put the last error values of the quarantined entries into the statistics map
+     *
+     * @param statistics map to put values into
+     * */
+    public synchronized void putValues(Map<String, String> statistics) {
+        if (quarantinedEntries == 0) {
+            return;
+        }
+        for (int i = 0; i < recheckAt.length; i++) {
+            if (recheckAt[i] != 0) {
+                statistics.put(plan.getEntries().get(i).getPropertyName(), errorValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Retrieve number of the quarantined OIDs, entries with the same OID are counted once
+     *
+     * @return number of quarantined OIDs
+     * */
+    public synchronized int getQuarantinedCount() {
+        if (quarantinedEntries == 0) {
+            return 0;
+        }
+        int quarantinedOids = 0;
+        for (int i = 0; i < recheckAt.length; i++) {
+            if (recheckAt[i] != 0 && plan.getSameOidEntries(i)[0] == i) {
+                quarantinedOids++;
+            }
+        }
+        return quarantinedOids;
+    }
+
+    /**
+     * Check whether the entry is quarantined
+     *
+     * @param entryIndex plan entry index
+     * @return true if the entry is left out of the request batches
+     * */
+    public synchronized boolean isQuarantined(int entryIndex) {
+        return recheckAt[entryIndex] != 0;
+    }
+
+    /**
+     * Release the quarantined entry, so it is batched once again
+     *
+     * @param entryIndex plan entry index
+     * */
+    private void release(int entryIndex) {
+        recheckAt[entryIndex] = 0;
+        backoff[entryIndex] = 0;
+        errorValues[entryIndex] = null;
+        quarantinedEntries--;
+        if (logger.isInfoEnabled()) {
+            PropertyEntry entry = plan.getEntries().get(entryIndex);
+            logger.info(String.format("OID %s of %s responded with a value, releasing it from quarantine.", entry.getOid(), entry.getPropertyName()));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.snmp4j.PDU;
+import org.snmp4j.smi.Variable;
+
+/**
+ * Device specific part of an {@link AsyncPoll}: request PDU type, walk settings, value formatting and
+ * feedback on device limits, learned during the poll
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public interface PollContext {
+    /**
+     * Create an empty request PDU of the device SNMP version
+     *
+     * @return new {@link PDU} instance
+     * */
+    PDU createPDU();
+
+    /**
+     * Check whether the device SNMP version supports GETBULK requests, GETNEXT is used for walks otherwise
+     *
+     * @return true for SNMPv2c and SNMPv3
+     * */
+    boolean isBulkSupported();
+
+    /**
+     * Max repetitions of the GETBULK walk requests
+     *
+     * @return max number of variable bindings per GETBULK response
+     * */
+    int getMaxRepetitions();
+
+    /**
+     * Convert retrieved variable to a property value
+     *
+     * @param variable to convert
+     * @return string value of the variable
+     * */
+    String formatVariable(Variable variable);
+
+    /**
+     * Check whether counters and sysUpTime should be retained in their SNMP types, to derive counter rates and deltas
+     *
+     * @return true if typed values are enabled for the device
+     * */
+    boolean isTypedValues();
+
+    /**
+     * Called when the device responds with tooBig, with the reduced number of variable bindings per request
+     *
+     * @param varbindsLimit new max number of variable bindings per request
+     * */
+    void onTooBig(int varbindsLimit);
+
+    /**
+     * Called when a response is received within the first attempt timeout, so the request was not retransmitted
+     *
+     * @param rttNanos round trip time of the request, in nanoseconds
+     * */
+    void onRoundTrip(long rttNanos);
+
+    /**
+     * Retrieve transport metrics of the device, updated by the poll
+     *
+     * @return {@link PollingMetrics} instance
+     * */
+    PollingMetrics getMetrics();
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.snmp4j.smi.OID;
+
+import java.util.Arrays;
+
+/**
+ * Single request of an {@link AsyncPoll}: either a GET request, covering a set of scalar entries of
+ * the {@link PollingPlan}, or a GETBULK request of a walk entry, starting after the startOid
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class PollRequest {
+    /**
+     * No entries, used for walk requests
+     * */
+    private static final int[] NO_ENTRIES = new int[0];
+    /**
+     * Indices of the plan scalar entries of the request
+     * */
+    private final int[] entryIndices;
+    /**
+     * Walk entry of the request, null for GET requests
+     * */
+    private final PropertyEntry walkEntry;
+    /**
+     * OID to continue the walk after
+     * */
+    private final OID startOid;
+    /**
+     * Max repetitions of the GETBULK request
+     * */
+    private final int maxRepetitions;
+
+    private PollRequest(int[] entryIndices, PropertyEntry walkEntry, OID startOid, int maxRepetitions) {
+        this.entryIndices = entryIndices;
+        this.walkEntry = walkEntry;
+        this.startOid = startOid;
+        this.maxRepetitions = maxRepetitions;
+    }
+
+    /**
+     * Create GET request for the scalar entries of the plan
+     *
+     * @param entryIndices indices of the entries to request, the array is shared and must not be modified
+     * @return new {@link PollRequest}
+     * */
+    public static PollRequest get(int[] entryIndices) {
+        return new PollRequest(entryIndices, null, null, 0);
+    }
+
+    /**
+     * Create GETBULK request of a walk entry
+     *
+     * @param walkEntry entry to walk
+     * @param startOid OID to continue the walk after
+     * @param maxRepetitions max repetitions of the GETBULK request
+     * @return new {@link PollRequest}
+     * */
+    public static PollRequest walk(PropertyEntry walkEntry, OID startOid, int maxRepetitions) {
+        return new PollRequest(NO_ENTRIES, walkEntry, startOid, Math.max(1, maxRepetitions));
+    }
+
+    /**
+     * Retrieves {@link #entryIndices}
+     *
+     * @return value of {@link #entryIndices}. Shared, must not be modified
+     */
+    public int[] getEntryIndices() {
+        return entryIndices;
+    }
+
+    /**
+     * Retrieves {@link #walkEntry}
+     *
+     * @return value of {@link #walkEntry}
+     */
+    public PropertyEntry getWalkEntry() {
+        return walkEntry;
+    }
+
+    /**
+     * Retrieves {@link #startOid}
+     *
+     * @return value of {@link #startOid}
+     */
+    public OID getStartOid() {
+        return startOid;
+    }
+
+    /**
+     * Retrieves {@link #maxRepetitions}
+     *
+     * @return value of {@link #maxRepetitions}
+     */
+    public int getMaxRepetitions() {
+        return maxRepetitions;
+    }
+
+    /**
+     * Check whether the request is a walk request
+     *
+     * @return true for GETBULK walk requests
+     * */
+    public boolean isWalk() {
+        return walkEntry != null;
+    }
+
+    /**
+     * Number of variable bindings in the request
+     *
+     * @return request size
+     * */
+    public int size() {
+        return isWalk() ? 1 : entryIndices.length;
+    }
+
+    @Override
+    public String toString() {
+        if (isWalk()) {
+            return "PollRequest[walk " + walkEntry + " after " + startOid + "]";
+        }
+        return "PollRequest" + Arrays.toString(entryIndices);
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.snmp4j.smi.Variable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Values collected by the {@link AsyncPoll}s of a single poll cycle.
+ * <p>
+ * Scalar values are stored into slots, indexed by the plan entry index, along with the flag of whether the slot
+ * holds a retrieved value or an error marker (timeout, error status text), and whether the device doesn't implement
+ * the OID (noSuchObject, noSuchInstance, endOfMibView or noSuchName), see {@link OidQuarantine}. Walk values are grouped by walk entry.
+ * The same result may be shared by several polls, e.g. when requests are resent after an SNMPv3 engine ID rediscovery,
+ * and is reused by the subsequent poll cycles of the same plan, see {@link #reset()}, so slots are only allocated once per plan.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class PollResult {
+    /**
+     * Plan the slots are allocated for
+     * */
+    private final PollingPlan plan;
+    /**
+     * Retrieved values and error markers, indexed by plan entry index
+     * */
+    private final String[] values;
+    /**
+     * Whether the value slot holds a value retrieved from the device, indexed by plan entry index
+     * */
+    private final boolean[] retrieved;
+    /**
+     * Whether the device has responded with an error value for the entry OID, indexed by plan entry index
+     * */
+    private final boolean[] errors;
+    /**
+     * Whether the entry request has missed the poll deadline, indexed by plan entry index
+     * */
+    private final boolean[] missed;
+    /**
+     * Values retrieved by walks, keyed by index-suffixed property name, grouped by walk entry
+     * */
+    private final Map<PropertyEntry, Map<String, String>> walkValues = new ConcurrentHashMap<>();
+    /**
+     * Walk entries which subtree was walked till the end
+     * */
+    private final Set<PropertyEntry> completedWalks = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    /**
+     * Walk entries which walk has missed the poll deadline
+     * */
+    private final Set<PropertyEntry> missedWalks = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    /**
+     * Counter32/Counter64 values, keyed by property name, retained when typed values are enabled
+     * */
+    private final Map<String, Variable> counters = new ConcurrentHashMap<>();
+    /**
+     * sysUpTime of the agent, in hundredths of a second, -1 if not retrieved
+     * */
+    private volatile long agentUptime = -1;
+
+    public PollResult(PollingPlan plan) {
+        this.plan = plan;
+        this.values = new String[plan.getEntries().size()];
+        this.retrieved = new boolean[values.length];
+        this.errors = new boolean[values.length];
+        this.missed = new boolean[values.length];
+    }
+
+    /**
+     * Check whether the result slots are allocated for the plan
+     *
+     * @param plan to check
+     * @return true if the result can be used to poll the plan
+     * */
+    public boolean isBoundTo(PollingPlan plan) {
+        return this.plan == plan;
+    }
+
+    /**
+     * Clear all the values of the previous poll cycle, keeping the allocated slots.
+     * Must not be called while polls of the previous cycle are still in progress.
+     * */
+    public void reset() {
+        Arrays.fill(values, null);
+        Arrays.fill(retrieved, false);
+        Arrays.fill(errors, false);
+        Arrays.fill(missed, false);
+        walkValues.clear();
+        completedWalks.clear();
+        missedWalks.clear();
+        counters.clear();
+        agentUptime = -1;
+    }
+
+    /**
+     * Store value retrieved from the device for the entry and all the entries with the same OID
+     *
+     * @param entryIndex plan entry index
+     * @param value retrieved value
+     * */
+    public void setValue(int entryIndex, String value) {
+        for (int sameOidEntry : plan.getSameOidEntries(entryIndex)) {
+            values[sameOidEntry] = value;
+            retrieved[sameOidEntry] = true;
+            errors[sameOidEntry] = false;
+        }
+    }
+
+    /**
+     * Store error value the device has responded with for the entry and all the entries with the same OID,
+     * e.g. noSuchInstance. The value is reported, but is not counted as retrieved
+     *
+     * @param entryIndex plan entry index
+     * @param error value to report
+     * */
+    public void setErrorValue(int entryIndex, String error) {
+        for (int sameOidEntry : plan.getSameOidEntries(entryIndex)) {
+            values[sameOidEntry] = error;
+            retrieved[sameOidEntry] = false;
+            errors[sameOidEntry] = true;
+        }
+    }
+
+    /**
+     * Store error marker for the entry and all the entries with the same OID, e.g. {@link AsyncPoll#REQUEST_TIMED_OUT}
+     *
+     * @param entryIndex plan entry index
+     * @param error marker to report instead of the value
+     * */
+    public void setError(int entryIndex, String error) {
+        for (int sameOidEntry : plan.getSameOidEntries(entryIndex)) {
+            values[sameOidEntry] = error;
+            retrieved[sameOidEntry] = false;
+            errors[sameOidEntry] = false;
+        }
+    }
+
+    /**
+     * Store error marker for all the scalar entries of the request
+     *
+     * @param request to set error marker for
+     * @param error marker to report instead of the values
+     * */
+    public void fill(PollRequest request, String error) {
+        for (int entryIndex : request.getEntryIndices()) {
+            setError(entryIndex, error);
+        }
+    }
+
+    /**
+     * Mark the request entries as missed the poll deadline, or a failed walk, scalar entries are reported as timed out
+     *
+     * @param request which has missed the poll deadline or failed
+     * */
+    public void markMissed(PollRequest request) {
+        if (request.isWalk()) {
+            missedWalks.addAll(plan.getSameRootWalkEntries(request.getWalkEntry()));
+            return;
+        }
+        for (int entryIndex : request.getEntryIndices()) {
+            setError(entryIndex, AsyncPoll.REQUEST_TIMED_OUT);
+            for (int sameOidEntry : plan.getSameOidEntries(entryIndex)) {
+                missed[sameOidEntry] = true;
+            }
+        }
+    }
+
+    /**
+     * Check whether the entry request has missed the poll deadline
+     *
+     * @param entryIndex plan entry index
+     * @return true if the entry request was not answered before the poll deadline
+     * */
+    public boolean isMissed(int entryIndex) {
+        return missed[entryIndex];
+    }
+
+    /**
+     * Check whether the walk has missed the poll deadline
+     *
+     * @param walkEntry walked entry
+     * @return true if the walk was not complete before the poll deadline
+     * */
+    public boolean isWalkMissed(PropertyEntry walkEntry) {
+        return missedWalks.contains(walkEntry);
+    }
+
+    /**
+     * Retrieve number of OIDs which requests have missed the poll deadline, each walk is counted as a single OID
+     *
+     * @return number of missed OIDs
+     * */
+    public int getMissedCount() {
+        int missedCount = missedWalks.size();
+        for (boolean entryMissed : missed) {
+            if (entryMissed) {
+                missedCount++;
+            }
+        }
+        return missedCount;
+    }
+
+    /**
+     * Retrieve value or error marker of the entry
+     *
+     * @param entryIndex plan entry index
+     * @return value, error marker or null if the entry was not requested
+     * */
+    public String getValue(int entryIndex) {
+        return values[entryIndex];
+    }
+
+    /**
+     * Check whether the entry value was retrieved from the device
+     *
+     * @param entryIndex plan entry index
+     * @return true if the value was retrieved, false if the entry was not requested or the request failed
+     * */
+    public boolean isRetrieved(int entryIndex) {
+        return retrieved[entryIndex];
+    }
+
+    /**
+     * Check whether the device has responded with an error value for the entry OID, see {@link #setErrorValue(int, String)}
+     *
+     * @param entryIndex plan entry index
+     * @return true if the device doesn't implement the entry OID
+     * */
+    public boolean isError(int entryIndex) {
+        return errors[entryIndex];
+    }
+
+    /**
+     * Store value retrieved by a walk
+     *
+     * @param walkEntry walked entry
+     * @param propertyName index-suffixed property name
+     * @param value retrieved value
+     * */
+    public void putWalkValue(PropertyEntry walkEntry, String propertyName, String value) {
+        walkValues.computeIfAbsent(walkEntry, entry -> new ConcurrentHashMap<>()).put(propertyName, value);
+    }
+
+    /**
+     * Retrieve values of the walk entry
+     *
+     * @param walkEntry walked entry
+     * @return values keyed by index-suffixed property name, empty if nothing was retrieved
+     * */
+    public Map<String, String> getWalkValues(PropertyEntry walkEntry) {
+        Map<String, String> entryValues = walkValues.get(walkEntry);
+        return entryValues == null ? Collections.emptyMap() : entryValues;
+    }
+
+    /**
+     * Mark the walk entry subtree as walked till the end, for all the walk entries of the same root OID
+     *
+     * @param walkEntry walked entry
+     * */
+    public void completeWalk(PropertyEntry walkEntry) {
+        completedWalks.addAll(plan.getSameRootWalkEntries(walkEntry));
+    }
+
+    /**
+     * Check whether the walk entry subtree was walked till the end
+     *
+     * @param walkEntry walked entry
+     * @return true if the walk is complete
+     * */
+    public boolean isWalkCompleted(PropertyEntry walkEntry) {
+        return completedWalks.contains(walkEntry);
+    }
+
+    /**
+     * Store counter retrieved from the device
+     *
+     * @param propertyName property name of the counter
+     * @param counter Counter32 or Counter64 variable
+     * */
+    public void putCounter(String propertyName, Variable counter) {
+        counters.put(propertyName, counter);
+    }
+
+    /**
+     * Retrieves {@link #counters}
+     *
+     * @return value of {@link #counters}
+     * */
+    public Map<String, Variable> getCounters() {
+        return counters;
+    }
+
+    /**
+     * Retrieves {@link #agentUptime}
+     *
+     * @return value of {@link #agentUptime}
+     * */
+    public long getAgentUptime() {
+        return agentUptime;
+    }
+
+    /**
+     * Sets {@link #agentUptime} value
+     *
+     * @param agentUptime new value of {@link #agentUptime}
+     * */
+    public void setAgentUptime(long agentUptime) {
+        this.agentUptime = agentUptime;
+    }
+
+    /**
+     * Put all the values and error markers of the poll into the statistics map
+     *
+     * @param plan the result was collected for
+     * @param statistics map to put values into
+     * */
+    public void putValues(PollingPlan plan, Map<String, String> statistics) {
+        for (Map<String, String> entryValues : walkValues.values()) {
+            statistics.putAll(entryValues);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                statistics.put(plan.getEntries().get(i).getPropertyName(), values[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SNMP transport metrics of a single device, collected since the adapter start.
+ * <p>
+ * Counters are updated on the SNMP transport threads by the {@link AsyncPoll}s, so they are lock-free
+ * ({@link LongAdder} and {@link LatencyHistogram}), and are only aggregated when statistics are reported.
+ * Byte counters are based on the BER encoded PDU length, SNMP message headers are not included.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class PollingMetrics {
+    /**
+     * Statistics group of the metrics
+     * */
+    private static final String GROUP = "PollingMetrics#";
+
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder pdusSent = new LongAdder();
+    private final LongAdder varbindsSent = new LongAdder();
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder reports = new LongAdder();
+    private final LongAdder tooBigSplits = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder notifications = new LongAdder();
+    private final LatencyHistogram roundTripTimes = new LatencyHistogram();
+    private final LatencyHistogram pollDurations = new LatencyHistogram();
+
+    /**
+     * Record a request PDU sent
+     *
+     * @param varbinds number of variable bindings in the PDU
+     * @param bytes BER length of the PDU
+     * */
+    public void onRequestSent(int varbinds, int bytes) {
+        pdusSent.increment();
+        varbindsSent.add(varbinds);
+        bytesSent.add(bytes);
+    }
+
+    /**
+     * Record a response PDU received
+     *
+     * @param bytes BER length of the PDU
+     * @param rttNanos round trip time of the request, including retransmissions, in nanoseconds
+     * @param retransmissions estimated number of request retransmissions before the response was received
+     * */
+    public void onResponse(int bytes, long rttNanos, int retransmissions) {
+        responses.increment();
+        bytesReceived.add(bytes);
+        roundTripTimes.record(rttNanos);
+        if (retransmissions > 0) {
+            retries.add(retransmissions);
+        }
+    }
+
+    /**
+     * Record a request timed out after all the retries
+     *
+     * @param retransmissions number of request retransmissions
+     * */
+    public void onTimeout(int retransmissions) {
+        timeouts.increment();
+        if (retransmissions > 0) {
+            retries.add(retransmissions);
+        }
+    }
+
+    /**
+     * Record a REPORT PDU received
+     * */
+    public void onReport() {
+        reports.increment();
+    }
+
+    /**
+     * Record a request split after a tooBig response
+     * */
+    public void onTooBigSplit() {
+        tooBigSplits.increment();
+    }
+
+    /**
+     * Record a notification (TRAP or INFORM) received from the device
+     * */
+    public void onNotification() {
+        notifications.increment();
+    }
+
+    /**
+     * Record a complete poll
+     *
+     * @param durationNanos poll duration, in nanoseconds
+     * */
+    public void onPoll(long durationNanos) {
+        polls.increment();
+        pollDurations.record(durationNanos);
+    }
+
+    /**
+     * Drop all the collected metrics
+     * */
+    public void reset() {
+        polls.reset();
+        pdusSent.reset();
+        varbindsSent.reset();
+        responses.reset();
+        timeouts.reset();
+        retries.reset();
+        reports.reset();
+        tooBigSplits.reset();
+        bytesSent.reset();
+        bytesReceived.reset();
+        notifications.reset();
+        roundTripTimes.reset();
+        pollDurations.reset();
+    }
+
+    /**
+     * Put metrics into the statistics map, under PollingMetrics# group
+     *
+     * @param statistics map to put metrics into
+     * */
+    public void putStatistics(Map<String, String> statistics) {
+        long pdus = pdusSent.sum();
+        statistics.put(GROUP + "Polls", String.valueOf(polls.sum()));
+        statistics.put(GROUP + "PDUsSent", String.valueOf(pdus));
+        statistics.put(GROUP + "VarbindsPerPDU", formatDecimal(pdus == 0 ? 0 : (double) varbindsSent.sum() / pdus));
+        statistics.put(GROUP + "Responses", String.valueOf(responses.sum()));
+        statistics.put(GROUP + "Timeouts", String.valueOf(timeouts.sum()));
+        statistics.put(GROUP + "Retries", String.valueOf(retries.sum()));
+        statistics.put(GROUP + "ReportsReceived", String.valueOf(reports.sum()));
+        statistics.put(GROUP + "TooBigSplits", String.valueOf(tooBigSplits.sum()));
+        statistics.put(GROUP + "BytesSent", String.valueOf(bytesSent.sum()));
+        statistics.put(GROUP + "BytesReceived", String.valueOf(bytesReceived.sum()));
+        statistics.put(GROUP + "NotificationsReceived", String.valueOf(notifications.sum()));
+        statistics.put(GROUP + "RTTP50(ms)", formatDecimal(roundTripTimes.getPercentile(50)));
+        statistics.put(GROUP + "RTTP99(ms)", formatDecimal(roundTripTimes.getPercentile(99)));
+        statistics.put(GROUP + "PollDurationP50(ms)", formatDecimal(pollDurations.getPercentile(50)));
+        statistics.put(GROUP + "PollDurationP99(ms)", formatDecimal(pollDurations.getPercentile(99)));
+    }
+
+    /**
+     * Format decimal value with 2 decimal places, the same way as String.format(Locale.ROOT, "%.2f", value) does,
+     * without the {@link java.util.Formatter} parsing and allocations, since metrics are formatted on every poll
+     *
+     * @param value to format
+     * @return value with 2 decimal places
+     * */
+    public static String formatDecimal(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value) || Math.abs(value) >= 1e15) {
+            return String.format(Locale.ROOT, "%.2f", value);
+        }
+        long hundredths = Math.round(Math.abs(value) * 100);
+        StringBuilder formatted = new StringBuilder(24);
+        if (value < 0 && hundredths > 0) {
+            formatted.append('-');
+        }
+        formatted.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            formatted.append('0');
+        }
+        return formatted.append(fraction).toString();
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import com.avispl.symphony.dal.util.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable polling plan, compiled once from the snmpProperties configuration string
+ * in a format of OID:PropertyName separated with a pipe character, e.g
+ * .1.3.6.1.2.1.1.1.0:SystemDescription|.1.3.6.1.2.1.1.2.0:SystemID|.1.3.6.1.2.1.1.3.0:SystemUptime
+ * OIDs ending with .* are walked with GETBULK, e.g. .1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr
+ * Property names may be followed by a refresh interval in seconds, minutes or hours, e.g.
+ * .1.3.6.1.2.1.1.1.0:SystemDescription@3600s, such entries are only requested once the interval expires
+ * <p>
+ * Contains pre-parsed OIDs, property names and request variable binding templates, in the configured order.
+ * Request layout of the full plan is computed lazily and cached per request limits.
+ * OIDs configured under several property names are requested once, by the first due entry of the OID, and
+ * the value is fanned out to all the entries of the OID, see {@link #getSameOidEntries(int)}. The same applies
+ * to walks of the same subtree, see {@link #getSameRootWalkEntries(PropertyEntry)}.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class PollingPlan {
+    private static final Log logger = LogFactory.getLog(PollingPlan.class);
+    /**
+     * Suffix of the OIDs to walk with GETBULK
+     * */
+    private static final String WALK_SUFFIX = ".*";
+    /**
+     * Property name refresh interval suffix, e.g. @3600s, @60m or @1h. Seconds are used if no unit is provided
+     * */
+    private static final Pattern REFRESH_INTERVAL = Pattern.compile("^(.+)@(\\d+)([smh]?)$");
+    /**
+     * Estimated encoded size of the SNMP message envelope (header, community or USM parameters, PDU header),
+     * used to limit GET requests by the max request size
+     * */
+    private static final int REQUEST_ENVELOPE_SIZE = 128;
+    /**
+     * Plan with no entries, used when snmpProperties are not configured
+     * */
+    public static final PollingPlan EMPTY = new PollingPlan(null, Collections.emptyList(), Collections.emptyList());
+
+    /**
+     * snmpProperties value the plan is compiled from
+     * */
+    private final String source;
+    /**
+     * Compiled scalar property entries, in the configured order
+     * */
+    private final List<PropertyEntry> entries;
+    /**
+     * Compiled walk property entries, in the configured order
+     * */
+    private final List<PropertyEntry> walkEntries;
+    /**
+     * Request variable binding templates, matching {@link #entries} by index
+     * */
+    private final List<VariableBinding> requestBindings;
+    /**
+     * Indices of all the scalar entries
+     * */
+    private final int[] allEntries;
+    /**
+     * OID index of the scalar and walk entries
+     * */
+    private final OidIndex oidIndex;
+    /**
+     * Indices of the scalar entries with the same OID, including the entry itself, indexed by entry index
+     * */
+    private final int[][] sameOidEntries;
+    /**
+     * Walk entries with the same root OID, including the entry itself, indexed by walk entry index
+     * */
+    private final List<List<PropertyEntry>> sameRootWalkEntries;
+    /**
+     * Whether some scalar or walk entries share the same OID
+     * */
+    private final boolean duplicates;
+    /**
+     * {@link #allEntries} without the duplicate OIDs
+     * */
+    private final int[] uniqueEntries;
+    /**
+     * Request layout cache of {@link #allEntries}, keyed by varbinds limit and max request size
+     * */
+    private final Map<Long, int[][]> requestLayouts = new ConcurrentHashMap<>();
+
+    private PollingPlan(String source, List<PropertyEntry> entries, List<PropertyEntry> walkEntries) {
+        this.source = source;
+        this.entries = Collections.unmodifiableList(entries);
+        this.walkEntries = Collections.unmodifiableList(walkEntries);
+        List<VariableBinding> bindings = new ArrayList<>(entries.size());
+        for (PropertyEntry entry : entries) {
+            bindings.add(entry.getRequestBinding());
+        }
+        this.requestBindings = Collections.unmodifiableList(bindings);
+        this.allEntries = new int[entries.size()];
+        for (int i = 0; i < allEntries.length; i++) {
+            allEntries[i] = i;
+        }
+        this.oidIndex = new OidIndex(this.entries, this.walkEntries);
+        boolean duplicateOids = false;
+        this.sameOidEntries = new int[entries.size()][];
+        for (PropertyEntry entry : entries) {
+            sameOidEntries[entry.getIndex()] = oidIndex.getEntryIndices(entry.getOid());
+            duplicateOids |= sameOidEntries[entry.getIndex()].length > 1;
+        }
+        Map<OID, List<PropertyEntry>> walkEntriesByRoot = new HashMap<>();
+        List<List<PropertyEntry>> sameRoot = new ArrayList<>(walkEntries.size());
+        for (PropertyEntry walkEntry : walkEntries) {
+            List<PropertyEntry> group = walkEntriesByRoot.computeIfAbsent(walkEntry.getOid(), root -> new ArrayList<>());
+            group.add(walkEntry);
+            sameRoot.add(group);
+            duplicateOids |= group.size() > 1;
+        }
+        this.sameRootWalkEntries = Collections.unmodifiableList(sameRoot);
+        this.duplicates = duplicateOids;
+        this.uniqueEntries = uniqueEntries(allEntries);
+    }
+
+    /**
+     * Compile snmpProperties configuration string into a polling plan.
+     * Corrupted entries are reported once and skipped.
+     *
+     * @param snmpProperties configuration string
+     * @return compiled {@link PollingPlan}, {@link #EMPTY} if snmpProperties is empty
+     * */
+    public static PollingPlan compile(String snmpProperties) {
+        if (StringUtils.isNullOrEmpty(snmpProperties)) {
+            return EMPTY;
+        }
+        List<PropertyEntry> entries = new ArrayList<>();
+        List<PropertyEntry> walkEntries = new ArrayList<>();
+        for (String entry : snmpProperties.split("\\|")) {
+            String[] entryParts = entry.split(":");
+            if (entryParts.length < 2) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("Error: Corrupted SNMP property entry: " + entry);
+                }
+                continue;
+            }
+            String oid = entryParts[0];
+            if (StringUtils.isNullOrEmpty(oid)) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("Error: Corrupted SNMP OID entry: " + entry);
+                }
+                continue;
+            }
+            String propertyName = entryParts[1];
+            long refreshInterval = 0;
+            Matcher refreshIntervalMatcher = REFRESH_INTERVAL.matcher(propertyName);
+            if (refreshIntervalMatcher.matches()) {
+                propertyName = refreshIntervalMatcher.group(1);
+                try {
+                    refreshInterval = parseRefreshInterval(refreshIntervalMatcher.group(2), refreshIntervalMatcher.group(3));
+                } catch (NumberFormatException e) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn("Error: Corrupted SNMP refresh interval entry: " + entry);
+                    }
+                    continue;
+                }
+            }
+            if (StringUtils.isNullOrEmpty(propertyName)) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("Error: Corrupted SNMP propertyName entry: " + entry);
+                }
+                continue;
+            }
+            boolean walk = oid.endsWith(WALK_SUFFIX);
+            OID parsedOid;
+            try {
+                parsedOid = new OID(walk ? oid.substring(0, oid.length() - WALK_SUFFIX.length()) : oid);
+            } catch (RuntimeException e) {
+                parsedOid = null;
+            }
+            if (parsedOid == null || !parsedOid.isValid()) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("Error: Corrupted SNMP OID entry: " + entry);
+                }
+                continue;
+            }
+            if (walk) {
+                walkEntries.add(new PropertyEntry(walkEntries.size(), parsedOid, propertyName, true, refreshInterval));
+            } else {
+                entries.add(new PropertyEntry(entries.size(), parsedOid, propertyName, false, refreshInterval));
+            }
+        }
+        return new PollingPlan(snmpProperties, entries, walkEntries);
+    }
+
+    /**
+     * Check whether the plan is compiled from the given snmpProperties value, so recompilation is not needed
+     *
+     * @param snmpProperties configuration string to check
+     * @return true if the plan is compiled from the same configuration string
+     * */
+    public boolean isCompiledFrom(String snmpProperties) {
+        if (StringUtils.isNullOrEmpty(snmpProperties)) {
+            return isEmpty() && StringUtils.isNullOrEmpty(source);
+        }
+        return Objects.equals(source, snmpProperties);
+    }
+
+    /**
+     * Retrieves {@link #entries}
+     *
+     * @return value of {@link #entries}
+     */
+    public List<PropertyEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Retrieves {@link #walkEntries}
+     *
+     * @return value of {@link #walkEntries}
+     */
+    public List<PropertyEntry> getWalkEntries() {
+        return walkEntries;
+    }
+
+    /**
+     * Retrieves {@link #requestBindings}
+     *
+     * @return value of {@link #requestBindings}
+     */
+    public List<VariableBinding> getRequestBindings() {
+        return requestBindings;
+    }
+
+    /**
+     * Retrieves {@link #oidIndex}
+     *
+     * @return value of {@link #oidIndex}
+     */
+    public OidIndex getOidIndex() {
+        return oidIndex;
+    }
+
+    /**
+     * Retrieve scalar entries sharing the OID with the entry
+     *
+     * @param entryIndex plan entry index
+     * @return indices of the entries with the same OID, including the entry itself. Shared, must not be modified
+     * */
+    public int[] getSameOidEntries(int entryIndex) {
+        return sameOidEntries[entryIndex];
+    }
+
+    /**
+     * Retrieve walk entries sharing the root OID with the walk entry
+     *
+     * @param walkEntry plan walk entry
+     * @return walk entries with the same root OID, including the entry itself
+     * */
+    public List<PropertyEntry> getSameRootWalkEntries(PropertyEntry walkEntry) {
+        return sameRootWalkEntries.get(walkEntry.getIndex());
+    }
+
+    /**
+     * Remove walk entries, which root OID is already walked by another entry of the list
+     *
+     * @param walkEntries walk entries to request
+     * @return walk entries with unique root OIDs
+     * */
+    public List<PropertyEntry> uniqueWalkEntries(List<PropertyEntry> walkEntries) {
+        if (!duplicates) {
+            return walkEntries;
+        }
+        List<PropertyEntry> unique = new ArrayList<>(walkEntries.size());
+        Set<PropertyEntry> walkedRoots = new HashSet<>();
+        for (PropertyEntry walkEntry : walkEntries) {
+            if (walkedRoots.add(getSameRootWalkEntries(walkEntry).get(0))) {
+                unique.add(walkEntry);
+            }
+        }
+        return unique;
+    }
+
+    /**
+     * Check whether the plan has any entries to poll
+     *
+     * @return true if there are no entries in the plan
+     * */
+    public boolean isEmpty() {
+        return entries.isEmpty() && walkEntries.isEmpty();
+    }
+
+    /**
+     * Retrieves {@link #allEntries}
+     *
+     * @return indices of all the scalar entries. Shared, must not be modified
+     */
+    public int[] getAllEntries() {
+        return allEntries;
+    }
+
+    /**
+     * Split scalar entries into GET requests: each request is limited by varbindsLimit and by maxRequestSize.
+     * At least one variable binding is always included into a request. Each OID is only requested once,
+     * by the first of the entries sharing the OID.
+     * Layout of {@link #getAllEntries()} is cached per request limits.
+     *
+     * @param entryIndices indices of the scalar entries to request
+     * @param varbindsLimit max number of variable bindings per request
+     * @param maxRequestSize max estimated encoded request size in bytes, 0 for no limit
+     * @return entry indices of each request. Cached and shared, must not be modified
+     * */
+    public int[][] requestLayout(int[] entryIndices, int varbindsLimit, int maxRequestSize) {
+        int limit = Math.max(1, varbindsLimit);
+        int sizeLimit = Math.max(0, maxRequestSize);
+        if (entryIndices == allEntries) {
+            return requestLayouts.computeIfAbsent(((long) limit << 32) | sizeLimit, key -> computeRequestLayout(uniqueEntries, limit, sizeLimit));
+        }
+        return computeRequestLayout(uniqueEntries(entryIndices), limit, sizeLimit);
+    }
+
+    /**
+     * Remove entries, which OID is already requested by a preceding entry of the array
+     *
+     * @param entryIndices indices of the scalar entries to request
+     * @return indices of the entries with unique OIDs, the same array if there are no duplicates
+     * */
+    private int[] uniqueEntries(int[] entryIndices) {
+        if (!duplicates) {
+            return entryIndices;
+        }
+        boolean[] requested = new boolean[entries.size()];
+        int[] unique = new int[entryIndices.length];
+        int uniqueCount = 0;
+        for (int entryIndex : entryIndices) {
+            int leader = sameOidEntries[entryIndex][0];
+            if (!requested[leader]) {
+                requested[leader] = true;
+                unique[uniqueCount++] = entryIndex;
+            }
+        }
+        return uniqueCount == entryIndices.length ? entryIndices : Arrays.copyOf(unique, uniqueCount);
+    }
+
+    /**
+     * Compute request layout, see {@link #requestLayout(int[], int, int)}
+     *
+     * @param entryIndices indices of the scalar entries to request
+     * @param varbindsLimit max number of variable bindings per request
+     * @param maxRequestSize max estimated encoded request size in bytes, 0 for no limit
+     * @return entry indices of each request
+     * */
+    private int[][] computeRequestLayout(int[] entryIndices, int varbindsLimit, int maxRequestSize) {
+        List<int[]> requests = new ArrayList<>();
+        int fromIndex = 0;
+        while (fromIndex < entryIndices.length) {
+            int requestSize = REQUEST_ENVELOPE_SIZE;
+            int toIndex = fromIndex;
+            while (toIndex < entryIndices.length && toIndex - fromIndex < varbindsLimit) {
+                requestSize += entries.get(entryIndices[toIndex]).getRequestSize();
+                if (maxRequestSize > 0 && requestSize > maxRequestSize && toIndex > fromIndex) {
+                    break;
+                }
+                toIndex++;
+            }
+            requests.add(Arrays.copyOfRange(entryIndices, fromIndex, toIndex));
+            fromIndex = toIndex;
+        }
+        return requests.toArray(new int[0][]);
+    }
+
+    /**
+     * Parse refresh interval of a property entry
+     *
+     * @param value interval value
+     * @param unit interval unit - s, m or h, seconds if empty
+     * @return refresh interval in milliseconds
+     * @throws NumberFormatException if the value doesn't fit into long
+     * */
+    private static long parseRefreshInterval(String value, String unit) {
+        long interval = Long.parseLong(value);
+        switch (unit) {
+            case "h":
+                return TimeUnit.HOURS.toMillis(interval);
+            case "m":
+                return TimeUnit.MINUTES.toMillis(interval);
+            default:
+                return TimeUnit.SECONDS.toMillis(interval);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Single compiled OID:PropertyName entry of the {@link PollingPlan}.
+ * Walk entries (OID ending with .*) cover the whole subtree of the OID, retrieved values are reported
+ * as PropertyName.index, where index is the OID suffix after the walk root, e.g. Interfaces#ifDescr.3
+ * Entries with a refresh interval (PropertyName@3600s) are only requested once the interval expires,
+ * cached values are reported in between, see {@link PropertyValueCache}
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class PropertyEntry {
+    /**
+     * Position of the entry in the polling plan
+     * */
+    private final int index;
+    /**
+     * OID to retrieve value by
+     * */
+    private final OID oid;
+    /**
+     * Name of the property to report retrieved value as
+     * */
+    private final String propertyName;
+    /**
+     * Request variable binding template, shared by all the requests of the plan
+     * */
+    private final VariableBinding requestBinding;
+    /**
+     * Whether the entry is a subtree walk, rather than a scalar
+     * */
+    private final boolean walk;
+    /**
+     * Refresh interval of the entry value in milliseconds, 0 if the value is requested on every poll
+     * */
+    private final long refreshInterval;
+    /**
+     * Encoded size of the {@link #requestBinding}
+     * */
+    private final int requestSize;
+
+    PropertyEntry(int index, OID oid, String propertyName, boolean walk, long refreshInterval) {
+        this.index = index;
+        this.oid = oid;
+        this.propertyName = propertyName;
+        this.walk = walk;
+        this.refreshInterval = refreshInterval;
+        this.requestBinding = new VariableBinding(oid);
+        this.requestSize = requestBinding.getBERLength();
+    }
+
+    /**
+     * Retrieves {@link #index}
+     *
+     * @return value of {@link #index}
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Retrieves {@link #oid}
+     *
+     * @return value of {@link #oid}
+     */
+    public OID getOid() {
+        return oid;
+    }
+
+    /**
+     * Retrieves {@link #propertyName}
+     *
+     * @return value of {@link #propertyName}
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * Retrieves {@link #requestBinding}
+     *
+     * @return value of {@link #requestBinding}
+     */
+    public VariableBinding getRequestBinding() {
+        return requestBinding;
+    }
+
+    /**
+     * Retrieves {@link #walk}
+     *
+     * @return value of {@link #walk}
+     */
+    public boolean isWalk() {
+        return walk;
+    }
+
+    /**
+     * Retrieves {@link #refreshInterval}
+     *
+     * @return value of {@link #refreshInterval}
+     */
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Retrieves {@link #requestSize}
+     *
+     * @return value of {@link #requestSize}
+     */
+    public int getRequestSize() {
+        return requestSize;
+    }
+
+    /**
+     * Build property name for a walked OID: entry property name, suffixed with the OID index after the walk root
+     *
+     * @param walkedOid OID retrieved by the walk, must be within the entry subtree
+     * @return property name, e.g. Interfaces#ifDescr.3
+     * */
+    public String walkPropertyName(OID walkedOid) {
+        StringBuilder name = new StringBuilder(propertyName);
+        for (int i = oid.size(); i < walkedOid.size(); i++) {
+            name.append('.').append(walkedOid.getUnsigned(i));
+        }
+        return name.toString();
+    }
+
+    @Override
+    public String toString() {
+        return oid + (walk ? ".*:" : ":") + propertyName + (refreshInterval > 0 ? "@" + refreshInterval / 1000 + "s" : "");
+    }
+}
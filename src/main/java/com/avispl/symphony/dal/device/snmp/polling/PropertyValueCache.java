@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TTL cache of the values of the {@link PollingPlan} entries with a refresh interval, e.g.
+ * .1.3.6.1.2.1.1.1.0:SystemDescription@3600s
+ * <p>
+ * Only values retrieved from the device are cached, entries are due for the next poll once their refresh interval
+ * expires, or if the last request has failed. Entries without a refresh interval are always due.
+ * The cache is bound to a single plan and is dropped along with it once snmpProperties change.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class PropertyValueCache {
+    private final PollingPlan plan;
+    /**
+     * Cached values of the scalar entries, indexed by plan entry index
+     * */
+    private final String[] values;
+    /**
+     * Expiration timestamps of the scalar entries values, indexed by plan entry index, 0 if not cached
+     * */
+    private final long[] expiresAt;
+    /**
+     * Cached values of the walk entries, indexed by plan walk entry index
+     * */
+    private final List<Map<String, String>> walkValues;
+    /**
+     * Expiration timestamps of the walk entries values, indexed by plan walk entry index, 0 if not cached
+     * */
+    private final long[] walkExpiresAt;
+    /**
+     * Whether any of the plan entries has a refresh interval, otherwise the cache is a no-op
+     * */
+    private final boolean enabled;
+
+    public PropertyValueCache(PollingPlan plan) {
+        this.plan = plan;
+        this.values = new String[plan.getEntries().size()];
+        this.expiresAt = new long[values.length];
+        this.walkValues = new ArrayList<>(Collections.nCopies(plan.getWalkEntries().size(), null));
+        this.walkExpiresAt = new long[walkValues.size()];
+        boolean hasRefreshIntervals = false;
+        for (PropertyEntry entry : plan.getEntries()) {
+            hasRefreshIntervals |= entry.getRefreshInterval() > 0;
+        }
+        for (PropertyEntry entry : plan.getWalkEntries()) {
+            hasRefreshIntervals |= entry.getRefreshInterval() > 0;
+        }
+        this.enabled = hasRefreshIntervals;
+    }
+
+    /**
+     * Check whether the cache holds values of the plan
+     *
+     * @param plan to check
+     * @return true if the cache was created for the plan
+     * */
+    public boolean isBoundTo(PollingPlan plan) {
+        return this.plan == plan;
+    }
+
+    /**
+     * Retrieve scalar entries due for the poll
+     *
+     * @param now current time, in milliseconds
+     * @return indices of the due entries, {@link PollingPlan#getAllEntries()} if all the entries are due
+     * */
+    public synchronized int[] dueEntries(long now) {
+        int[] allEntries = plan.getAllEntries();
+        if (!enabled) {
+            return allEntries;
+        }
+        int[] due = new int[allEntries.length];
+        int dueCount = 0;
+        for (int i = 0; i < allEntries.length; i++) {
+            if (expiresAt[i] <= now) {
+                due[dueCount++] = i;
+            }
+        }
+        if (dueCount == allEntries.length) {
+            return allEntries;
+        }
+        int[] result = new int[dueCount];
+        System.arraycopy(due, 0, result, 0, dueCount);
+        return result;
+    }
+
+    /**
+     * Retrieve walk entries due for the poll
+     *
+     * @param now current time, in milliseconds
+     * @return due walk entries
+     * */
+    public synchronized List<PropertyEntry> dueWalkEntries(long now) {
+        List<PropertyEntry> walkEntries = plan.getWalkEntries();
+        if (!enabled) {
+            return walkEntries;
+        }
+        List<PropertyEntry> due = new ArrayList<>(walkEntries.size());
+        for (PropertyEntry entry : walkEntries) {
+            if (walkExpiresAt[entry.getIndex()] <= now) {
+                due.add(entry);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Cache retrieved values of the entries with a refresh interval.
+     * Walk values are only cached if the walk was complete, so partial tables are never reported as fresh.
+     *
+     * @param result of the poll
+     * @param now poll start time, in milliseconds
+     * */
+    public synchronized void update(PollResult result, long now) {
+        if (!enabled) {
+            return;
+        }
+        for (PropertyEntry entry : plan.getEntries()) {
+            int index = entry.getIndex();
+            if (entry.getRefreshInterval() > 0 && result.isRetrieved(index)) {
+                values[index] = result.getValue(index);
+                expiresAt[index] = now + entry.getRefreshInterval();
+            }
+        }
+        for (PropertyEntry entry : plan.getWalkEntries()) {
+            if (entry.getRefreshInterval() > 0 && result.isWalkCompleted(entry)) {
+                walkValues.set(entry.getIndex(), new HashMap<>(result.getWalkValues(entry)));
+                walkExpiresAt[entry.getIndex()] = now + entry.getRefreshInterval();
+            }
+        }
+    }
+
+    /**
+     * Cache value of the scalar entry pushed by the device with a notification. The value is cached as if it was
+     * polled, so entries with a refresh interval are not requested until the interval expires once again
+     *
+     * @param entryIndex plan entry index
+     * @param value notified value
+     * @param now notification time, in milliseconds
+     * */
+    public synchronized void notifyValue(int entryIndex, String value, long now) {
+        PropertyEntry entry = plan.getEntries().get(entryIndex);
+        if (entry.getRefreshInterval() > 0) {
+            values[entryIndex] = value;
+            expiresAt[entryIndex] = now + entry.getRefreshInterval();
+        }
+    }
+
+    /**
+     * Update cached row of the walk entry with the value pushed by the device with a notification.
+     * A single row doesn't refresh the table, so the walk expiration is kept and incomplete tables are not cached
+     *
+     * @param walkEntry plan walk entry
+     * @param propertyName property name of the row, see {@link PropertyEntry#walkPropertyName(org.snmp4j.smi.OID)}
+     * @param value notified value
+     * */
+    public synchronized void notifyWalkValue(PropertyEntry walkEntry, String propertyName, String value) {
+        Map<String, String> entryValues = walkValues.get(walkEntry.getIndex());
+        if (entryValues != null) {
+            entryValues.put(propertyName, value);
+        }
+    }
+
+    /**
+     * Put all the cached values into the statistics map
+     *
+     * @param statistics map to put values into
+     * */
+    public synchronized void putValues(Map<String, String> statistics) {
+        if (!enabled) {
+            return;
+        }
+        for (Map<String, String> entryValues : walkValues) {
+            if (entryValues != null) {
+                statistics.putAll(entryValues);
+            }
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                statistics.put(plan.getEntries().get(i).getPropertyName(), values[i]);
+            }
+        }
+    }
+}
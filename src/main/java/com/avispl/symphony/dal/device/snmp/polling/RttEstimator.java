@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+/**
+ * Round trip time estimator of a single device, used to derive request timeouts and retries
+ * the same way TCP computes its retransmission timeout (RFC 6298):
+ * <p>
+ * SRTT and RTTVAR are smoothed with gains of 1/8 and 1/4, timeout = SRTT + max(G, 4 * RTTVAR), clamped
+ * to [minTimeout, maxTimeout]. Only responses received within the first attempt timeout are sampled, since
+ * responses to retransmitted requests are ambiguous (Karn's algorithm). The timeout is doubled on request timeouts,
+ * until the next valid sample.
+ * <p>
+ * Until the first sample is taken, the configured timeout and retries are used as is.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class RttEstimator {
+    /**
+     * SRTT gain
+     * */
+    private static final double ALPHA = 1.0 / 8;
+    /**
+     * RTTVAR gain
+     * */
+    private static final double BETA = 1.0 / 4;
+    /**
+     * RTTVAR multiplier
+     * */
+    private static final int K = 4;
+    /**
+     * Timer granularity, in milliseconds
+     * */
+    private static final double GRANULARITY = 10;
+
+    /**
+     * Smoothed round trip time, in milliseconds
+     * */
+    private double smoothedRtt;
+    /**
+     * Round trip time variation, in milliseconds
+     * */
+    private double rttVariation;
+    /**
+     * Number of samples taken
+     * */
+    private long samples;
+    /**
+     * Number of timeouts since the last sample, the timeout is doubled for each of them
+     * */
+    private int backoff;
+
+    /**
+     * Add round trip time sample
+     *
+     * @param rttMillis measured round trip time of a request which was not retransmitted, in milliseconds
+     * */
+    public synchronized void onSample(double rttMillis) {
+        if (rttMillis < 0) {
+            return;
+        }
+        if (samples == 0) {
+            smoothedRtt = rttMillis;
+            rttVariation = rttMillis / 2;
+        } else {
+            rttVariation = (1 - BETA) * rttVariation + BETA * Math.abs(smoothedRtt - rttMillis);
+            smoothedRtt = (1 - ALPHA) * smoothedRtt + ALPHA * rttMillis;
+        }
+        samples++;
+        backoff = 0;
+    }
+
+    /**
+     * Back off the timeout after a request timeout. Called once per poll with timeouts, rather than once per request,
+     * so a lossy poll doesn't inflate the timeout exponentially by the number of requests in flight.
+     * */
+    public synchronized void onTimeout() {
+        if (samples > 0 && backoff < 16) {
+            backoff++;
+        }
+    }
+
+    /**
+     * Restore estimates, e.g. persisted before the adapter restart, as if a single sample was taken,
+     * so the first fresh samples quickly correct them
+     *
+     * @param smoothedRtt smoothed round trip time, in milliseconds
+     * @param rttVariation round trip time variation, in milliseconds
+     * */
+    public synchronized void restore(double smoothedRtt, double rttVariation) {
+        if (samples > 0 || !(smoothedRtt > 0) || !(rttVariation >= 0)) {
+            return;
+        }
+        this.smoothedRtt = smoothedRtt;
+        this.rttVariation = rttVariation;
+        samples = 1;
+        backoff = 0;
+    }
+
+    /**
+     * Drop all the samples, e.g. when the device address changes
+     * */
+    public synchronized void reset() {
+        smoothedRtt = 0;
+        rttVariation = 0;
+        samples = 0;
+        backoff = 0;
+    }
+
+    /**
+     * Retrieve request timeout
+     *
+     * @param configuredTimeout timeout used until the first sample is taken, in milliseconds
+     * @param minTimeout min timeout, in milliseconds
+     * @param maxTimeout max timeout, in milliseconds
+     * @return request timeout, in milliseconds
+     * */
+    public synchronized long getTimeout(long configuredTimeout, long minTimeout, long maxTimeout) {
+        if (samples == 0) {
+            return configuredTimeout;
+        }
+        double timeout = (smoothedRtt + Math.max(GRANULARITY, K * rttVariation)) * (1L << backoff);
+        return Math.max(minTimeout, Math.min(maxTimeout, (long) Math.ceil(timeout)));
+    }
+
+    /**
+     * Retrieve number of request retries: configured retries are reduced so the total time of all attempts
+     * stays within the configured budget (configured timeout * configured attempts), so slow links don't produce
+     * retransmit storms. At least a single attempt is always made.
+     *
+     * @param timeout request timeout, see {@link #getTimeout(long, long, long)}
+     * @param configuredTimeout configured request timeout, in milliseconds
+     * @param configuredRetries configured number of retries
+     * @return number of retries
+     * */
+    public int getRetries(long timeout, long configuredTimeout, int configuredRetries) {
+        long budget = configuredTimeout * (configuredRetries + 1L);
+        long attempts = Math.max(1, budget / Math.max(1, timeout));
+        return (int) Math.min(configuredRetries, attempts - 1);
+    }
+
+    /**
+     * Retrieves smoothed round trip time
+     *
+     * @return smoothed round trip time in milliseconds, 0 if no samples were taken
+     * */
+    public synchronized double getSmoothedRtt() {
+        return smoothedRtt;
+    }
+
+    /**
+     * Retrieves round trip time variation
+     *
+     * @return round trip time variation in milliseconds
+     * */
+    public synchronized double getRttVariation() {
+        return rttVariation;
+    }
+
+    /**
+     * Retrieves number of samples taken
+     *
+     * @return number of samples
+     * */
+    public synchronized long getSamples() {
+        return samples;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Previous statistics of the device, used to emit only the properties changed since the last poll.
+ * Values are compared by reference first, cached and unchanged values are mostly the same String instances,
+ * then by the cached String hash codes, and only then by content.
+ * Full snapshot is emitted on the first poll, once the full refresh interval expires, and whenever a property
+ * of the previous snapshot is no longer reported, since removals cannot be represented by changed entries.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class StatisticsSnapshot {
+    /**
+     * Statistics of the previous poll
+     * */
+    private Map<String, String> previous = Collections.emptyMap();
+    /**
+     * Time of the last full snapshot, in milliseconds, null if no snapshot has been emitted yet
+     * */
+    private Long lastFullSnapshot;
+    /**
+     * Whether the last emitted statistics are a full snapshot
+     * */
+    private boolean full;
+    /**
+     * Number of properties changed during the last poll
+     * */
+    private int changedProperties;
+
+    /**
+     * Compare statistics with the previous poll and retrieve statistics to emit
+     *
+     * @param current statistics of the poll, retained as the previous statistics of the next poll, must not be modified afterwards
+     * @param now current time, in milliseconds
+     * @param fullRefreshInterval max time between full snapshots, in milliseconds
+     * @return copy of the current statistics for a full snapshot, changed properties otherwise
+     * */
+    public synchronized Map<String, String> changes(Map<String, String> current, long now, long fullRefreshInterval) {
+        Map<String, String> changes = new TreeMap<>();
+        int retained = 0;
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            String value = entry.getValue();
+            String previousValue = previous.get(entry.getKey());
+            if (previousValue != null || previous.containsKey(entry.getKey())) {
+                retained++;
+                if (isSame(previousValue, value)) {
+                    continue;
+                }
+            }
+            changes.put(entry.getKey(), value);
+        }
+        changedProperties = changes.size();
+        full = lastFullSnapshot == null || now - lastFullSnapshot >= fullRefreshInterval || retained < previous.size();
+        previous = current;
+        if (full) {
+            lastFullSnapshot = now;
+            return new TreeMap<>(current);
+        }
+        return changes;
+    }
+
+    /**
+     * Retrieves {@link #full}
+     *
+     * @return value of {@link #full}
+     * */
+    public synchronized boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Retrieves {@link #changedProperties}
+     *
+     * @return value of {@link #changedProperties}
+     * */
+    public synchronized int getChangedProperties() {
+        return changedProperties;
+    }
+
+    /**
+     * Drop the previous statistics, so the next poll emits a full snapshot
+     * */
+    public synchronized void reset() {
+        previous = Collections.emptyMap();
+        lastFullSnapshot = null;
+        full = false;
+        changedProperties = 0;
+    }
+
+    /**
+     * Compare property values
+     *
+     * @param previousValue value of the previous poll
+     * @param value value of the current poll
+     * @return true if the values are equal
+     * */
+    private static boolean isSame(String previousValue, String value) {
+        if (previousValue == value) {
+            return true;
+        }
+        if (previousValue == null || value == null || previousValue.hashCode() != value.hashCode()) {
+            return false;
+        }
+        return previousValue.equals(value);
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local file with the device state, persisted between adapter restarts, so the first poll after a restart
+ * doesn't start cold: SNMPv3 engine IDs with engine boots and time, learned varbinds limits,
+ * round trip time estimates and last known values, see {@link Record}. Records are keyed by host:port,
+ * SNMP version, credentials and snmpProperties of the adapter.
+ * <p>
+ * A single store instance is shared by all the adapters of the JVM configured with the same file.
+ * Records are kept in memory and the file is rewritten at most once per {@link #FLUSH_INTERVAL}, and on adapter
+ * destroy, into a temporary file, which then replaces the store file, so a crash never leaves a partial file behind.
+ * The file is a compact binary format, see {@link #write(Path)}, unreadable files are logged and ignored.
+ * Records not updated for {@link #MAX_RECORD_AGE} are dropped, e.g. of the devices no longer monitored.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class WarmStartStore {
+    private static final Log logger = LogFactory.getLog(WarmStartStore.class);
+    /**
+     * Min time between the file rewrites, in milliseconds
+     * */
+    public static final long FLUSH_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+    /**
+     * Max age of a record, in milliseconds
+     * */
+    public static final long MAX_RECORD_AGE = TimeUnit.DAYS.toMillis(7);
+    /**
+     * File signature, "SNWS"
+     * */
+    private static final int MAGIC = 0x534E5753;
+    private static final int FORMAT_VERSION = 1;
+    /**
+     * Max length of a string or engine ID, so a corrupted length fails the load instead of exhausting the heap
+     * */
+    private static final int MAX_LENGTH = 1 << 24;
+
+    /**
+     * Stores of the JVM, keyed by the absolute file path
+     * */
+    private static final Map<Path, WarmStartStore> stores = new HashMap<>();
+
+    private final Path file;
+    private final Map<String, Record> records = new ConcurrentHashMap<>();
+    /**
+     * Time of the last file rewrite, in milliseconds
+     * */
+    private long lastFlush;
+    /**
+     * Whether records have been updated since the last file rewrite
+     * */
+    private boolean dirty;
+
+    private WarmStartStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Retrieve the store of the file, loading the file on the first call
+     *
+     * @param fileName path to the store file, created on the first flush if it doesn't exist
+     * @return {@link WarmStartStore} instance
+     * */
+    public static synchronized WarmStartStore forFile(String fileName) {
+        Path file = Paths.get(fileName).toAbsolutePath().normalize();
+        WarmStartStore store = stores.get(file);
+        if (store == null) {
+            store = new WarmStartStore(file);
+            store.load(System.currentTimeMillis());
+            stores.put(file, store);
+        }
+        return store;
+    }
+
+    /**
+     * Retrieve record of the device
+     *
+     * @param key of the device adapter
+     * @return {@link Record}, null if there is none
+     * */
+    public Record get(String key) {
+        return records.get(key);
+    }
+
+    /**
+     * Replace record of the device, the record is written with the next flush
+     *
+     * @param key of the device adapter
+     * @param record new record
+     * */
+    public synchronized void put(String key, Record record) {
+        records.put(key, record);
+        dirty = true;
+    }
+
+    /**
+     * Rewrite the file if the records have been updated and {@link #FLUSH_INTERVAL} has passed since the last rewrite
+     *
+     * @param now current time, in milliseconds
+     * */
+    public synchronized void flushIfDue(long now) {
+        if (dirty && now - lastFlush >= FLUSH_INTERVAL) {
+            flush(now);
+        }
+    }
+
+    /**
+     * Rewrite the file if the records have been updated since the last rewrite
+     *
+     * @param now current time, in milliseconds
+     * */
+    public synchronized void flush(long now) {
+        if (!dirty) {
+            return;
+        }
+        lastFlush = now;
+        try {
+            write(file);
+            dirty = false;
+        } catch (IOException e) {
+            logger.error("Unable to write warm start file " + file, e);
+        }
+    }
+
+    /**
+     * Load records of the file, records older than {@link #MAX_RECORD_AGE} are skipped
+     *
+     * @param now current time, in milliseconds
+     * */
+    private void load(long now) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                logger.warn("Warm start file " + file + " has unknown format and is ignored.");
+                return;
+            }
+            int count = readLength(in);
+            for (int i = 0; i < count; i++) {
+                String key = readString(in);
+                Record record = Record.read(in);
+                if (now - record.savedAt < MAX_RECORD_AGE) {
+                    records.put(key, record);
+                }
+            }
+            lastFlush = now;
+            if (logger.isInfoEnabled()) {
+                logger.info(records.size() + " device records are loaded from warm start file " + file);
+            }
+        } catch (NoSuchFileException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Warm start file " + file + " doesn't exist yet.");
+            }
+        } catch (IOException | RuntimeException e) {
+            records.clear();
+            logger.warn("Unable to read warm start file " + file + ", starting cold.", e);
+        }
+    }
+
+    /**
+     * Write all the records: magic, format version and number of records, followed by the key and the fields
+     * of each record, see {@link Record#write(DataOutputStream)}. Strings are length-prefixed UTF-8
+     *
+     * @param target file to replace
+     * @throws IOException if the file cannot be written
+     * */
+    private void write(Path target) throws IOException {
+        Path directory = target.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            Map<String, Record> snapshot = new HashMap<>(records);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, Record> entry : snapshot.entrySet()) {
+                writeString(out, entry.getKey());
+                entry.getValue().write(out);
+            }
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException("Corrupted length " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Persisted state of a single device
+     * */
+    public static final class Record {
+        /**
+         * Time the record was saved at, in milliseconds
+         * */
+        private final long savedAt;
+        /**
+         * SNMPv3 authoritative engine ID, null if not discovered
+         * */
+        private final byte[] engineId;
+        private final int engineBoots;
+        /**
+         * SNMPv3 engine time at {@link #savedAt}, in seconds
+         * */
+        private final int engineTime;
+        /**
+         * Varbinds limit learned from tooBig responses, 0 if none
+         * */
+        private final int varbindsLimit;
+        /**
+         * Smoothed round trip time, in milliseconds, 0 if not measured
+         * */
+        private final double smoothedRtt;
+        private final double rttVariation;
+        /**
+         * Last known values of the device
+         * */
+        private final Map<String, String> values;
+
+        public Record(long savedAt, byte[] engineId, int engineBoots, int engineTime, int varbindsLimit,
+                      double smoothedRtt, double rttVariation, Map<String, String> values) {
+            this.savedAt = savedAt;
+            this.engineId = engineId;
+            this.engineBoots = engineBoots;
+            this.engineTime = engineTime;
+            this.varbindsLimit = varbindsLimit;
+            this.smoothedRtt = smoothedRtt;
+            this.rttVariation = rttVariation;
+            this.values = Collections.unmodifiableMap(values);
+        }
+
+        /**
+         * Retrieves {@link #savedAt}
+         *
+         * @return value of {@link #savedAt}
+         */
+        public long getSavedAt() {
+            return savedAt;
+        }
+
+        /**
+         * Retrieves {@link #engineId}
+         *
+         * @return value of {@link #engineId}
+         */
+        public byte[] getEngineId() {
+            return engineId;
+        }
+
+        /**
+         * Retrieves {@link #engineBoots}
+         *
+         * @return value of {@link #engineBoots}
+         */
+        public int getEngineBoots() {
+            return engineBoots;
+        }
+
+        /**
+         * Estimate the current SNMPv3 engine time, assuming the device has not rebooted since the record was saved
+         *
+         * @param now current time, in milliseconds
+         * @return engine time, in seconds
+         * */
+        public int estimateEngineTime(long now) {
+            return (int) Math.min(Integer.MAX_VALUE, engineTime + Math.max(0, now - savedAt) / 1000);
+        }
+
+        /**
+         * Retrieves {@link #varbindsLimit}
+         *
+         * @return value of {@link #varbindsLimit}
+         */
+        public int getVarbindsLimit() {
+            return varbindsLimit;
+        }
+
+        /**
+         * Retrieves {@link #smoothedRtt}
+         *
+         * @return value of {@link #smoothedRtt}
+         */
+        public double getSmoothedRtt() {
+            return smoothedRtt;
+        }
+
+        /**
+         * Retrieves {@link #rttVariation}
+         *
+         * @return value of {@link #rttVariation}
+         */
+        public double getRttVariation() {
+            return rttVariation;
+        }
+
+        /**
+         * Retrieves {@link #values}
+         *
+         * @return value of {@link #values}
+         */
+        public Map<String, String> getValues() {
+            return values;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeLong(savedAt);
+            out.writeBoolean(engineId != null);
+            if (engineId != null) {
+                out.writeInt(engineId.length);
+                out.write(engineId);
+            }
+            out.writeInt(engineBoots);
+            out.writeInt(engineTime);
+            out.writeInt(varbindsLimit);
+            out.writeDouble(smoothedRtt);
+            out.writeDouble(rttVariation);
+            out.writeInt(values.size());
+            for (Map.Entry<String, String> value : values.entrySet()) {
+                writeString(out, value.getKey());
+                writeString(out, value.getValue());
+            }
+        }
+
+        private static Record read(DataInputStream in) throws IOException {
+            long savedAt = in.readLong();
+            boolean hasEngineId = in.readBoolean();
+            byte[] engineId = null;
+            if (hasEngineId) {
+                engineId = new byte[readLength(in)];
+                in.readFully(engineId);
+            }
+            int engineBoots = in.readInt();
+            int engineTime = in.readInt();
+            int varbindsLimit = in.readInt();
+            double smoothedRtt = in.readDouble();
+            double rttVariation = in.readDouble();
+            int valueCount = readLength(in);
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < valueCount; i++) {
+                values.put(readString(in), readString(in));
+            }
+            return new Record(savedAt, engineId, engineBoots, engineTime, varbindsLimit, smoothedRtt, rttVariation, values);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.v3;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.snmp4j.security.SecurityProtocols;
+import org.snmp4j.security.USM;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.OctetString;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JVM-wide LRU cache of the USM keys, localized to the authoritative engine ID of a device.
+ * <p>
+ * Localization hashes about 1 MB of the repeated password per key, so it dominates the engine ID discovery
+ * and the engine ID restore of a session. Keys are cached by the security name, protocols, password digest
+ * and engine ID, so the sessions rediscovering the same device, the sessions recreated after an adapter restart
+ * and the adapters of the same device share a single localization. Passwords are not kept by the cache, only
+ * their SHA-256 digest is. The cache size is configured with the {@link #CAPACITY_PROPERTY} system property.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class LocalizedKeyCache {
+    private static final Log logger = LogFactory.getLog(LocalizedKeyCache.class);
+    /**
+     * System property with the max number of cached localized users
+     * */
+    public static final String CAPACITY_PROPERTY = "com.avispl.symphony.dal.snmp.localizedKeyCacheSize";
+
+    private static final LocalizedKeyCache instance = new LocalizedKeyCache(Integer.getInteger(CAPACITY_PROPERTY, 1024));
+
+    private final int capacity;
+    /**
+     * Localized keys, in access order. Guarded by itself
+     * */
+    private final Map<Key, LocalizedKeys> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    LocalizedKeyCache(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.entries = new LinkedHashMap<Key, LocalizedKeys>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, LocalizedKeys> eldest) {
+                return size() > LocalizedKeyCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Retrieve the cache shared by all the adapters of the JVM
+     *
+     * @return {@link LocalizedKeyCache} instance
+     * */
+    public static LocalizedKeyCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Register the user of the credentials for the engine ID, with the keys localized to the engine ID.
+     * Keys are only localized on a cache miss. Users without authentication have no keys and are added as is
+     *
+     * @param usm to add the user to
+     * @param credentials of the user
+     * @param engineId authoritative engine ID of the device
+     * */
+    public void addUser(USM usm, SnmpV3Credentials credentials, OctetString engineId) {
+        UsmUser user = credentials.toUsmUser();
+        if (user.getAuthenticationProtocol() == null) {
+            usm.addUser(user.getSecurityName(), engineId, user);
+            return;
+        }
+        LocalizedKeys keys = getKeys(usm.getSecurityProtocols(), user, engineId);
+        usm.addLocalizedUser(engineId.getValue(), user.getSecurityName(),
+                user.getAuthenticationProtocol(), keys.authenticationKey, user.getPrivacyProtocol(), keys.privacyKey);
+    }
+
+    /**
+     * Retrieve the keys of the user, localized to the engine ID, localize them on a cache miss
+     *
+     * @param securityProtocols protocols to localize the keys with
+     * @param user non-localized user with the authentication protocol
+     * @param engineId authoritative engine ID of the device
+     * @return {@link LocalizedKeys} of the user
+     * */
+    LocalizedKeys getKeys(SecurityProtocols securityProtocols, UsmUser user, OctetString engineId) {
+        Key key = new Key(digest(user), engineId.getValue());
+        LocalizedKeys keys;
+        synchronized (entries) {
+            keys = entries.get(key);
+        }
+        if (keys != null) {
+            hits.increment();
+            return keys;
+        }
+        misses.increment();
+        // localized outside the lock, so a miss doesn't block the sessions of other devices
+        byte[] engineIdValue = engineId.getValue();
+        byte[] authenticationKey = securityProtocols.passwordToKey(user.getAuthenticationProtocol(),
+                user.getAuthenticationPassphrase(), engineIdValue);
+        byte[] privacyKey = user.getPrivacyProtocol() == null ? null : securityProtocols.passwordToKey(user.getPrivacyProtocol(),
+                user.getAuthenticationProtocol(), user.getPrivacyPassphrase(), engineIdValue);
+        if (authenticationKey == null) {
+            throw new IllegalStateException("Unable to localize SNMPv3 keys: unsupported authentication protocol " + user.getAuthenticationProtocol());
+        }
+        keys = new LocalizedKeys(authenticationKey, privacyKey);
+        synchronized (entries) {
+            entries.put(key, keys);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("SNMPv3 keys of " + user.getSecurityName() + " are localized to engine ID " + engineId.toHexString());
+        }
+        return keys;
+    }
+
+    /**
+     * Number of the cached localized users
+     *
+     * @return cache size
+     * */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Number of the lookups, served by the cache
+     *
+     * @return cache hits
+     * */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of the lookups, which required key localization
+     *
+     * @return cache misses
+     * */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * SHA-256 digest of the security name, protocols and passwords of the user
+     *
+     * @param user to digest
+     * @return digest bytes
+     * */
+    private static byte[] digest(UsmUser user) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, user.getSecurityName());
+            update(digest, user.getAuthenticationProtocol());
+            update(digest, user.getAuthenticationPassphrase());
+            update(digest, user.getPrivacyProtocol());
+            update(digest, user.getPrivacyPassphrase());
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, Object value) {
+        byte[] bytes;
+        if (value == null) {
+            bytes = new byte[0];
+        } else if (value instanceof OctetString) {
+            bytes = ((OctetString) value).getValue();
+        } else {
+            bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        // length-prefixed, so adjacent fields can't shift into each other
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    /**
+     * Authentication and privacy keys, localized to an engine ID
+     * */
+    static final class LocalizedKeys {
+        private final byte[] authenticationKey;
+        /**
+         * Privacy key, null if the user has no privacy protocol
+         * */
+        private final byte[] privacyKey;
+
+        private LocalizedKeys(byte[] authenticationKey, byte[] privacyKey) {
+            this.authenticationKey = authenticationKey;
+            this.privacyKey = privacyKey;
+        }
+
+        /**
+         * Retrieves {@link #authenticationKey}
+         *
+         * @return value of {@link #authenticationKey}
+         */
+        byte[] getAuthenticationKey() {
+            return authenticationKey;
+        }
+
+        /**
+         * Retrieves {@link #privacyKey}
+         *
+         * @return value of {@link #privacyKey}
+         */
+        byte[] getPrivacyKey() {
+            return privacyKey;
+        }
+    }
+
+    /**
+     * Cache key: user digest and engine ID
+     * */
+    private static final class Key {
+        private final byte[] userDigest;
+        private final byte[] engineId;
+        private final int hash;
+
+        private Key(byte[] userDigest, byte[] engineId) {
+            this.userDigest = userDigest;
+            this.engineId = engineId;
+            this.hash = 31 * Arrays.hashCode(userDigest) + Arrays.hashCode(engineId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return Arrays.equals(userDigest, that.userDigest) && Arrays.equals(engineId, that.engineId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.v3;
+
+import com.avispl.symphony.dal.util.StringUtils;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+
+import java.util.Objects;
+
+/**
+ * Immutable set of SNMPv3 USM credentials, used to detect credential changes of a live {@link SnmpV3Session}
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class SnmpV3Credentials {
+    /**
+     * USM security name
+     * */
+    private final String login;
+    /**
+     * Security level name, as in {@link LocalSecurityLevel}
+     * */
+    private final String securityLevel;
+    /**
+     * Authentication protocol OID
+     * */
+    private final OID authenticationProtocol;
+    /**
+     * Authentication password
+     * */
+    private final String authPassword;
+    /**
+     * Privacy protocol OID
+     * */
+    private final OID privacyProtocol;
+    /**
+     * Privacy password
+     * */
+    private final String privatePassword;
+
+    public SnmpV3Credentials(String login, String securityLevel, OID authenticationProtocol, String authPassword, OID privacyProtocol, String privatePassword) {
+        this.login = login;
+        this.securityLevel = securityLevel;
+        this.authenticationProtocol = authenticationProtocol;
+        this.authPassword = authPassword;
+        this.privacyProtocol = privacyProtocol;
+        this.privatePassword = privatePassword;
+    }
+
+    /**
+     * Retrieves {@link #login}
+     *
+     * @return value of {@link #login}
+     */
+    public String getLogin() {
+        return login;
+    }
+
+    /**
+     * Retrieves {@link #securityLevel}
+     *
+     * @return value of {@link #securityLevel}
+     */
+    public String getSecurityLevel() {
+        return securityLevel;
+    }
+
+    /**
+     * Security name as {@link OctetString}, empty if login is not provided
+     *
+     * @return security name
+     * */
+    public OctetString getSecurityName() {
+        return new OctetString(login == null ? "" : login);
+    }
+
+    /**
+     * Create USM user out of the credentials. Authentication and privacy protocols are only set if the respective
+     * password is provided.
+     *
+     * @return new {@link UsmUser} instance
+     * */
+    public UsmUser toUsmUser() {
+        OctetString authPasswordOctet = StringUtils.isNotNullOrEmpty(authPassword) ? new OctetString(authPassword) : null;
+        OctetString privPasswordOctet = StringUtils.isNotNullOrEmpty(privatePassword) ? new OctetString(privatePassword) : null;
+        return new UsmUser(getSecurityName(),
+                authPasswordOctet == null ? null : authenticationProtocol, authPasswordOctet,
+                privPasswordOctet == null ? null : privacyProtocol, privPasswordOctet);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SnmpV3Credentials that = (SnmpV3Credentials) o;
+        return Objects.equals(login, that.login) && Objects.equals(securityLevel, that.securityLevel)
+                && Objects.equals(authenticationProtocol, that.authenticationProtocol) && Objects.equals(authPassword, that.authPassword)
+                && Objects.equals(privacyProtocol, that.privacyProtocol) && Objects.equals(privatePassword, that.privatePassword);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(login, securityLevel, authenticationProtocol, authPassword, privacyProtocol, privatePassword);
+    }
+
+    @Override
+    public String toString() {
+        return "SnmpV3Credentials{login='" + login + "', securityLevel='" + securityLevel + "'}";
+    }
+}
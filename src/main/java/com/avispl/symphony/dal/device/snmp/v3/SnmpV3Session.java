@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.v3;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import com.avispl.symphony.dal.device.snmp.engine.SharedSnmpEngine;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.UserTarget;
+import org.snmp4j.mp.MPv3;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.security.SecurityModels;
+import org.snmp4j.security.USM;
+import org.snmp4j.security.UsmTimeEntry;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Long-lived SNMPv3 session of a single device.
+ * <p>
+ * Session uses the {@link USM} of the {@link SharedSnmpEngine} it is bound to, nothing is added to the global
+ * {@link SecurityModels}. The authoritative engine ID of the device is discovered once and cached (engine boots
+ * and time are tracked by the {@link USM} time table), discovery is only repeated after {@link #invalidate()} -
+ * on an unknownEngineID/notInTimeWindow REPORT, or after a credentials change.
+ * <p>
+ * Since the USM is shared between devices, the session user is registered for the discovered engine ID only,
+ * so devices with the same security name and different passwords don't interfere. Registrations are reference-counted
+ * by the engine, the user is removed once the last session of the engine ID releases it, see {@link #close()}.
+ * Keys of the user are localized to the engine ID through the {@link LocalizedKeyCache}, so the rediscovery
+ * of the same engine ID doesn't repeat the localization.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public class SnmpV3Session {
+    private static final Log logger = LogFactory.getLog(SnmpV3Session.class);
+    /**
+     * Default authoritative engine ID discovery timeout, in milliseconds
+     * */
+    public static final long ENGINE_DISCOVERY_TIMEOUT = 1500;
+    /**
+     * Default number of request retries
+     * */
+    public static final int REQUEST_RETRIES = 2;
+    /**
+     * Default request timeout, in milliseconds
+     * */
+    public static final long REQUEST_TIMEOUT = 2000;
+
+    /**
+     * Shared SNMP engine the session is bound to
+     * */
+    private final SharedSnmpEngine engine;
+    /**
+     * SNMP client of the {@link #engine}
+     * */
+    private final Snmp snmp;
+    /**
+     * USM of the {@link #engine}
+     * */
+    private final USM usm;
+    /**
+     * Message processing model of the {@link #engine}, bound to {@link #usm}
+     * */
+    private final MPv3 mpv3;
+    /**
+     * Device address
+     * */
+    private final UdpAddress address;
+    /**
+     * Current session credentials
+     * */
+    private SnmpV3Credentials credentials;
+    /**
+     * Target with the discovered authoritative engine ID, null if discovery is required
+     * */
+    private volatile UserTarget<UdpAddress> target;
+    /**
+     * Number of engine ID discoveries, performed by the session
+     * */
+    private volatile long discoveries;
+    /**
+     * Authoritative engine ID discovery timeout, in milliseconds
+     * */
+    private volatile long discoveryTimeout = ENGINE_DISCOVERY_TIMEOUT;
+    /**
+     * Engine ID the session user is registered for, null if the user is not registered
+     * */
+    private OctetString registeredEngineId;
+
+    public SnmpV3Session(SharedSnmpEngine engine, UdpAddress address, SnmpV3Credentials credentials) {
+        this.engine = engine;
+        this.snmp = engine.getSnmp();
+        this.usm = engine.getUsm();
+        this.mpv3 = engine.getMpv3();
+        this.address = address;
+        this.credentials = credentials;
+    }
+
+    /**
+     * Check whether the session is bound to the given shared SNMP engine
+     *
+     * @param engine to check
+     * @return true if session uses the same engine instance
+     * */
+    public boolean isBoundTo(SharedSnmpEngine engine) {
+        return this.engine == engine;
+    }
+
+    /**
+     * Update session credentials. If credentials differ from the current ones - USM user is replaced and
+     * the engine ID is rediscovered on the next {@link #getTarget()} call.
+     *
+     * @param credentials new credentials
+     * */
+    public synchronized void updateCredentials(SnmpV3Credentials credentials) {
+        if (this.credentials.equals(credentials)) {
+            return;
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("SNMPv3 credentials changed for " + address + ", engine ID rediscovery is scheduled.");
+        }
+        invalidate();
+        this.credentials = credentials;
+    }
+
+    /**
+     * Retrieve session target, discover the authoritative engine ID if needed
+     *
+     * @return {@link UserTarget} with the authoritative engine ID set
+     * @throws IllegalStateException if engine ID discovery fails
+     * */
+    public UserTarget<UdpAddress> getTarget() {
+        UserTarget<UdpAddress> currentTarget = target;
+        if (currentTarget != null) {
+            return currentTarget;
+        }
+        synchronized (this) {
+            if (target == null) {
+                target = discover();
+            }
+            return target;
+        }
+    }
+
+    /**
+     * Drop the cached engine ID and engine time, so the engine ID is rediscovered on the next {@link #getTarget()} call
+     * */
+    public synchronized void invalidate() {
+        UserTarget<UdpAddress> currentTarget = target;
+        target = null;
+        if (currentTarget != null && currentTarget.getAuthoritativeEngineID() != null) {
+            usm.removeEngineTime(new OctetString(currentTarget.getAuthoritativeEngineID()));
+        }
+        releaseUser();
+        mpv3.removeEngineID(address);
+    }
+
+    /**
+     * Release the session user and drop the cached target, the engine ID and time are kept for other sessions
+     * of the device
+     * */
+    public synchronized void close() {
+        target = null;
+        releaseUser();
+    }
+
+    /**
+     * Check whether a REPORT PDU signals that the cached engine ID, boots or time are no longer valid
+     *
+     * @param response PDU to check
+     * @return true for unknownEngineID and notInTimeWindow reports
+     * */
+    public static boolean requiresRediscovery(PDU response) {
+        if (response == null || response.getType() != PDU.REPORT || response.size() == 0) {
+            return false;
+        }
+        VariableBinding vb = response.get(0);
+        return vb.getOid().startsWith(SnmpConstants.usmStatsUnknownEngineIDs)
+                || vb.getOid().startsWith(SnmpConstants.usmStatsNotInTimeWindows);
+    }
+
+    /**
+     * Retrieve the cached authoritative engine ID
+     *
+     * @return engine ID, null if it is not discovered yet
+     * */
+    public byte[] getEngineId() {
+        UserTarget<UdpAddress> currentTarget = target;
+        return currentTarget == null ? null : currentTarget.getAuthoritativeEngineID();
+    }
+
+    /**
+     * Retrieve the current engine boots and time of the device, estimated from the cached engine time entry
+     *
+     * @return {@link UsmTimeEntry}, null if the engine ID is not discovered yet
+     * */
+    public UsmTimeEntry getEngineTime() {
+        byte[] engineId = getEngineId();
+        return engineId == null ? null : usm.getTimeTable().getTime(new OctetString(engineId));
+    }
+
+    /**
+     * Restore the engine ID and time of the device, e.g. persisted before the adapter restart, so the discovery
+     * is skipped. If the device has been replaced or rebooted since, the first request is answered with a REPORT,
+     * see {@link #requiresRediscovery(PDU)}, and the engine ID is rediscovered as usual
+     *
+     * @param engineId authoritative engine ID of the device
+     * @param engineBoots engine boots of the device
+     * @param engineTime current engine time of the device, in seconds
+     * */
+    public synchronized void restore(byte[] engineId, int engineBoots, int engineTime) {
+        if (target != null) {
+            return;
+        }
+        OctetString authoritativeEngineId = new OctetString(engineId);
+        registerUser(authoritativeEngineId);
+        usm.getTimeTable().addEntry(new UsmTimeEntry(authoritativeEngineId, engineBoots, engineTime));
+        mpv3.addEngineID(address, authoritativeEngineId);
+        target = createTarget(engineId);
+        if (logger.isDebugEnabled()) {
+            logger.debug("SNMPv3 authoritative engine ID of " + address + " is restored.");
+        }
+    }
+
+    /**
+     * Retrieves {@link #discoveries}
+     *
+     * @return value of {@link #discoveries}
+     */
+    public long getDiscoveries() {
+        return discoveries;
+    }
+
+    /**
+     * Retrieves {@link #discoveryTimeout}
+     *
+     * @return value of {@link #discoveryTimeout}
+     */
+    public long getDiscoveryTimeout() {
+        return discoveryTimeout;
+    }
+
+    /**
+     * Sets {@link #discoveryTimeout} value
+     *
+     * @param discoveryTimeout new value of {@link #discoveryTimeout}
+     */
+    public void setDiscoveryTimeout(long discoveryTimeout) {
+        this.discoveryTimeout = discoveryTimeout;
+    }
+
+    /**
+     * Discover the authoritative engine ID and build a new target
+     *
+     * @return new {@link UserTarget}
+     * @throws IllegalStateException if engine ID discovery fails
+     * */
+    private UserTarget<UdpAddress> discover() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Discovering SNMPv3 authoritative engine ID of " + address);
+        }
+        discoveries++;
+        byte[] agentEID = snmp.discoverAuthoritativeEngineID(address, discoveryTimeout);
+        if (agentEID == null) {
+            throw new IllegalStateException("SNMPv3 EngineID discovery failed. Please check target hostname or SNMP service status.");
+        }
+        registerUser(new OctetString(agentEID));
+        return createTarget(agentEID);
+    }
+
+    /**
+     * Register the session user for the engine ID, the user registered for another engine ID is released
+     *
+     * @param engineId authoritative engine ID of the device
+     * */
+    private void registerUser(OctetString engineId) {
+        OctetString previousEngineId = registeredEngineId;
+        engine.retainUser(engineId, credentials.getSecurityName());
+        registeredEngineId = engineId;
+        if (previousEngineId != null) {
+            engine.releaseUser(previousEngineId, credentials.getSecurityName());
+        }
+        LocalizedKeyCache.getInstance().addUser(usm, credentials, engineId);
+    }
+
+    /**
+     * Release the session user, if registered
+     * */
+    private void releaseUser() {
+        if (registeredEngineId != null) {
+            engine.releaseUser(registeredEngineId, credentials.getSecurityName());
+            registeredEngineId = null;
+        }
+    }
+
+    /**
+     * Build a new target of the authoritative engine ID
+     *
+     * @param agentEID authoritative engine ID of the device
+     * @return new {@link UserTarget}
+     * */
+    private UserTarget<UdpAddress> createTarget(byte[] agentEID) {
+        UserTarget<UdpAddress> userTarget = new UserTarget<>();
+        userTarget.setAddress(address);
+        userTarget.setVersion(SnmpConstants.version3);
+        userTarget.setSecurityName(credentials.getSecurityName());
+        userTarget.setSecurityLevel(LocalSecurityLevel.findLevelByName(credentials.getSecurityLevel()));
+        userTarget.setAuthoritativeEngineID(agentEID);
+        userTarget.setRetries(REQUEST_RETRIES);
+        userTarget.setTimeout(REQUEST_TIMEOUT);
+        return userTarget;
+    }
+}
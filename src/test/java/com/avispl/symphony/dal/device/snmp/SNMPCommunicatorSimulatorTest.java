@@ -0,0 +1,695 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.device.snmp.simulator.SnmpAgentSimulator;
+import com.avispl.symphony.dal.device.snmp.simulator.SnmpWalkDataset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.PDU;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.security.AuthSHA;
+import org.snmp4j.security.PrivAES128;
+import org.snmp4j.security.SecurityLevel;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.VariableBinding;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.DatagramSocket;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+
+public class SNMPCommunicatorSimulatorTest {
+    private static final String SYSTEM_PROPERTIES = ".1.3.6.1.2.1.1.1.0:Hardware|.1.3.6.1.2.1.1.5.0:DeviceName|.1.3.6.1.2.1.1.6.0:Location";
+    private static final VariableBinding LOCATION_CHANGE = new VariableBinding(new OID("1.3.6.1.2.1.1.6.0"), new OctetString("Rack 5"));
+
+    SnmpAgentSimulator simulator;
+    SNMPCommunicator snmpCommunicator = new SNMPCommunicator();
+
+    @BeforeEach
+    public void setUpBefore() throws Exception {
+        simulator = new SnmpAgentSimulator(SnmpWalkDataset.fromResource("/simulator/device.walk"));
+        snmpCommunicator.setHost("127.0.0.1");
+        snmpCommunicator.setSnmpPort(simulator.getPort());
+        snmpCommunicator.setSnmpCommunity("public");
+        snmpCommunicator.setSnmpTimeout(200);
+        snmpCommunicator.setMinRequestTimeout(100);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        snmpCommunicator.destroy();
+        simulator.close();
+    }
+
+    @Test
+    public void testSnmpV2cPoll() throws Exception {
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES + "|.1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr");
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("Linux av-switch 5.10.0-21-amd64 #1 SMP x86_64", statisticsMap.get("Hardware"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertEquals("Rack 4, Room 210", statisticsMap.get("Location"));
+        Assertions.assertEquals("lo", statisticsMap.get("Interfaces#ifDescr.1"));
+        Assertions.assertEquals("eth0", statisticsMap.get("Interfaces#ifDescr.2"));
+        Assertions.assertEquals("eth1", statisticsMap.get("Interfaces#ifDescr.3"));
+        Assertions.assertFalse(statisticsMap.containsKey("Interfaces#ifDescr.4"));
+    }
+
+    @Test
+    public void testSnmpV1Walk() throws Exception {
+        simulator.getDataset().put(".1.3.6.1.6.3.99.1.1", new OctetString("last"));
+        snmpCommunicator.setSnmpVersion("1");
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES + "|.1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr|.1.3.6.1.6.3.99.*:Tail@1h");
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertEquals("lo", statisticsMap.get("Interfaces#ifDescr.1"));
+        Assertions.assertEquals("eth1", statisticsMap.get("Interfaces#ifDescr.3"));
+        Assertions.assertFalse(statisticsMap.containsKey("Interfaces#ifDescr.4"));
+        Assertions.assertEquals("last", statisticsMap.get("Tail.1.1"));
+        Assertions.assertEquals("0", statisticsMap.get("AdapterMetadata#MissedOIDs"));
+
+        // the walk ended with noSuchName at the end of MIB view is complete, so it is cached for its refresh interval
+        long requests = simulator.getRequests();
+        statisticsMap = poll();
+        Assertions.assertEquals("last", statisticsMap.get("Tail.1.1"));
+        Assertions.assertEquals(5, simulator.getRequests() - requests);
+    }
+
+    @Test
+    public void testNoSocketPerAdapter() throws Exception {
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES);
+        snmpCommunicator.init();
+        Assertions.assertEquals("av-switch", poll().get("DeviceName"));
+        long transportThreads = countTransportThreads();
+
+        SNMPCommunicator secondCommunicator = new SNMPCommunicator();
+        secondCommunicator.setHost("127.0.0.1");
+        secondCommunicator.setSnmpPort(simulator.getPort());
+        secondCommunicator.setSnmpCommunity("public");
+        secondCommunicator.setSnmpProperties(SYSTEM_PROPERTIES);
+        try {
+            secondCommunicator.init();
+            Assertions.assertEquals("av-switch", ((ExtendedStatistics) secondCommunicator.getMultipleStatistics().get(0)).getStatistics().get("DeviceName"));
+            Assertions.assertEquals("av-switch", secondCommunicator.querySnmp(Collections.singletonList(".1.3.6.1.2.1.1.5.0")).iterator().next().getValue());
+            Assertions.assertEquals("public", secondCommunicator.getSnmpCommunity());
+            Assertions.assertEquals(transportThreads, countTransportThreads());
+        } finally {
+            secondCommunicator.destroy();
+        }
+    }
+
+    @Test
+    public void testWrongCommunity() throws Exception {
+        simulator.setCommunity("private");
+        snmpCommunicator.setCircuitBreakerThreshold(0);
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES);
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertNotEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertTrue(simulator.getDroppedRequests() > 0);
+        Assertions.assertNotEquals("0", statisticsMap.get("PollingMetrics#Timeouts"));
+    }
+
+    @Test
+    public void testTooBigSplit() throws Exception {
+        simulator.setMaxVarbinds(2);
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES + "|.1.3.6.1.2.1.1.4.0:Contact|.1.3.6.1.2.1.2.1.0:InterfaceCount");
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertEquals("noc@example.com", statisticsMap.get("Contact"));
+        Assertions.assertEquals("3", statisticsMap.get("InterfaceCount"));
+        Assertions.assertNotEquals("0", statisticsMap.get("PollingMetrics#TooBigSplits"));
+    }
+
+    @Test
+    public void testReorderedResponse() throws Exception {
+        simulator.setReverseOrder(true);
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES + "|.1.3.6.1.2.1.1.5.0:Hostname");
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("Linux av-switch 5.10.0-21-amd64 #1 SMP x86_64", statisticsMap.get("Hardware"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertEquals("Rack 4, Room 210", statisticsMap.get("Location"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("Hostname"));
+    }
+
+    @Test
+    public void testDuplicateOids() throws Exception {
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES + "|.1.3.6.1.2.1.1.1.0:System Description|.1.3.6.1.2.1.1.5.0:System Name"
+                + "|.1.3.6.1.2.1.1.6.0:System Location|.1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr|.1.3.6.1.2.1.2.2.1.2.*:Ports#ifDescr");
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("Linux av-switch 5.10.0-21-amd64 #1 SMP x86_64", statisticsMap.get("System Description"));
+        Assertions.assertEquals(statisticsMap.get("Hardware"), statisticsMap.get("System Description"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("System Name"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertEquals("Rack 4, Room 210", statisticsMap.get("System Location"));
+        Assertions.assertEquals("eth1", statisticsMap.get("Interfaces#ifDescr.3"));
+        Assertions.assertEquals("eth1", statisticsMap.get("Ports#ifDescr.3"));
+        // a single GET of the 3 distinct OIDs and a single GETBULK of the shared walk root
+        Assertions.assertEquals(2, simulator.getRequests());
+        Assertions.assertEquals("2.00", statisticsMap.get("PollingMetrics#VarbindsPerPDU"));
+    }
+
+    @Test
+    public void testPacketLossRecovery() throws Exception {
+        simulator.setLossRate(0.75);
+        simulator.setJitter(20);
+        simulator.setSeed(2);
+        snmpCommunicator.setSnmpAttempts(3);
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES);
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertTrue(simulator.getDroppedRequests() > 0);
+        Assertions.assertNotEquals("0", statisticsMap.get("PollingMetrics#Retries"));
+    }
+
+    @Test
+    public void testPollBudgetWithLatency() throws Exception {
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES);
+        snmpCommunicator.init();
+        Assertions.assertEquals("av-switch", poll().get("DeviceName"));
+
+        simulator.setLatency(500);
+        snmpCommunicator.setPollTimeout(100);
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertEquals("3", statisticsMap.get("AdapterMetadata#MissedOIDs"));
+        Assertions.assertEquals("true", statisticsMap.get("AdapterMetadata#StaleData"));
+    }
+
+    @Test
+    public void testEmitChangesOnly() throws Exception {
+        snmpCommunicator.setEmitChangesOnly(true);
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES);
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+        Assertions.assertEquals("true", statisticsMap.get("AdapterMetadata#FullSnapshot"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+
+        simulator.getDataset().put(".1.3.6.1.2.1.1.6.0", new OctetString("Rack 5, Room 210"));
+        statisticsMap = poll();
+        Assertions.assertEquals("false", statisticsMap.get("AdapterMetadata#FullSnapshot"));
+        Assertions.assertEquals("Rack 5, Room 210", statisticsMap.get("Location"));
+        Assertions.assertFalse(statisticsMap.containsKey("DeviceName"));
+        Assertions.assertFalse(statisticsMap.containsKey("Hardware"));
+
+        snmpCommunicator.setFullRefreshInterval(0);
+        statisticsMap = poll();
+        Assertions.assertEquals("true", statisticsMap.get("AdapterMetadata#FullSnapshot"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+    }
+
+    @Test
+    public void testCounterRates() throws Exception {
+        snmpCommunicator.setSnmpProperties(".1.3.6.1.2.1.1.3.0:Uptime|.1.3.6.1.2.1.2.2.1.10.*:Interfaces#ifInOctets");
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+        Assertions.assertEquals("3 hour(s) 25 minute(s) 45 second(s)", statisticsMap.get("Uptime"));
+        Assertions.assertEquals("3918276354", statisticsMap.get("Interfaces#ifInOctets.2"));
+        Assertions.assertFalse(statisticsMap.containsKey("Interfaces#ifInOctets.2Delta"));
+
+        simulator.getDataset().put(".1.3.6.1.2.1.1.3.0", new TimeTicks(1235500));
+        simulator.getDataset().put(".1.3.6.1.2.1.2.2.1.10.1", new Counter32(83842));
+        simulator.getDataset().put(".1.3.6.1.2.1.2.2.1.10.2", new Counter32(1000));
+        statisticsMap = poll();
+        Assertions.assertEquals("10000", statisticsMap.get("Interfaces#ifInOctets.1Delta"));
+        Assertions.assertEquals("1000.00", statisticsMap.get("Interfaces#ifInOctets.1Rate(/s)"));
+        Assertions.assertEquals("376691942", statisticsMap.get("Interfaces#ifInOctets.2Delta"));
+        Assertions.assertEquals("0", statisticsMap.get("Interfaces#ifInOctets.3Delta"));
+
+        snmpCommunicator.setTypedValues(false);
+        Assertions.assertEquals("3:25:55.00", poll().get("Uptime"));
+    }
+
+    @Test
+    public void testPollAllocationCeiling() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported());
+        int oidCount = 100;
+        StringBuilder snmpProperties = new StringBuilder();
+        for (int i = 0; i < oidCount; i++) {
+            simulator.getDataset().put(".1.3.6.1.4.1.99999.1." + i + ".0", new OctetString("value-" + i));
+            snmpProperties.append(i == 0 ? "" : "|").append(".1.3.6.1.4.1.99999.1.").append(i).append(".0:Load#Property").append(i);
+        }
+        snmpCommunicator.setSnmpProperties(snmpProperties.toString());
+        snmpCommunicator.init();
+        for (int i = 0; i < 500; i++) {
+            poll();
+        }
+        Assertions.assertEquals("value-99", poll().get("Load#Property99"));
+
+        int polls = 500;
+        long allocatedBefore = adapterAllocatedBytes();
+        for (int i = 0; i < polls; i++) {
+            poll();
+        }
+        long bytesPerPoll = (adapterAllocatedBytes() - allocatedBefore) / polls;
+        Assertions.assertTrue(bytesPerPoll < oidCount * 1024L, "Allocated " + bytesPerPoll + " bytes per poll of " + oidCount + " OIDs");
+    }
+
+    @Test
+    public void testSnmpV3Poll() throws Exception {
+        initSnmpV3();
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertEquals("1", statisticsMap.get("PollingMetrics#EngineDiscoveries"));
+        Assertions.assertEquals("av-switch", poll().get("DeviceName"));
+        Assertions.assertEquals("1", poll().get("PollingMetrics#EngineDiscoveries"));
+    }
+
+    @Test
+    public void testSnmpV3AgentReboot() throws Exception {
+        initSnmpV3();
+        Assertions.assertEquals("av-switch", poll().get("DeviceName"));
+
+        simulator.reboot();
+        simulator.getDataset().put(".1.3.6.1.2.1.1.5.0", new OctetString("av-switch-rebooted"));
+        Assertions.assertEquals("av-switch-rebooted", poll().get("DeviceName"));
+    }
+
+    @Test
+    public void testSnmpV3UnknownEngineIdReport() throws Exception {
+        initSnmpV3();
+        Assertions.assertEquals("av-switch", poll().get("DeviceName"));
+
+        // SNMP4J answers the first unknownEngineID REPORTs itself by resending the request, the adapter rediscovers once these are exhausted
+        simulator.injectReports(SnmpConstants.usmStatsUnknownEngineIDs, 3);
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals(3, simulator.getReportsSent());
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertEquals("2", statisticsMap.get("PollingMetrics#EngineDiscoveries"));
+    }
+
+    @Test
+    public void testInformUpdatesCachedValue() throws Exception {
+        int trapPort = freeUdpPort();
+        snmpCommunicator.setTrapPort(trapPort);
+        snmpCommunicator.setSnmpProperties(".1.3.6.1.2.1.1.5.0:DeviceName|.1.3.6.1.2.1.1.6.0:Location@1h");
+        snmpCommunicator.init();
+        Assertions.assertEquals("Rack 4, Room 210", poll().get("Location"));
+        long requests = simulator.getRequests();
+
+        PDU response = simulator.sendNotification(trapPort, PDU.INFORM, SnmpConstants.linkUp, LOCATION_CHANGE);
+        Assertions.assertNotNull(response);
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("Rack 5", statisticsMap.get("Location"));
+        Assertions.assertEquals("1", statisticsMap.get("PollingMetrics#NotificationsReceived"));
+        // Location is fresh for another hour, only DeviceName is requested
+        Assertions.assertEquals(requests + 1, simulator.getRequests());
+    }
+
+    @Test
+    public void testNotificationWithWrongCommunity() throws Exception {
+        int trapPort = freeUdpPort();
+        snmpCommunicator.setTrapPort(trapPort);
+        snmpCommunicator.setSnmpProperties(".1.3.6.1.2.1.1.5.0:DeviceName|.1.3.6.1.2.1.1.6.0:Location@1h");
+        snmpCommunicator.init();
+        poll();
+
+        simulator.setCommunity("private");
+        Assertions.assertNull(simulator.sendNotification(trapPort, PDU.INFORM, SnmpConstants.linkUp, LOCATION_CHANGE));
+        simulator.setCommunity("public");
+        Map<String, String> statisticsMap = poll();
+
+        Assertions.assertEquals("Rack 4, Room 210", statisticsMap.get("Location"));
+        Assertions.assertEquals("0", statisticsMap.get("PollingMetrics#NotificationsReceived"));
+    }
+
+    @Test
+    public void testSnmpV3Trap() throws Exception {
+        int trapPort = freeUdpPort();
+        snmpCommunicator.setTrapPort(trapPort);
+        initSnmpV3();
+        snmpCommunicator.setSnmpProperties(".1.3.6.1.2.1.1.5.0:DeviceName|.1.3.6.1.2.1.1.6.0:Location@1h");
+        Assertions.assertEquals("Rack 4, Room 210", poll().get("Location"));
+
+        simulator.sendNotification(trapPort, PDU.TRAP, "simulator", SecurityLevel.AUTH_PRIV, SnmpConstants.linkUp, LOCATION_CHANGE);
+        long deadline = System.currentTimeMillis() + 2000;
+        Map<String, String> statisticsMap = poll();
+        while (!"Rack 5".equals(statisticsMap.get("Location")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            statisticsMap = poll();
+        }
+        Assertions.assertEquals("Rack 5", statisticsMap.get("Location"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+    }
+
+    @Test
+    public void testSnmpV3TrapsOfUsersWithTheSameName() throws Exception {
+        int trapPort = freeUdpPort();
+        snmpCommunicator.setTrapPort(trapPort);
+        initSnmpV3();
+        snmpCommunicator.setSnmpProperties(".1.3.6.1.2.1.1.5.0:DeviceName|.1.3.6.1.2.1.1.6.0:Location@1h");
+        Assertions.assertEquals("Rack 4, Room 210", poll().get("Location"));
+
+        // another device with the same security name and other passwords shares the receiver
+        SnmpAgentSimulator otherSimulator = new SnmpAgentSimulator(SnmpWalkDataset.fromResource("/simulator/device.walk"));
+        otherSimulator.addUser("simulator", AuthSHA.ID, "otherAuthPassword", PrivAES128.ID, "otherPrivacyPassword");
+        SNMPCommunicator otherCommunicator = new SNMPCommunicator();
+        try {
+            otherCommunicator.setHost("127.0.0.1");
+            otherCommunicator.setSnmpPort(otherSimulator.getPort());
+            otherCommunicator.setSnmpTimeout(200);
+            otherCommunicator.setTrapPort(trapPort);
+            otherCommunicator.setVersion("3");
+            otherCommunicator.setLogin("simulator");
+            otherCommunicator.setPassword("otherAuthPassword|otherPrivacyPassword");
+            otherCommunicator.setSecurityLevel("AUTH_PRIV");
+            otherCommunicator.setSnmpProperties(".1.3.6.1.2.1.1.5.0:DeviceName|.1.3.6.1.2.1.1.4.0:Contact@1h");
+            otherCommunicator.init();
+            Assertions.assertEquals("av-switch", ((ExtendedStatistics) otherCommunicator.getMultipleStatistics().get(0)).getStatistics().get("DeviceName"));
+
+            // TRAPs of both devices are authenticated with the user of their own engine ID
+            simulator.sendNotification(trapPort, PDU.TRAP, "simulator", SecurityLevel.AUTH_PRIV, SnmpConstants.linkUp, LOCATION_CHANGE);
+            otherSimulator.sendNotification(trapPort, PDU.TRAP, "simulator", SecurityLevel.AUTH_PRIV, SnmpConstants.linkUp,
+                    new VariableBinding(new OID("1.3.6.1.2.1.1.4.0"), new OctetString("ops@example.com")));
+            long deadline = System.currentTimeMillis() + 2000;
+            Map<String, String> statisticsMap = poll();
+            Map<String, String> otherStatisticsMap = ((ExtendedStatistics) otherCommunicator.getMultipleStatistics().get(0)).getStatistics();
+            while ((!"Rack 5".equals(statisticsMap.get("Location")) || !"ops@example.com".equals(otherStatisticsMap.get("Contact")))
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+                statisticsMap = poll();
+                otherStatisticsMap = ((ExtendedStatistics) otherCommunicator.getMultipleStatistics().get(0)).getStatistics();
+            }
+            Assertions.assertEquals("Rack 5", statisticsMap.get("Location"));
+            Assertions.assertEquals("ops@example.com", otherStatisticsMap.get("Contact"));
+        } finally {
+            otherCommunicator.destroy();
+            otherSimulator.close();
+        }
+
+        // the user of the destroyed adapter is released, the user of the remaining one is kept
+        Assertions.assertNull(snmpCommunicator.notificationReceiver.getEngine().getUsm()
+                .getUser(new OctetString(otherSimulator.getEngineId()), new OctetString("simulator")));
+        Assertions.assertNotNull(snmpCommunicator.notificationReceiver.getEngine().getUsm()
+                .getUser(new OctetString(simulator.getEngineId()), new OctetString("simulator")));
+    }
+
+    @Test
+    public void testUnauthenticatedSnmpV3Trap() throws Exception {
+        int trapPort = freeUdpPort();
+        snmpCommunicator.setTrapPort(trapPort);
+        initSnmpV3();
+        snmpCommunicator.setSnmpProperties(".1.3.6.1.2.1.1.5.0:DeviceName|.1.3.6.1.2.1.1.6.0:Location@1h");
+        Assertions.assertEquals("Rack 4, Room 210", poll().get("Location"));
+
+        simulator.sendNotification(trapPort, PDU.TRAP, "simulator", SecurityLevel.NOAUTH_NOPRIV, SnmpConstants.linkUp, LOCATION_CHANGE);
+        Thread.sleep(300);
+        Assertions.assertEquals("Rack 4, Room 210", poll().get("Location"));
+    }
+
+    @Test
+    public void testWarmStart() throws Exception {
+        String warmStartFile = Files.createTempDirectory("warm-start").resolve("state.bin").toString();
+        snmpCommunicator.setWarmStartFile(warmStartFile);
+        initSnmpV3();
+        Map<String, String> statisticsMap = poll();
+        Assertions.assertEquals("1", statisticsMap.get("PollingMetrics#EngineDiscoveries"));
+        snmpCommunicator.destroy();
+
+        SNMPCommunicator restarted = restartSnmpV3(SYSTEM_PROPERTIES, warmStartFile);
+        try {
+            statisticsMap = ((ExtendedStatistics) restarted.getMultipleStatistics().get(0)).getStatistics();
+
+            // the engine ID is restored, so the poll is sent right away and RTT estimates are carried over
+            Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+            Assertions.assertEquals("0", statisticsMap.get("PollingMetrics#EngineDiscoveries"));
+            Assertions.assertNotEquals("0", statisticsMap.get("PollingMetrics#SmoothedRTT(ms)"));
+        } finally {
+            restarted.destroy();
+        }
+
+        // adapters of the same device with other snmpProperties don't share the record
+        restarted = restartSnmpV3(SYSTEM_PROPERTIES + "|.1.3.6.1.2.1.1.4.0:Contact", warmStartFile);
+        try {
+            statisticsMap = ((ExtendedStatistics) restarted.getMultipleStatistics().get(0)).getStatistics();
+            Assertions.assertEquals("noc@example.com", statisticsMap.get("Contact"));
+            Assertions.assertEquals("1", statisticsMap.get("PollingMetrics#EngineDiscoveries"));
+        } finally {
+            restarted.destroy();
+        }
+
+        // with background polling, restored values are reported as stale right away, without waiting for the device
+        simulator.setLatency(1000);
+        restarted = restartSnmpV3(SYSTEM_PROPERTIES, warmStartFile);
+        try {
+            restarted.setBackgroundPollInterval(60000);
+            long start = System.nanoTime();
+            statisticsMap = ((ExtendedStatistics) restarted.getMultipleStatistics().get(0)).getStatistics();
+            Assertions.assertTrue(System.nanoTime() - start < 200_000_000L);
+            Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+            Assertions.assertEquals("true", statisticsMap.get("AdapterMetadata#StaleData"));
+            Assertions.assertEquals("false", statisticsMap.get("AdapterMetadata#LastRefreshFailed"));
+
+            // until the first background poll is complete
+            simulator.setLatency(0);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!"false".equals(statisticsMap.get("AdapterMetadata#StaleData")) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+                statisticsMap = ((ExtendedStatistics) restarted.getMultipleStatistics().get(0)).getStatistics();
+            }
+            Assertions.assertEquals("false", statisticsMap.get("AdapterMetadata#StaleData"));
+            Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        } finally {
+            restarted.destroy();
+        }
+    }
+
+    @Test
+    public void testBackgroundPolling() throws Exception {
+        simulator.setLatency(150);
+        snmpCommunicator.setSnmpTimeout(1000);
+        snmpCommunicator.setBackgroundPollInterval(100);
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES);
+        snmpCommunicator.init();
+        Map<String, String> statisticsMap = poll();
+        Assertions.assertEquals("Rack 4, Room 210", statisticsMap.get("Location"));
+        Assertions.assertNotNull(statisticsMap.get("AdapterMetadata#DataAge(ms)"));
+        Assertions.assertNotEquals("0", statisticsMap.get("AdapterMetadata#LastRefreshDuration(ms)"));
+
+        // statistics are served from the snapshot, without waiting for the device latency
+        simulator.getDataset().put(".1.3.6.1.2.1.1.6.0", new OctetString("Rack 5, Room 210"));
+        long deadline = System.currentTimeMillis() + 5000;
+        do {
+            long start = System.nanoTime();
+            statisticsMap = poll();
+            Assertions.assertTrue(System.nanoTime() - start < 100_000_000L);
+            Thread.sleep(20);
+        } while (!"Rack 5, Room 210".equals(statisticsMap.get("Location")) && System.currentTimeMillis() < deadline);
+        Assertions.assertEquals("Rack 5, Room 210", statisticsMap.get("Location"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+
+        // disabling background polling stops the poller, the device is only polled by the caller
+        snmpCommunicator.setBackgroundPollInterval(0);
+        statisticsMap = poll();
+        Assertions.assertNull(statisticsMap.get("AdapterMetadata#DataAge(ms)"));
+        long requests = simulator.getRequests();
+        Thread.sleep(400);
+        Assertions.assertEquals(requests, simulator.getRequests());
+    }
+
+    @Test
+    public void testBackgroundPollingFirstRefreshAndNotifications() throws Exception {
+        int trapPort = freeUdpPort();
+        simulator.setLatency(100);
+        snmpCommunicator.setTrapPort(trapPort);
+        snmpCommunicator.setSnmpTimeout(1000);
+        snmpCommunicator.setBackgroundPollInterval(60000);
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES);
+        snmpCommunicator.init();
+
+        // concurrent first calls wait for a single refresh
+        Thread concurrentCall = new Thread(() -> {
+            try {
+                poll();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        concurrentCall.start();
+        Assertions.assertEquals("Rack 4, Room 210", poll().get("Location"));
+        concurrentCall.join();
+        Assertions.assertEquals(1, simulator.getRequests());
+
+        // notified values are published without waiting for the next background poll
+        Assertions.assertNotNull(simulator.sendNotification(trapPort, PDU.INFORM, SnmpConstants.linkUp, LOCATION_CHANGE));
+        Map<String, String> statisticsMap = poll();
+        Assertions.assertEquals("Rack 5", statisticsMap.get("Location"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+        Assertions.assertEquals(1, simulator.getRequests());
+    }
+
+    @Test
+    public void testBackgroundPollingFailure() throws Exception {
+        snmpCommunicator.setBackgroundPollInterval(50);
+        initSnmpV3();
+        Assertions.assertEquals("false", poll().get("AdapterMetadata#LastRefreshFailed"));
+
+        // background polls fail on the invalid login, statistics of the last successful poll are reported as stale
+        snmpCommunicator.setLogin("");
+        long deadline = System.currentTimeMillis() + 2000;
+        Map<String, String> statisticsMap = poll();
+        while (!"true".equals(statisticsMap.get("AdapterMetadata#LastRefreshFailed")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            statisticsMap = poll();
+        }
+        Assertions.assertEquals("true", statisticsMap.get("AdapterMetadata#LastRefreshFailed"));
+        Assertions.assertEquals("true", statisticsMap.get("AdapterMetadata#StaleData"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+    }
+
+    @Test
+    public void testOidQuarantine() throws Exception {
+        snmpCommunicator.setOidQuarantineThreshold(2);
+        snmpCommunicator.setOidQuarantineBackoff(200);
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES + "|.1.3.6.1.2.1.1.99.0:Missing");
+        snmpCommunicator.init();
+        Assertions.assertEquals("noSuchInstance", poll().get("Missing"));
+        Map<String, String> statisticsMap = poll();
+        Assertions.assertEquals("noSuchInstance", statisticsMap.get("Missing"));
+        Assertions.assertEquals("1", statisticsMap.get("AdapterMetadata#QuarantinedOIDs"));
+
+        // quarantined OID is left out of the batch and reported with its last error value
+        long requests = simulator.getRequests();
+        statisticsMap = poll();
+        Assertions.assertEquals(1, simulator.getRequests() - requests);
+        Assertions.assertEquals("noSuchInstance", statisticsMap.get("Missing"));
+        Assertions.assertEquals("av-switch", statisticsMap.get("DeviceName"));
+
+        // and is re-checked with a single-OID request once the backoff expires
+        simulator.getDataset().put(".1.3.6.1.2.1.1.99.0", new OctetString("Restored"));
+        Thread.sleep(250);
+        requests = simulator.getRequests();
+        statisticsMap = poll();
+        Assertions.assertEquals(2, simulator.getRequests() - requests);
+        Assertions.assertEquals("Restored", statisticsMap.get("Missing"));
+        Assertions.assertEquals("0", statisticsMap.get("AdapterMetadata#QuarantinedOIDs"));
+
+        // disabling the quarantine releases the quarantined OIDs and keeps them in the batch
+        simulator.getDataset().remove(".1.3.6.1.2.1.1.99.0");
+        poll();
+        Assertions.assertEquals("1", poll().get("AdapterMetadata#QuarantinedOIDs"));
+        snmpCommunicator.setOidQuarantineThreshold(0);
+        for (int i = 0; i < 3; i++) {
+            requests = simulator.getRequests();
+            statisticsMap = poll();
+            Assertions.assertEquals(1, simulator.getRequests() - requests);
+            Assertions.assertEquals("noSuchInstance", statisticsMap.get("Missing"));
+            Assertions.assertEquals("0", statisticsMap.get("AdapterMetadata#QuarantinedOIDs"));
+        }
+        simulator.getDataset().put(".1.3.6.1.2.1.1.99.0", new OctetString("Restored"));
+        Assertions.assertEquals("Restored", poll().get("Missing"));
+    }
+
+    /**
+     * Create and init a communicator of the simulator SNMPv3 user, as if the adapter was restarted
+     *
+     * @param snmpProperties of the communicator
+     * @param warmStartFile of the communicator
+     * @return initialized communicator
+     * */
+    private SNMPCommunicator restartSnmpV3(String snmpProperties, String warmStartFile) throws Exception {
+        SNMPCommunicator restarted = new SNMPCommunicator();
+        restarted.setHost("127.0.0.1");
+        restarted.setSnmpPort(simulator.getPort());
+        restarted.setSnmpTimeout(200);
+        restarted.setMinRequestTimeout(100);
+        restarted.setVersion("3");
+        restarted.setLogin("simulator");
+        restarted.setPassword("authPassword|privacyPassword");
+        restarted.setSecurityLevel("AUTH_PRIV");
+        restarted.setSnmpProperties(snmpProperties);
+        restarted.setWarmStartFile(warmStartFile);
+        restarted.init();
+        return restarted;
+    }
+
+    /**
+     * Configure SNMPv3 AUTH_PRIV user on both the simulator and the communicator
+     * */
+    private void initSnmpV3() throws Exception {
+        simulator.addUser("simulator", AuthSHA.ID, "authPassword", PrivAES128.ID, "privacyPassword");
+        snmpCommunicator.setVersion("3");
+        snmpCommunicator.setLogin("simulator");
+        snmpCommunicator.setPassword("authPassword|privacyPassword");
+        snmpCommunicator.setSecurityLevel("AUTH_PRIV");
+        snmpCommunicator.setSnmpProperties(SYSTEM_PROPERTIES);
+        snmpCommunicator.init();
+    }
+
+    /**
+     * Sum bytes allocated by the live threads, except for the simulator threads, serving the requests
+     *
+     * @return allocated bytes
+     * */
+    private long adapterAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        String simulatorThreadSuffix = "/" + simulator.getPort();
+        long allocatedBytes = 0;
+        for (ThreadInfo thread : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (thread == null || thread.getThreadName().endsWith(simulatorThreadSuffix) || thread.getThreadName().startsWith("SnmpAgentSimulator")) {
+                continue;
+            }
+            allocatedBytes += Math.max(0, threads.getThreadAllocatedBytes(thread.getThreadId()));
+        }
+        return allocatedBytes;
+    }
+
+    /**
+     * Find UDP port available for the notification receiver
+     *
+     * @return port number
+     * */
+    private static int freeUdpPort() throws Exception {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Count the running UDP transport listener threads
+     *
+     * @return number of the listener threads
+     * */
+    private static long countTransportThreads() {
+        return Thread.getAllStackTraces().keySet().stream().filter(thread -> thread.getName().startsWith("DefaultUDPTransportMapping")).count();
+    }
+
+    /**
+     * Poll the simulator
+     *
+     * @return statistics of the poll
+     * */
+    private Map<String, String> poll() throws Exception {
+        return ((ExtendedStatistics) snmpCommunicator.getMultipleStatistics().get(0)).getStatistics();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.engine;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.util.WorkerTask;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class DispatcherPoolTest {
+
+    @Test
+    public void testDiscardWhenQueueIsFull() throws Exception {
+        DispatcherPool pool = new DispatcherPool("test", 1, 1, DispatcherPool.RejectionPolicy.DISCARD);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean discardedExecuted = new AtomicBoolean();
+        try {
+            pool.execute(task(() -> {
+                started.countDown();
+                await(release);
+            }));
+            Assertions.assertTrue(started.await(1, TimeUnit.SECONDS));
+            pool.execute(task(() -> { }));
+            Assertions.assertFalse(pool.tryToExecute(task(() -> { })));
+            pool.execute(task(() -> discardedExecuted.set(true)));
+
+            Assertions.assertEquals(1, pool.getBusyThreads());
+            Assertions.assertEquals(1, pool.getQueueDepth());
+            Assertions.assertEquals(1, pool.getRejectedTasks());
+            Assertions.assertFalse(pool.isIdle());
+        } finally {
+            release.countDown();
+            pool.stop();
+        }
+        Assertions.assertTrue(pool.isIdle());
+        Assertions.assertFalse(discardedExecuted.get());
+    }
+
+    @Test
+    public void testCallerRunsWhenQueueIsFull() throws Exception {
+        DispatcherPool pool = new DispatcherPool("test", 1, 1, DispatcherPool.RejectionPolicy.CALLER_RUNS);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> executedBy = new AtomicReference<>();
+        try {
+            pool.execute(task(() -> {
+                started.countDown();
+                await(release);
+            }));
+            Assertions.assertTrue(started.await(1, TimeUnit.SECONDS));
+            pool.execute(task(() -> { }));
+            pool.execute(task(() -> executedBy.set(Thread.currentThread())));
+
+            Assertions.assertSame(Thread.currentThread(), executedBy.get());
+            Assertions.assertEquals(1, pool.getRejectedTasks());
+        } finally {
+            release.countDown();
+            pool.stop();
+        }
+    }
+
+    private static WorkerTask task(Runnable runnable) {
+        return new WorkerTask() {
+            @Override
+            public void run() {
+                runnable.run();
+            }
+
+            @Override
+            public void terminate() {
+            }
+
+            @Override
+            public void join() {
+            }
+
+            @Override
+            public void interrupt() {
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.engine;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.OctetString;
+
+public class SharedSnmpEngineTest {
+    private static final OctetString ENGINE_ID = OctetString.fromHexString("80:00:1f:88:01");
+    private static final OctetString SECURITY_NAME = new OctetString("user");
+
+    @Test
+    public void testUserIsRemovedByTheLastSession() throws Exception {
+        SharedSnmpEngine engine = new SharedSnmpEngine(0, 1, 16, DispatcherPool.RejectionPolicy.CALLER_RUNS);
+        try {
+            engine.retainUser(ENGINE_ID, SECURITY_NAME);
+            engine.getUsm().addUser(SECURITY_NAME, ENGINE_ID, new UsmUser(SECURITY_NAME, null, null, null, null));
+            engine.retainUser(ENGINE_ID, SECURITY_NAME);
+
+            Assertions.assertFalse(engine.releaseUser(ENGINE_ID, SECURITY_NAME));
+            Assertions.assertNotNull(engine.getUsm().getUser(ENGINE_ID, SECURITY_NAME));
+            Assertions.assertTrue(engine.releaseUser(ENGINE_ID, SECURITY_NAME));
+            Assertions.assertNull(engine.getUsm().getUser(ENGINE_ID, SECURITY_NAME));
+            Assertions.assertFalse(engine.releaseUser(ENGINE_ID, SECURITY_NAME));
+        } finally {
+            engine.close();
+        }
+    }
+}
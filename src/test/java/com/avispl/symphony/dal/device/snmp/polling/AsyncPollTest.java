@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TcpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class AsyncPollTest {
+
+    @Test
+    public void testSendFailureCountsAsTimeout() throws Exception {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.1.1.0:SystemDescription|.1.3.6.1.2.1.1.5.0:SystemName");
+        PollingMetrics metrics = new PollingMetrics();
+        PollResult result = new PollResult(plan);
+        // the SNMP client has no TCP transport, so sending to a TCP address fails right away
+        Snmp snmp = new Snmp(new DefaultUdpTransportMapping());
+        try {
+            CommunityTarget<TcpAddress> target = new CommunityTarget<>(new TcpAddress("127.0.0.1/161"), new OctetString("public"));
+            AsyncPoll poll = new AsyncPoll(snmp, target, plan, new TestPollContext(metrics), 1, result);
+            poll.submit(new int[]{0});
+            poll.submit(new int[]{1});
+
+            Assertions.assertTrue(poll.await(1000));
+            Assertions.assertEquals(2, poll.getTimeouts());
+            Assertions.assertEquals(AsyncPoll.REQUEST_TIMED_OUT, result.getValue(0));
+            Assertions.assertEquals(AsyncPoll.REQUEST_TIMED_OUT, result.getValue(1));
+            Map<String, String> statistics = new HashMap<>();
+            metrics.putStatistics(statistics);
+            Assertions.assertEquals("2", statistics.get("PollingMetrics#Timeouts"));
+        } finally {
+            snmp.close();
+        }
+    }
+
+    private static class TestPollContext implements PollContext {
+        private final PollingMetrics metrics;
+
+        private TestPollContext(PollingMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public PDU createPDU() {
+            return new PDU();
+        }
+
+        @Override
+        public boolean isBulkSupported() {
+            return true;
+        }
+
+        @Override
+        public int getMaxRepetitions() {
+            return 10;
+        }
+
+        @Override
+        public String formatVariable(Variable variable) {
+            return variable.toString();
+        }
+
+        @Override
+        public boolean isTypedValues() {
+            return false;
+        }
+
+        @Override
+        public void onTooBig(int varbindsLimit) {
+        }
+
+        @Override
+        public void onRoundTrip(long rttNanos) {
+        }
+
+        @Override
+        public PollingMetrics getMetrics() {
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void testOpensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker();
+        breaker.onFailure(0, 3, 1000, 8000);
+        breaker.onFailure(0, 3, 1000, 8000);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.acquire(0));
+        breaker.onFailure(0, 3, 1000, 8000);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.acquire(999));
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.acquire(1000));
+    }
+
+    @Test
+    public void testProbeBackoff() {
+        CircuitBreaker breaker = new CircuitBreaker();
+        breaker.onFailure(0, 1, 1000, 3000);
+        Assertions.assertEquals(1000, breaker.getNextProbeAt());
+
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.acquire(1000));
+        breaker.onFailure(1000, 1, 1000, 3000);
+        Assertions.assertEquals(3000, breaker.getNextProbeAt());
+
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.acquire(3000));
+        breaker.onFailure(3000, 1, 1000, 3000);
+        Assertions.assertEquals(6000, breaker.getNextProbeAt());
+
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.acquire(6000));
+        breaker.onSuccess();
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.acquire(6000));
+        Assertions.assertEquals(0, breaker.getConsecutiveFailures());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Variable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CounterTrackerTest {
+
+    @Test
+    public void testRate() {
+        CounterTracker tracker = new CounterTracker();
+        Map<String, String> first = derive(tracker, new Counter32(1000), 10000, 0);
+        Assertions.assertTrue(first.isEmpty());
+
+        Map<String, String> second = derive(tracker, new Counter32(6000), 10500, 60000);
+        Assertions.assertEquals("5000", second.get("InOctetsDelta"));
+        Assertions.assertEquals("1000.00", second.get("InOctetsRate(/s)"));
+
+        Map<String, String> third = derive(tracker, new Counter32(6300), -1, 61000);
+        Assertions.assertEquals("300", third.get("InOctetsDelta"));
+        Assertions.assertEquals("300.00", third.get("InOctetsRate(/s)"));
+    }
+
+    @Test
+    public void testCounter32Wrap() {
+        CounterTracker tracker = new CounterTracker();
+        derive(tracker, new Counter32(4294967000L), 10000, 0);
+        Map<String, String> wrapped = derive(tracker, new Counter32(704), 10100, 1000);
+        Assertions.assertEquals("1000", wrapped.get("InOctetsDelta"));
+
+        tracker.reset();
+        derive(tracker, new Counter32(1000000), -1, 0);
+        Map<String, String> discontinuity = derive(tracker, new Counter32(1000), -1, 1000);
+        Assertions.assertTrue(discontinuity.isEmpty());
+        Assertions.assertEquals("500", derive(tracker, new Counter32(1500), -1, 2000).get("InOctetsDelta"));
+    }
+
+    @Test
+    public void testAgentRestart() {
+        CounterTracker tracker = new CounterTracker();
+        derive(tracker, new Counter32(500000), 10000, 0);
+        Map<String, String> restarted = derive(tracker, new Counter32(4000), 200, 1000);
+        Assertions.assertTrue(restarted.isEmpty());
+
+        Map<String, String> rebased = derive(tracker, new Counter32(5000), 300, 2000);
+        Assertions.assertEquals("1000", rebased.get("InOctetsDelta"));
+        Assertions.assertEquals("1000.00", rebased.get("InOctetsRate(/s)"));
+    }
+
+    @Test
+    public void testCounter64() {
+        CounterTracker tracker = new CounterTracker();
+        derive(tracker, new Counter64(Long.parseUnsignedLong("18446744073709550000")), 10000, 0);
+        Map<String, String> increased = derive(tracker, new Counter64(Long.parseUnsignedLong("18446744073709551000")), 10100, 1000);
+        Assertions.assertEquals("1000", increased.get("InOctetsDelta"));
+
+        Map<String, String> decreased = derive(tracker, new Counter64(10), 10200, 2000);
+        Assertions.assertTrue(decreased.isEmpty());
+    }
+
+    private static Map<String, String> derive(CounterTracker tracker, Variable counter, long uptime, long now) {
+        Map<String, Variable> counters = new HashMap<>();
+        counters.put("InOctets", counter);
+        Map<String, String> statistics = new HashMap<>();
+        tracker.derive(counters, uptime, now, statistics);
+        return statistics;
+    }
+}
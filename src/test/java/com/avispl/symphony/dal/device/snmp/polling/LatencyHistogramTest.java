@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getPercentile(50));
+        for (int i = 0; i < 98; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(800));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(800));
+        Assertions.assertEquals(100, histogram.getCount());
+
+        double p50 = histogram.getPercentile(50);
+        Assertions.assertTrue(p50 >= 3 && p50 < 3 * 1.42, "Unexpected p50: " + p50);
+        double p99 = histogram.getPercentile(99);
+        Assertions.assertTrue(p99 >= 800 && p99 < 800 * 1.42, "Unexpected p99: " + p99);
+
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.getCount());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.smi.OID;
+
+public class OidIndexTest {
+
+    @Test
+    public void testScalarEntries() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.1.5.0:SystemName|1.3.6.1.2.1.1.6.0:Location|.1.1.0:Short|.1.3.6.1.2.1.1.5.0:Hostname");
+        OidIndex index = plan.getOidIndex();
+        Assertions.assertArrayEquals(new int[]{0, 3}, index.getEntryIndices(new OID("1.3.6.1.2.1.1.5.0")));
+        Assertions.assertArrayEquals(new int[]{1}, index.getEntryIndices(new OID(".1.3.6.1.2.1.1.6.0")));
+        Assertions.assertArrayEquals(new int[]{2}, index.getEntryIndices(new OID("1.1.0")));
+        Assertions.assertEquals(0, index.getEntryIndices(new OID("2.1.1.0")).length);
+        Assertions.assertEquals(0, index.getEntryIndices(new OID("1.0")).length);
+        Assertions.assertEquals(0, index.getEntryIndices(new OID("1.3.6.1.2.1.1.5")).length);
+        Assertions.assertEquals(0, index.getEntryIndices(new OID("1.3.6.1.2.1.1.5.0.1")).length);
+    }
+
+    @Test
+    public void testWalkEntries() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.2.2.1.*:Interfaces#ifEntry|.1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr"
+                + "|.1.3.6.1.2.1.31.1.1.1.6.*:Interfaces#ifHCInOctets");
+        OidIndex index = plan.getOidIndex();
+        PropertyEntry ifDescr = index.getWalkEntry(new OID("1.3.6.1.2.1.2.2.1.2.3"));
+        Assertions.assertEquals("Interfaces#ifDescr", ifDescr.getPropertyName());
+        Assertions.assertEquals("Interfaces#ifDescr.3", ifDescr.walkPropertyName(new OID("1.3.6.1.2.1.2.2.1.2.3")));
+        Assertions.assertEquals("Interfaces#ifEntry", index.getWalkEntry(new OID("1.3.6.1.2.1.2.2.1.10.2")).getPropertyName());
+        Assertions.assertEquals("Interfaces#ifEntry", index.getWalkEntry(new OID("1.3.6.1.2.1.2.2.1.2")).getPropertyName());
+        Assertions.assertEquals("Interfaces#ifHCInOctets", index.getWalkEntry(new OID("1.3.6.1.2.1.31.1.1.1.6.4294967295")).getPropertyName());
+        Assertions.assertNull(index.getWalkEntry(new OID("1.3.6.1.2.1.2.2.1")));
+        Assertions.assertNull(index.getWalkEntry(new OID("1.3.6.1.2.1.31.1.1.1.7.1")));
+        Assertions.assertEquals(0, index.getEntryIndices(new OID("1.3.6.1.2.1.2.2.1.2.3")).length);
+    }
+}
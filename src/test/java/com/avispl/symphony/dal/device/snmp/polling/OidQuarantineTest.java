@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class OidQuarantineTest {
+
+    @Test
+    public void testQuarantineAndRelease() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.1.1.0:SystemDescription|.1.3.6.1.2.1.1.99.0:Missing|.1.3.6.1.2.1.1.99.0:MissingCopy");
+        OidQuarantine quarantine = new OidQuarantine(plan);
+        PollResult result = new PollResult(plan);
+        int[] allEntries = plan.getAllEntries();
+
+        result.setValue(0, "Agent");
+        result.setErrorValue(1, "noSuchInstance");
+        quarantine.update(result, 1000, 2, 100, 250);
+        Assertions.assertSame(allEntries, quarantine.activeEntries(allEntries));
+        quarantine.update(result, 2000, 2, 100, 250);
+        Assertions.assertArrayEquals(new int[]{0}, quarantine.activeEntries(allEntries));
+        Assertions.assertEquals(0, quarantine.recheckEntries(allEntries, 2099).length);
+        Assertions.assertArrayEquals(new int[]{1, 2}, quarantine.recheckEntries(allEntries, 2100));
+        Assertions.assertEquals(1, quarantine.getQuarantinedCount());
+
+        Map<String, String> statistics = new HashMap<>();
+        quarantine.putValues(statistics);
+        Assertions.assertEquals("noSuchInstance", statistics.get("Missing"));
+        Assertions.assertEquals("noSuchInstance", statistics.get("MissingCopy"));
+        Assertions.assertFalse(statistics.containsKey("SystemDescription"));
+
+        // failed re-checks double the backoff up to the max backoff, timeouts are not counted
+        quarantine.update(result, 2100, 2, 100, 250);
+        Assertions.assertEquals(0, quarantine.recheckEntries(allEntries, 2299).length);
+        Assertions.assertEquals(2, quarantine.recheckEntries(allEntries, 2300).length);
+        quarantine.update(result, 2300, 2, 100, 250);
+        Assertions.assertEquals(2, quarantine.recheckEntries(allEntries, 2550).length);
+        result.reset();
+        result.setError(1, AsyncPoll.REQUEST_TIMED_OUT);
+        quarantine.update(result, 2550, 2, 100, 250);
+        Assertions.assertTrue(quarantine.isQuarantined(1));
+
+        result.setValue(1, "Restored");
+        quarantine.update(result, 3000, 2, 100, 250);
+        Assertions.assertFalse(quarantine.isQuarantined(1));
+        Assertions.assertFalse(quarantine.isQuarantined(2));
+        Assertions.assertEquals(0, quarantine.getQuarantinedCount());
+        Assertions.assertSame(allEntries, quarantine.activeEntries(allEntries));
+    }
+}
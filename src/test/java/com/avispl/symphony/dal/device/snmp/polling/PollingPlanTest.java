@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.smi.OID;
+
+import java.util.Collections;
+
+public class PollingPlanTest {
+
+    @Test
+    public void testCompileSkipsCorruptedEntries() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.1.1.0:SystemDescription|corrupted|:NoOid|.1.3.6.1.2.1.1.5.0:|.1.3.6.1.2.1.1.5.0:SystemName");
+        Assertions.assertEquals(2, plan.getEntries().size());
+        Assertions.assertEquals(new OID("1.3.6.1.2.1.1.1.0"), plan.getEntries().get(0).getOid());
+        Assertions.assertEquals("SystemDescription", plan.getEntries().get(0).getPropertyName());
+        Assertions.assertEquals("SystemName", plan.getEntries().get(1).getPropertyName());
+        Assertions.assertEquals(1, plan.getEntries().get(1).getIndex());
+    }
+
+    @Test
+    public void testCompileSkipsUnparsableOids() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.x.1:Mistyped|.1.3.6.1.2.1.1.5.0:SystemName|system.sysName.0:Symbolic|.1.3.6.x.*:MistypedWalk");
+        Assertions.assertEquals(1, plan.getEntries().size());
+        Assertions.assertEquals("SystemName", plan.getEntries().get(0).getPropertyName());
+        Assertions.assertTrue(plan.getWalkEntries().isEmpty());
+    }
+
+    @Test
+    public void testCompileSkipsOverflowingRefreshIntervals() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.1.1.0:SystemDescription@99999999999999999999s|.1.3.6.1.2.1.1.5.0:SystemName@5m");
+        Assertions.assertEquals(1, plan.getEntries().size());
+        Assertions.assertEquals("SystemName", plan.getEntries().get(0).getPropertyName());
+        Assertions.assertEquals(300000, plan.getEntries().get(0).getRefreshInterval());
+    }
+
+    @Test
+    public void testCompiledFrom() {
+        String snmpProperties = ".1.3.6.1.2.1.1.1.0:SystemDescription";
+        PollingPlan plan = PollingPlan.compile(snmpProperties);
+        Assertions.assertTrue(plan.isCompiledFrom(snmpProperties));
+        Assertions.assertFalse(plan.isCompiledFrom(snmpProperties + "|.1.3.6.1.2.1.1.5.0:SystemName"));
+        Assertions.assertSame(PollingPlan.EMPTY, PollingPlan.compile(""));
+        Assertions.assertTrue(PollingPlan.EMPTY.isCompiledFrom(null));
+    }
+
+    @Test
+    public void testRequestLayout() {
+        StringBuilder snmpProperties = new StringBuilder();
+        for (int i = 0; i < 45; i++) {
+            snmpProperties.append(".1.3.6.1.2.1.2.2.1.2.").append(i).append(":Network").append(i).append('|');
+        }
+        PollingPlan plan = PollingPlan.compile(snmpProperties.toString());
+        int[][] layout = plan.requestLayout(plan.getAllEntries(), 20, 0);
+        Assertions.assertEquals(3, layout.length);
+        Assertions.assertEquals(20, layout[0].length);
+        Assertions.assertEquals(5, layout[2].length);
+        Assertions.assertEquals(44, layout[2][4]);
+        Assertions.assertSame(layout, plan.requestLayout(plan.getAllEntries(), 20, 0));
+        int[][] sizeLimited = plan.requestLayout(plan.getAllEntries(), 100, 300);
+        Assertions.assertTrue(sizeLimited.length > 1);
+        Assertions.assertArrayEquals(new int[][]{{3, 7}, {9}}, plan.requestLayout(new int[]{3, 7, 9}, 2, 0));
+        PollingPlan pair = PollingPlan.compile(".1.3.6.1.2.1.1.1.0:A|.1.3.6.1.2.1.1.5.0:B");
+        Assertions.assertArrayEquals(new int[][]{{0}, {1}}, pair.requestLayout(pair.getAllEntries(), 5, 1));
+    }
+
+    @Test
+    public void testCompileWalkEntries() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.1.5.0:SystemName|.1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr");
+        Assertions.assertEquals(1, plan.getEntries().size());
+        Assertions.assertEquals(1, plan.getWalkEntries().size());
+        PropertyEntry walkEntry = plan.getWalkEntries().get(0);
+        Assertions.assertTrue(walkEntry.isWalk());
+        Assertions.assertEquals(new OID("1.3.6.1.2.1.2.2.1.2"), walkEntry.getOid());
+        Assertions.assertEquals("Interfaces#ifDescr.3", walkEntry.walkPropertyName(new OID("1.3.6.1.2.1.2.2.1.2.3")));
+        Assertions.assertArrayEquals(new int[][]{{0}}, plan.requestLayout(plan.getAllEntries(), 20, 0));
+    }
+
+    @Test
+    public void testDuplicateOids() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.1.1.0:Hardware|.1.3.6.1.2.1.1.5.0:DeviceName|.1.3.6.1.2.1.1.1.0:System Description"
+                + "|.1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr|.1.3.6.1.2.1.2.2.1.2.*:Ports#ifDescr");
+        Assertions.assertEquals(3, plan.getEntries().size());
+        Assertions.assertArrayEquals(new int[][]{{0, 1}}, plan.requestLayout(plan.getAllEntries(), 20, 0));
+        Assertions.assertArrayEquals(new int[][]{{2}}, plan.requestLayout(new int[]{2}, 20, 0));
+        Assertions.assertArrayEquals(new int[]{0, 2}, plan.getSameOidEntries(2));
+        Assertions.assertArrayEquals(new int[]{1}, plan.getSameOidEntries(1));
+
+        PropertyEntry ports = plan.getWalkEntries().get(1);
+        Assertions.assertEquals(plan.getWalkEntries(), plan.getSameRootWalkEntries(ports));
+        Assertions.assertEquals(1, plan.uniqueWalkEntries(plan.getWalkEntries()).size());
+        Assertions.assertEquals(Collections.singletonList(ports), plan.uniqueWalkEntries(Collections.singletonList(ports)));
+    }
+
+    @Test
+    public void testCompileRefreshIntervals() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.1.1.0:SystemDescription@3600s|.1.3.6.1.2.1.1.5.0:SystemName@5m"
+                + "|.1.3.6.1.2.1.1.3.0:SystemUptime|.1.3.6.1.2.1.1.6.0:SystemLocation@1h|.1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr@30");
+        Assertions.assertEquals("SystemDescription", plan.getEntries().get(0).getPropertyName());
+        Assertions.assertEquals(3600000, plan.getEntries().get(0).getRefreshInterval());
+        Assertions.assertEquals(300000, plan.getEntries().get(1).getRefreshInterval());
+        Assertions.assertEquals(0, plan.getEntries().get(2).getRefreshInterval());
+        Assertions.assertEquals(3600000, plan.getEntries().get(3).getRefreshInterval());
+        Assertions.assertEquals("Interfaces#ifDescr", plan.getWalkEntries().get(0).getPropertyName());
+        Assertions.assertEquals(30000, plan.getWalkEntries().get(0).getRefreshInterval());
+    }
+}
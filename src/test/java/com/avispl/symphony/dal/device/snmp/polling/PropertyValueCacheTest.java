@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class PropertyValueCacheTest {
+
+    @Test
+    public void testDueEntries() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.1.1.0:SystemDescription@60s|.1.3.6.1.2.1.1.3.0:SystemUptime|.1.3.6.1.2.1.1.5.0:SystemName@60s");
+        PropertyValueCache cache = new PropertyValueCache(plan);
+        Assertions.assertSame(plan.getAllEntries(), cache.dueEntries(0));
+
+        PollResult result = new PollResult(plan);
+        result.setValue(0, "Agent");
+        result.setValue(1, "1:00:00.00");
+        result.setError(2, AsyncPoll.REQUEST_TIMED_OUT);
+        cache.update(result, 1000);
+
+        Assertions.assertArrayEquals(new int[]{1, 2}, cache.dueEntries(2000));
+        Assertions.assertSame(plan.getAllEntries(), cache.dueEntries(61000));
+
+        Map<String, String> statistics = new HashMap<>();
+        cache.putValues(statistics);
+        Assertions.assertEquals(1, statistics.size());
+        Assertions.assertEquals("Agent", statistics.get("SystemDescription"));
+    }
+
+    @Test
+    public void testDueWalkEntries() {
+        PollingPlan plan = PollingPlan.compile(".1.3.6.1.2.1.2.2.1.2.*:Interfaces#ifDescr@60s|.1.3.6.1.2.1.2.2.1.8.*:Interfaces#ifOperStatus");
+        PropertyValueCache cache = new PropertyValueCache(plan);
+        PropertyEntry ifDescr = plan.getWalkEntries().get(0);
+
+        PollResult partial = new PollResult(plan);
+        partial.putWalkValue(ifDescr, "Interfaces#ifDescr.1", "eth0");
+        cache.update(partial, 1000);
+        Assertions.assertEquals(2, cache.dueWalkEntries(2000).size());
+
+        PollResult complete = new PollResult(plan);
+        complete.putWalkValue(ifDescr, "Interfaces#ifDescr.1", "eth0");
+        complete.completeWalk(ifDescr);
+        cache.update(complete, 1000);
+        Assertions.assertEquals(1, cache.dueWalkEntries(2000).size());
+        Assertions.assertEquals(2, cache.dueWalkEntries(61000).size());
+
+        Map<String, String> statistics = new HashMap<>();
+        cache.putValues(statistics);
+        Assertions.assertEquals("eth0", statistics.get("Interfaces#ifDescr.1"));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RttEstimatorTest {
+
+    @Test
+    public void testConfiguredTimeoutWithoutSamples() {
+        RttEstimator estimator = new RttEstimator();
+        Assertions.assertEquals(1500, estimator.getTimeout(1500, 200, 10000));
+        estimator.onTimeout();
+        Assertions.assertEquals(1500, estimator.getTimeout(1500, 200, 10000));
+    }
+
+    @Test
+    public void testLanTimeout() {
+        RttEstimator estimator = new RttEstimator();
+        for (int i = 0; i < 20; i++) {
+            estimator.onSample(3);
+        }
+        long timeout = estimator.getTimeout(1500, 200, 10000);
+        Assertions.assertEquals(200, timeout);
+        Assertions.assertEquals(1, estimator.getRetries(timeout, 1500, 1));
+    }
+
+    @Test
+    public void testSlowLinkTimeout() {
+        RttEstimator estimator = new RttEstimator();
+        for (int i = 0; i < 20; i++) {
+            estimator.onSample(i % 2 == 0 ? 700 : 900);
+        }
+        long timeout = estimator.getTimeout(1500, 200, 10000);
+        Assertions.assertTrue(timeout > 900 && timeout < 1500, "Unexpected timeout: " + timeout);
+        Assertions.assertEquals(1, estimator.getRetries(timeout, 1500, 1));
+        Assertions.assertEquals(0, estimator.getRetries(2000, 1500, 1));
+    }
+
+    @Test
+    public void testTimeoutBackoff() {
+        RttEstimator estimator = new RttEstimator();
+        estimator.onSample(100);
+        long timeout = estimator.getTimeout(1500, 10, 10000);
+        estimator.onTimeout();
+        Assertions.assertEquals(timeout * 2, estimator.getTimeout(1500, 10, 10000));
+        for (int i = 0; i < 10; i++) {
+            estimator.onTimeout();
+        }
+        Assertions.assertEquals(10000, estimator.getTimeout(1500, 10, 10000));
+        estimator.onSample(100);
+        Assertions.assertTrue(estimator.getTimeout(1500, 10, 10000) < timeout * 2);
+    }
+}
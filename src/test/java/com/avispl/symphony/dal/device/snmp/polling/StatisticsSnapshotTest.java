@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class StatisticsSnapshotTest {
+
+    @Test
+    public void testChangesOnly() {
+        StatisticsSnapshot snapshot = new StatisticsSnapshot();
+        Map<String, String> first = snapshot.changes(statistics("Linux", "Rack 4", "100"), 0, 60000);
+        Assertions.assertTrue(snapshot.isFull());
+        Assertions.assertEquals(3, first.size());
+
+        Map<String, String> second = snapshot.changes(statistics("Linux", new String("Rack 4"), "101"), 1000, 60000);
+        Assertions.assertFalse(snapshot.isFull());
+        Assertions.assertEquals(1, snapshot.getChangedProperties());
+        Assertions.assertEquals(1, second.size());
+        Assertions.assertEquals("101", second.get("Uptime"));
+
+        Map<String, String> third = snapshot.changes(statistics("Linux", "Rack 4", "101"), 2000, 60000);
+        Assertions.assertFalse(snapshot.isFull());
+        Assertions.assertTrue(third.isEmpty());
+    }
+
+    @Test
+    public void testFullRefresh() {
+        StatisticsSnapshot snapshot = new StatisticsSnapshot();
+        snapshot.changes(statistics("Linux", "Rack 4", "100"), 0, 60000);
+        Map<String, String> refreshed = snapshot.changes(statistics("Linux", "Rack 4", "100"), 60000, 60000);
+        Assertions.assertTrue(snapshot.isFull());
+        Assertions.assertEquals(0, snapshot.getChangedProperties());
+        Assertions.assertEquals(3, refreshed.size());
+
+        snapshot.reset();
+        snapshot.changes(statistics("Linux", "Rack 4", "100"), 61000, 60000);
+        Assertions.assertTrue(snapshot.isFull());
+    }
+
+    @Test
+    public void testRemovedProperty() {
+        StatisticsSnapshot snapshot = new StatisticsSnapshot();
+        snapshot.changes(statistics("Linux", "Rack 4", "100"), 0, 60000);
+        Map<String, String> current = statistics("Linux", "Rack 4", "100");
+        current.remove("Location");
+        current.put("Contact", "noc");
+
+        Map<String, String> emitted = snapshot.changes(current, 1000, 60000);
+        Assertions.assertTrue(snapshot.isFull());
+        Assertions.assertEquals(1, snapshot.getChangedProperties());
+        Assertions.assertEquals(current, emitted);
+    }
+
+    private static Map<String, String> statistics(String hardware, String location, String uptime) {
+        Map<String, String> statistics = new TreeMap<>();
+        statistics.put("Hardware", hardware);
+        statistics.put("Location", location);
+        statistics.put("Uptime", uptime);
+        return statistics;
+    }
+}
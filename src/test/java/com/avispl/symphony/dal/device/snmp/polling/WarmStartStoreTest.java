@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class WarmStartStoreTest {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Path directory = Files.createTempDirectory("warm-start");
+        Path file = directory.resolve("state.bin");
+        Map<String, String> values = new HashMap<>();
+        values.put("DeviceName", "av-switch");
+        values.put("Location", "Rack 4, Room 210");
+        long now = System.currentTimeMillis();
+        WarmStartStore store = WarmStartStore.forFile(file.toString());
+        store.put("10.0.0.1:161", new WarmStartStore.Record(now - 5000, new byte[]{(byte) 0x80, 0, 0x1f, (byte) 0x88}, 3, 1000, 10, 12.5, 3.25, values));
+        store.put("10.0.0.2:161", new WarmStartStore.Record(now, null, 0, 0, 0, 0, 0, Collections.emptyMap()));
+        store.flush(now);
+
+        // a copy of the file is loaded by a new store instance
+        Path copy = directory.resolve("copy.bin");
+        Files.copy(file, copy);
+        WarmStartStore loaded = WarmStartStore.forFile(copy.toString());
+        WarmStartStore.Record record = loaded.get("10.0.0.1:161");
+        Assertions.assertArrayEquals(new byte[]{(byte) 0x80, 0, 0x1f, (byte) 0x88}, record.getEngineId());
+        Assertions.assertEquals(3, record.getEngineBoots());
+        Assertions.assertEquals(1005, record.estimateEngineTime(now));
+        Assertions.assertEquals(10, record.getVarbindsLimit());
+        Assertions.assertEquals(12.5, record.getSmoothedRtt());
+        Assertions.assertEquals(3.25, record.getRttVariation());
+        Assertions.assertEquals(values, record.getValues());
+        Assertions.assertNull(loaded.get("10.0.0.2:161").getEngineId());
+        Assertions.assertNull(loaded.get("10.0.0.3:161"));
+    }
+
+    @Test
+    public void testExpiredAndCorruptedFiles() throws Exception {
+        Path directory = Files.createTempDirectory("warm-start");
+        Path file = directory.resolve("state.bin");
+        long now = System.currentTimeMillis();
+        WarmStartStore store = WarmStartStore.forFile(file.toString());
+        store.put("10.0.0.1:161", new WarmStartStore.Record(now - WarmStartStore.MAX_RECORD_AGE, null, 0, 0, 0, 0, 0, Collections.emptyMap()));
+        store.put("10.0.0.2:161", new WarmStartStore.Record(now, null, 0, 0, 0, 0, 0, Collections.singletonMap("DeviceName", "av-switch")));
+        store.flush(now);
+        Path copy = directory.resolve("copy.bin");
+        Files.copy(file, copy);
+        WarmStartStore loaded = WarmStartStore.forFile(copy.toString());
+        Assertions.assertNull(loaded.get("10.0.0.1:161"));
+        Assertions.assertNotNull(loaded.get("10.0.0.2:161"));
+
+        Path corrupted = directory.resolve("corrupted.bin");
+        byte[] content = Files.readAllBytes(file);
+        Files.write(corrupted, Arrays.copyOf(content, content.length - 3));
+        WarmStartStore corruptedStore = WarmStartStore.forFile(corrupted.toString());
+        Assertions.assertNull(corruptedStore.get("10.0.0.1:161"));
+        Assertions.assertNull(corruptedStore.get("10.0.0.2:161"));
+        corruptedStore.put("10.0.0.1:161", new WarmStartStore.Record(now, null, 0, 0, 0, 0, 0, Collections.emptyMap()));
+        corruptedStore.flush(now);
+        Assertions.assertTrue(Files.size(corrupted) > 0);
+    }
+}
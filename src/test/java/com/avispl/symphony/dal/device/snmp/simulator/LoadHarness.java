@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.simulator;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.device.snmp.SNMPCommunicator;
+import org.snmp4j.smi.OctetString;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Multi-device load test: starts simulated agents on loopback ports, polls them with {@link SNMPCommunicator} instances
+ * on a fixed rate schedule, like Symphony monitoring does, and reports throughput, poll latency, schedule lag, threads,
+ * sockets and heap per adapter as JSON. Options are passed as key=value arguments:
+ * <ul>
+ *     <li>devices - number of adapters, 100 by default</li>
+ *     <li>agents - number of simulated agents shared by the adapters, same as devices by default</li>
+ *     <li>oids - number of scalar OIDs per device, 50 by default</li>
+ *     <li>interval - poll interval of each adapter in milliseconds, 5000 by default</li>
+ *     <li>workers - size of the polling thread pool, 32 by default</li>
+ *     <li>warmup - warmup time in milliseconds, excluded from the results, 10000 by default</li>
+ *     <li>duration - measurement time in milliseconds, 60000 by default</li>
+ *     <li>profiles - weighted {@link ResponseProfile} mix of the agents, e.g. LAN:80,WAN:15,LOSSY:5, LAN by default</li>
+ *     <li>output - result file, target/load-result.json by default</li>
+ * </ul>
+ * Threads, sockets and heap are measured as the difference to the state before the adapters are created,
+ * so the simulated agents are excluded.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public final class LoadHarness {
+    private static final String ROOT_OID = ".1.3.6.1.4.1.99999.1.";
+    private static final String PROPERTY_PREFIX = "Load#Property";
+
+    private final int devices;
+    private final int agents;
+    private final int oids;
+    private final long interval;
+    private final int workers;
+    private final long warmup;
+    private final long duration;
+    private final Map<ResponseProfile, Integer> profiles;
+    private final File output;
+
+    private final ConcurrentLinkedQueue<Long> pollLatencies = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> scheduleLags = new ConcurrentLinkedQueue<>();
+    private final LongAdder failedPolls = new LongAdder();
+    private final LongAdder incompletePolls = new LongAdder();
+    private volatile boolean measuring;
+
+    private LoadHarness(Map<String, String> options) {
+        devices = Integer.parseInt(options.getOrDefault("devices", "100"));
+        agents = Math.min(devices, Integer.parseInt(options.getOrDefault("agents", String.valueOf(devices))));
+        oids = Integer.parseInt(options.getOrDefault("oids", "50"));
+        interval = Long.parseLong(options.getOrDefault("interval", "5000"));
+        workers = Integer.parseInt(options.getOrDefault("workers", "32"));
+        warmup = Long.parseLong(options.getOrDefault("warmup", "10000"));
+        duration = Long.parseLong(options.getOrDefault("duration", "60000"));
+        profiles = parseProfiles(options.getOrDefault("profiles", "LAN"));
+        output = new File(options.getOrDefault("output", "target/load-result.json"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid option " + arg + ", please use key=value format.");
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        new LoadHarness(options).run();
+        System.exit(0);
+    }
+
+    /**
+     * Start the agents and adapters, poll for the warmup and measurement time and write the results
+     *
+     * @throws Exception if agents or adapters cannot be started, or results cannot be written
+     * */
+    private void run() throws Exception {
+        SnmpWalkDataset dataset = new SnmpWalkDataset();
+        StringBuilder snmpProperties = new StringBuilder();
+        for (int i = 0; i < oids; i++) {
+            dataset.put(ROOT_OID + i + ".0", new OctetString(value(i)));
+            if (i > 0) {
+                snmpProperties.append('|');
+            }
+            snmpProperties.append(ROOT_OID).append(i).append(".0:").append(PROPERTY_PREFIX).append(i);
+        }
+
+        List<SnmpAgentSimulator> simulators = new ArrayList<>(agents);
+        List<SNMPCommunicator> communicators = new ArrayList<>(devices);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(workers);
+        try {
+            ResponseProfile[] agentProfiles = assignProfiles();
+            for (int i = 0; i < agents; i++) {
+                SnmpAgentSimulator simulator = new SnmpAgentSimulator(dataset);
+                simulator.setSeed(i);
+                agentProfiles[i].apply(simulator);
+                simulators.add(simulator);
+            }
+            executor.prestartAllCoreThreads();
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            long baselineHeap = usedHeap();
+            int baselineThreads = threads.getThreadCount();
+            int baselineSockets = countSockets();
+
+            for (int i = 0; i < devices; i++) {
+                SNMPCommunicator communicator = new SNMPCommunicator();
+                communicator.setHost("127.0.0.1");
+                communicator.setSnmpPort(simulators.get(i % agents).getPort());
+                communicator.setSnmpCommunity("public");
+                communicator.setSnmpProperties(snmpProperties.toString());
+                communicator.init();
+                communicators.add(communicator);
+            }
+            for (int i = 0; i < devices; i++) {
+                SNMPCommunicator communicator = communicators.get(i);
+                long initialDelay = interval * i / devices;
+                long firstPollAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelay);
+                AtomicInteger executions = new AtomicInteger();
+                executor.scheduleAtFixedRate(() -> poll(communicator,
+                        firstPollAt + TimeUnit.MILLISECONDS.toNanos(interval) * executions.getAndIncrement()),
+                        initialDelay, interval, TimeUnit.MILLISECONDS);
+            }
+
+            Thread.sleep(warmup);
+            threads.resetPeakThreadCount();
+            measuring = true;
+            long measurementStart = System.nanoTime();
+            Thread.sleep(duration);
+            measuring = false;
+            double measuredSeconds = (System.nanoTime() - measurementStart) / 1e9;
+            int peakThreads = threads.getPeakThreadCount();
+            int sockets = countSockets();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            long heap = usedHeap();
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            results.put("polls", pollLatencies.size());
+            results.put("pollsPerSecond", pollLatencies.size() / measuredSeconds);
+            results.put("expectedPollsPerSecond", devices * 1000.0 / interval);
+            results.put("failedPolls", failedPolls.sum());
+            results.put("incompletePolls", incompletePolls.sum());
+            putPercentiles(results, "pollLatency", pollLatencies);
+            putPercentiles(results, "scheduleLag", scheduleLags);
+            results.put("threads", peakThreads - baselineThreads);
+            results.put("sockets", baselineSockets < 0 ? -1 : sockets - baselineSockets);
+            results.put("heapPerAdapterBytes", Math.max(0, heap - baselineHeap) / devices);
+            writeResults(results);
+        } finally {
+            executor.shutdownNow();
+            for (SNMPCommunicator communicator : communicators) {
+                communicator.destroy();
+            }
+            for (SnmpAgentSimulator simulator : simulators) {
+                simulator.close();
+            }
+        }
+    }
+
+    /**
+     * Poll the adapter, recording the poll latency and schedule lag during the measurement
+     *
+     * @param communicator to poll
+     * @param scheduledAt scheduled start of the poll, in {@link System#nanoTime()} time
+     * */
+    private void poll(SNMPCommunicator communicator, long scheduledAt) {
+        long start = System.nanoTime();
+        boolean measured = measuring;
+        try {
+            Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+            if (measured) {
+                for (int i = 0; i < oids; i++) {
+                    if (!value(i).equals(statistics.get(PROPERTY_PREFIX + i))) {
+                        incompletePolls.increment();
+                        break;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            if (measured) {
+                failedPolls.increment();
+            }
+        }
+        if (measured && measuring) {
+            pollLatencies.add(System.nanoTime() - start);
+            scheduleLags.add(Math.max(0, start - scheduledAt));
+        }
+    }
+
+    /**
+     * Assign response profiles to the agents, proportionally to the profile weights
+     *
+     * @return profile of each agent
+     * */
+    private ResponseProfile[] assignProfiles() {
+        int totalWeight = profiles.values().stream().mapToInt(Integer::intValue).sum();
+        ResponseProfile[] agentProfiles = new ResponseProfile[agents];
+        for (int i = 0; i < agents; i++) {
+            long position = (long) i * totalWeight / agents;
+            int cumulativeWeight = 0;
+            for (Map.Entry<ResponseProfile, Integer> profile : profiles.entrySet()) {
+                cumulativeWeight += profile.getValue();
+                if (position < cumulativeWeight) {
+                    agentProfiles[i] = profile.getKey();
+                    break;
+                }
+            }
+        }
+        return agentProfiles;
+    }
+
+    /**
+     * Write the configuration and the results as JSON to the {@link #output} file and stdout
+     *
+     * @param results measured values
+     * @throws IOException if the result file cannot be written
+     * */
+    private void writeResults(Map<String, Object> results) throws IOException {
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("devices", devices);
+        configuration.put("agents", agents);
+        configuration.put("oids", oids);
+        configuration.put("intervalMs", interval);
+        configuration.put("workers", workers);
+        configuration.put("warmupMs", warmup);
+        configuration.put("durationMs", duration);
+        Map<String, Object> profileWeights = new LinkedHashMap<>();
+        profiles.forEach((profile, weight) -> profileWeights.put(profile.name(), weight));
+        configuration.put("profiles", profileWeights);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("adapterVersion", adapterVersion());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("configuration", configuration);
+        report.put("results", results);
+
+        String json = toJson(report, "") + "\n";
+        File directory = output.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create " + directory);
+        }
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(output.toPath()), StandardCharsets.UTF_8)) {
+            writer.write(json);
+        }
+        System.out.print(json);
+    }
+
+    /**
+     * Add percentiles of the nanosecond samples, in milliseconds
+     *
+     * @param results to add the percentiles to
+     * @param name result name prefix
+     * @param samples nanosecond samples
+     * */
+    private static void putPercentiles(Map<String, Object> results, String name, ConcurrentLinkedQueue<Long> samples) {
+        long[] sorted = samples.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        for (double percentile : new double[]{50, 90, 99}) {
+            results.put(String.format(Locale.ROOT, "%sP%.0fMs", name, percentile), percentile(sorted, percentile) / 1e6);
+        }
+        results.put(name + "MaxMs", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    /**
+     * Retrieve nearest rank percentile of the sorted samples
+     *
+     * @param sorted samples in ascending order
+     * @param percentile from 0 to 100
+     * @return percentile value, 0 if there are no samples
+     * */
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /**
+     * Parse weighted profile mix, e.g. LAN:80,WAN:20
+     *
+     * @param profiles profile mix, weight is 1 if omitted
+     * @return profile weights in the configured order
+     * */
+    private static Map<ResponseProfile, Integer> parseProfiles(String profiles) {
+        Map<ResponseProfile, Integer> weights = new LinkedHashMap<>();
+        for (String profile : profiles.split(",")) {
+            String[] parts = profile.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) {
+                weights.merge(ResponseProfile.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("No response profiles configured: " + profiles);
+        }
+        return weights;
+    }
+
+    /**
+     * Retrieve used heap after a full garbage collection
+     *
+     * @return used heap in bytes
+     * */
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Count sockets open by the JVM, out of the file descriptors of the process
+     *
+     * @return number of sockets, -1 if file descriptors are not available on the platform
+     * */
+    private static int countSockets() {
+        Path descriptors = Paths.get("/proc/self/fd");
+        if (!Files.isDirectory(descriptors)) {
+            return -1;
+        }
+        int sockets = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(descriptors)) {
+            for (Path descriptor : stream) {
+                try {
+                    if (Files.readSymbolicLink(descriptor).toString().startsWith("socket:")) {
+                        sockets++;
+                    }
+                } catch (IOException e) {
+                    // descriptor closed while listing
+                }
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return sockets;
+    }
+
+    /**
+     * Retrieve adapter version out of the version.properties
+     *
+     * @return adapter version, unknown if not available
+     * */
+    private static String adapterVersion() {
+        try (InputStream stream = LoadHarness.class.getResourceAsStream("/version.properties")) {
+            if (stream == null) {
+                return "unknown";
+            }
+            Properties properties = new Properties();
+            properties.load(stream);
+            return properties.getProperty("adapter.version", "unknown");
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * Build value of the synthetic OID
+     *
+     * @param index OID index
+     * @return OID value
+     * */
+    private static String value(int index) {
+        return "value-" + index;
+    }
+
+    /**
+     * Serialize map of strings, numbers and nested maps to JSON
+     *
+     * @param values to serialize
+     * @param indent indentation of the enclosing object
+     * @return JSON object
+     * */
+    @SuppressWarnings("unchecked")
+    private static String toJson(Map<String, Object> values, String indent) {
+        StringBuilder json = new StringBuilder("{");
+        String fieldIndent = indent + "  ";
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            json.append(first ? "\n" : ",\n").append(fieldIndent).append('"').append(entry.getKey()).append("\": ");
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                json.append(toJson((Map<String, Object>) value, fieldIndent));
+            } else if (value instanceof Double) {
+                json.append(String.format(Locale.ROOT, "%.3f", (Double) value));
+            } else if (value instanceof Number) {
+                json.append(value);
+            } else {
+                json.append('"').append(String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+            }
+            first = false;
+        }
+        return json.append('\n').append(indent).append('}').toString();
+    }
+}
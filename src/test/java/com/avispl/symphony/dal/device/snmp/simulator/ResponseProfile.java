@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.simulator;
+
+/**
+ * Network and agent conditions of the {@link SnmpAgentSimulator}, used to model device fleets in {@link LoadHarness}
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public enum ResponseProfile {
+    /**
+     * Device on the local network
+     * */
+    LAN(1, 2, 0, 0),
+    /**
+     * Device behind a WAN link
+     * */
+    WAN(40, 20, 0, 0),
+    /**
+     * Device behind a congested link, 5% of the requests are lost
+     * */
+    LOSSY(20, 10, 0.05, 0),
+    /**
+     * Embedded agent with a small message size, answers requests above 10 variable bindings with tooBig
+     * */
+    CONSTRAINED(5, 5, 0, 10),
+    /**
+     * Overloaded agent, responds close to the default request timeout
+     * */
+    SLOW(800, 200, 0, 0),
+    /**
+     * Unreachable device
+     * */
+    DOWN(0, 0, 1, 0);
+
+    private final long latency;
+    private final long jitter;
+    private final double lossRate;
+    private final int maxVarbinds;
+
+    ResponseProfile(long latency, long jitter, double lossRate, int maxVarbinds) {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.lossRate = lossRate;
+        this.maxVarbinds = maxVarbinds;
+    }
+
+    /**
+     * Apply profile to the simulator
+     *
+     * @param simulator to configure
+     * */
+    public void apply(SnmpAgentSimulator simulator) {
+        simulator.setLatency(latency);
+        simulator.setJitter(jitter);
+        simulator.setLossRate(lossRate);
+        simulator.setMaxVarbinds(maxVarbinds);
+    }
+}
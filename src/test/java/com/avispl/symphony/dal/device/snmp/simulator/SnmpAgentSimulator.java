@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.simulator;
+
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageDispatcher;
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.ScopedPDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.Target;
+import org.snmp4j.UserTarget;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.mp.MPv1;
+import org.snmp4j.mp.MPv2c;
+import org.snmp4j.mp.MPv3;
+import org.snmp4j.mp.MessageProcessingModel;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.security.SecurityLevel;
+import org.snmp4j.security.SecurityProtocols;
+import org.snmp4j.security.USM;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process SNMP v1/v2c/v3 agent bound to an ephemeral loopback port, serving GET, GETNEXT and GETBULK requests
+ * out of a {@link SnmpWalkDataset}. Network and agent conditions are injected with:
+ * <ul>
+ *     <li>{@link #setLatency(long)} and {@link #setJitter(long)} - response delay</li>
+ *     <li>{@link #setLossRate(double)} - share of requests silently dropped</li>
+ *     <li>{@link #setMaxVarbinds(int)} - GET/GETNEXT requests above the limit are answered with tooBig, GETBULK responses are truncated</li>
+ *     <li>{@link #injectReports(OID, int)} - SNMPv3 requests answered with a REPORT instead of a response</li>
+ *     <li>{@link #reboot()} - SNMPv3 engine boots increment, engine time is reset</li>
+ * </ul>
+ * Loss and jitter are drawn from a seeded random, see {@link #setSeed(long)}.
+ * TRAPs and INFORMs are sent to the loopback port of the receiver with {@link #sendNotification(int, int, OID, VariableBinding...)}.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public class SnmpAgentSimulator implements CommandResponder, AutoCloseable {
+    /**
+     * Sequence of the simulator instances, keeps the engine IDs of the simulators in the same JVM unique
+     * */
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+    /**
+     * Scheduler of the delayed responses, shared by the simulators so large agent fleets don't cost a thread each
+     * */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SnmpAgentSimulator-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SnmpWalkDataset dataset;
+    private final DefaultUdpTransportMapping transport;
+    private final USM usm;
+    private final Snmp snmp;
+    private final Random random = new Random(0);
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong droppedRequests = new AtomicLong();
+    private final AtomicLong reportsSent = new AtomicLong();
+    private final AtomicInteger pendingReports = new AtomicInteger();
+    /**
+     * Start time of the simulator, in nanoseconds, sysUpTime.0 of the notifications
+     * */
+    private final long startTime = System.nanoTime();
+
+    private volatile OctetString community = new OctetString("public");
+    private volatile long latency;
+    private volatile long jitter;
+    private volatile double lossRate;
+    private volatile int maxVarbinds;
+    private volatile boolean reverseOrder;
+    private volatile OID reportOid;
+
+    /**
+     * Bind the simulator to an ephemeral loopback port and start serving the dataset
+     *
+     * @param dataset OID values to serve
+     * @throws IOException if the port cannot be bound
+     * */
+    public SnmpAgentSimulator(SnmpWalkDataset dataset) throws IOException {
+        this.dataset = dataset;
+        SecurityProtocols.getInstance().addDefaultProtocols();
+        OctetString engineId = new OctetString(MPv3.createLocalEngineID(new OctetString("simulator-" + INSTANCES.incrementAndGet())));
+        usm = new USM(SecurityProtocols.getInstance(), engineId, 0);
+        MessageDispatcher dispatcher = new MessageDispatcherImpl();
+        dispatcher.addMessageProcessingModel(new MPv1());
+        dispatcher.addMessageProcessingModel(new MPv2c());
+        dispatcher.addMessageProcessingModel(new MPv3(usm));
+        transport = new DefaultUdpTransportMapping(new UdpAddress("127.0.0.1/0"));
+        snmp = new Snmp(dispatcher, transport);
+        snmp.addCommandResponder(this);
+        snmp.listen();
+    }
+
+    /**
+     * Retrieve the port the simulator is bound to
+     *
+     * @return UDP port
+     * */
+    public int getPort() {
+        return transport.getListenAddress().getPort();
+    }
+
+    /**
+     * Retrieve authoritative engine ID of the simulator
+     *
+     * @return engine ID
+     * */
+    public byte[] getEngineId() {
+        return usm.getLocalEngineID().getValue();
+    }
+
+    /**
+     * Retrieve current engine boots of the simulator
+     *
+     * @return engine boots
+     * */
+    public int getEngineBoots() {
+        return usm.getEngineBoots();
+    }
+
+    /**
+     * Retrieve dataset served by the simulator
+     *
+     * @return served dataset
+     * */
+    public SnmpWalkDataset getDataset() {
+        return dataset;
+    }
+
+    /**
+     * Sets SNMPv1/v2c community, requests of other communities are dropped
+     *
+     * @param community new community, public by default
+     * */
+    public void setCommunity(String community) {
+        this.community = new OctetString(community);
+    }
+
+    /**
+     * Register SNMPv3 user
+     *
+     * @param securityName user name
+     * @param authenticationProtocol authentication protocol OID, null for noAuth users
+     * @param authPassword authentication passphrase, null for noAuth users
+     * @param privacyProtocol privacy protocol OID, null for noPriv users
+     * @param privacyPassword privacy passphrase, null for noPriv users
+     * */
+    public void addUser(String securityName, OID authenticationProtocol, String authPassword, OID privacyProtocol, String privacyPassword) {
+        OctetString name = new OctetString(securityName);
+        usm.addUser(name, usm.getLocalEngineID(), new UsmUser(name, authenticationProtocol,
+                authPassword == null ? null : new OctetString(authPassword), privacyProtocol,
+                privacyPassword == null ? null : new OctetString(privacyPassword)));
+    }
+
+    /**
+     * Sets fixed delay of the responses
+     *
+     * @param latency delay in milliseconds
+     * */
+    public void setLatency(long latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Sets max random delay of the responses, added to the {@link #setLatency(long)} delay
+     *
+     * @param jitter max additional delay in milliseconds
+     * */
+    public void setJitter(long jitter) {
+        this.jitter = jitter;
+    }
+
+    /**
+     * Sets share of the requests silently dropped
+     *
+     * @param lossRate from 0 (no loss) to 1 (all requests dropped)
+     * */
+    public void setLossRate(double lossRate) {
+        this.lossRate = lossRate;
+    }
+
+    /**
+     * Sets max number of variable bindings per response, 0 for no limit
+     *
+     * @param maxVarbinds max variable bindings per response
+     * */
+    public void setMaxVarbinds(int maxVarbinds) {
+        this.maxVarbinds = maxVarbinds;
+    }
+
+    /**
+     * Sets whether GET responses list the variable bindings in the reverse request order, like non-compliant agents may do
+     *
+     * @param reverseOrder true to reverse GET responses
+     * */
+    public void setReverseOrder(boolean reverseOrder) {
+        this.reverseOrder = reverseOrder;
+    }
+
+    /**
+     * Sets seed of the loss and jitter random
+     *
+     * @param seed random seed
+     * */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Answer the next SNMPv3 requests with a REPORT instead of a response
+     *
+     * @param reportOid REPORT variable, e.g. {@link org.snmp4j.mp.SnmpConstants#usmStatsUnknownEngineIDs}
+     * @param count number of requests to answer with the REPORT
+     * */
+    public void injectReports(OID reportOid, int count) {
+        this.reportOid = reportOid;
+        pendingReports.set(count);
+    }
+
+    /**
+     * Simulate agent restart: engine boots are incremented and engine time is reset, so the requests
+     * with the previously synchronized engine time are answered with notInTimeWindow REPORTs
+     * */
+    public void reboot() {
+        usm.setLocalEngine(usm.getLocalEngineID(), usm.getEngineBoots() + 1, 0);
+    }
+
+    /**
+     * Retrieve number of requests received
+     *
+     * @return number of requests
+     * */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Retrieve number of requests dropped because of the {@link #setLossRate(double)} or community mismatch
+     *
+     * @return number of dropped requests
+     * */
+    public long getDroppedRequests() {
+        return droppedRequests.get();
+    }
+
+    /**
+     * Retrieve number of REPORTs sent because of the {@link #injectReports(OID, int)}
+     *
+     * @return number of REPORTs sent
+     * */
+    public long getReportsSent() {
+        return reportsSent.get();
+    }
+
+    /**
+     * Send SNMPv2c notification with the current community
+     *
+     * @param port loopback UDP port of the receiver
+     * @param type {@link PDU#TRAP} or {@link PDU#INFORM}
+     * @param trapOid snmpTrapOID.0 value
+     * @param bindings variable bindings of the notification
+     * @return INFORM response, null for TRAPs and timed out INFORMs
+     * @throws IOException if the notification cannot be sent
+     * */
+    public PDU sendNotification(int port, int type, OID trapOid, VariableBinding... bindings) throws IOException {
+        CommunityTarget<UdpAddress> target = new CommunityTarget<>(new UdpAddress("127.0.0.1/" + port), community);
+        target.setVersion(SnmpConstants.version2c);
+        return sendNotification(target, new PDU(), type, trapOid, bindings);
+    }
+
+    /**
+     * Send SNMPv3 notification of the user, registered with {@link #addUser(String, OID, String, OID, String)}.
+     * TRAPs are sent with the simulator as the authoritative engine, INFORM receivers are discovered first
+     *
+     * @param port loopback UDP port of the receiver
+     * @param type {@link PDU#TRAP} or {@link PDU#INFORM}
+     * @param securityName user name
+     * @param securityLevel {@link SecurityLevel} of the notification
+     * @param trapOid snmpTrapOID.0 value
+     * @param bindings variable bindings of the notification
+     * @return INFORM response, null for TRAPs and timed out INFORMs
+     * @throws IOException if the notification cannot be sent
+     * */
+    public PDU sendNotification(int port, int type, String securityName, int securityLevel, OID trapOid, VariableBinding... bindings) throws IOException {
+        UserTarget<UdpAddress> target = new UserTarget<>(new UdpAddress("127.0.0.1/" + port), new OctetString(securityName), new byte[0], securityLevel);
+        if (type == PDU.TRAP) {
+            target.setAuthoritativeEngineID(usm.getLocalEngineID().getValue());
+        }
+        return sendNotification(target, new ScopedPDU(), type, trapOid, bindings);
+    }
+
+    @Override
+    public <A extends Address> void processPdu(CommandResponderEvent<A> event) {
+        PDU request = event.getPDU();
+        if (request == null) {
+            return;
+        }
+        event.setProcessed(true);
+        requests.incrementAndGet();
+        boolean snmpv3 = event.getMessageProcessingModel() == MessageProcessingModel.MPv3;
+        if (!snmpv3 && !community.equals(new OctetString(event.getSecurityName()))) {
+            droppedRequests.incrementAndGet();
+            return;
+        }
+        if (lossRate > 0 && random.nextDouble() < lossRate) {
+            droppedRequests.incrementAndGet();
+            return;
+        }
+        PDU response = snmpv3 && pendingReports.getAndUpdate(count -> Math.max(0, count - 1)) > 0
+                ? report(request) : respond(request, event.getMessageProcessingModel() == MessageProcessingModel.MPv1);
+        long delay = latency + (jitter > 0 ? (long) (random.nextDouble() * jitter) : 0);
+        if (delay > 0) {
+            SCHEDULER.schedule(() -> send(event, response), delay, TimeUnit.MILLISECONDS);
+        } else {
+            send(event, response);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        snmp.close();
+    }
+
+    /**
+     * Send notification to the target, with sysUpTime.0 and snmpTrapOID.0 followed by the variable bindings
+     *
+     * @param target of the notification
+     * @param pdu empty PDU of the target version
+     * @param type {@link PDU#TRAP} or {@link PDU#INFORM}
+     * @param trapOid snmpTrapOID.0 value
+     * @param bindings variable bindings of the notification
+     * @return INFORM response, null for TRAPs and timed out INFORMs
+     * @throws IOException if the notification cannot be sent
+     * */
+    private PDU sendNotification(Target<UdpAddress> target, PDU pdu, int type, OID trapOid, VariableBinding... bindings) throws IOException {
+        target.setTimeout(500);
+        target.setRetries(1);
+        pdu.setType(type);
+        pdu.add(new VariableBinding(SnmpConstants.sysUpTime, new TimeTicks((System.nanoTime() - startTime) / 10_000_000)));
+        pdu.add(new VariableBinding(SnmpConstants.snmpTrapOID, trapOid));
+        for (VariableBinding binding : bindings) {
+            pdu.add(binding);
+        }
+        ResponseEvent<UdpAddress> event = snmp.send(pdu, target);
+        return event == null ? null : event.getResponse();
+    }
+
+    /**
+     * Build response of the request out of the dataset
+     *
+     * @param request to respond to
+     * @param snmpv1 whether the request is SNMPv1: missing OIDs and the end of MIB view are reported
+     *               with the noSuchName error status instead of exception values
+     * @return response PDU
+     * */
+    private PDU respond(PDU request, boolean snmpv1) {
+        PDU response = emptyResponse(request);
+        int limit = maxVarbinds;
+        switch (request.getType()) {
+            case PDU.GET:
+            case PDU.GETNEXT:
+                if (limit > 0 && request.size() > limit) {
+                    response.setErrorStatus(PDU.tooBig);
+                    return response;
+                }
+                for (VariableBinding binding : request.getVariableBindings()) {
+                    response.add(request.getType() == PDU.GET ? get(binding.getOid()) : next(binding.getOid()));
+                }
+                for (int i = 0; snmpv1 && i < response.size(); i++) {
+                    if (response.get(i).isException()) {
+                        PDU error = emptyResponse(request);
+                        error.setErrorStatus(PDU.noSuchName);
+                        error.setErrorIndex(i + 1);
+                        error.addAll(request.getVariableBindings());
+                        return error;
+                    }
+                }
+                if (reverseOrder && request.getType() == PDU.GET) {
+                    List<VariableBinding> bindings = new ArrayList<>(response.getVariableBindings());
+                    Collections.reverse(bindings);
+                    response.setVariableBindings(bindings);
+                }
+                return response;
+            case PDU.GETBULK:
+                int nonRepeaters = Math.min(Math.max(0, request.getNonRepeaters()), request.size());
+                for (int i = 0; i < nonRepeaters; i++) {
+                    response.add(next(request.get(i).getOid()));
+                }
+                OID[] cursors = new OID[request.size() - nonRepeaters];
+                for (int i = 0; i < cursors.length; i++) {
+                    cursors[i] = request.get(nonRepeaters + i).getOid();
+                }
+                for (int repetition = 0; repetition < request.getMaxRepetitions() && cursors.length > 0; repetition++) {
+                    for (int i = 0; i < cursors.length; i++) {
+                        if (limit > 0 && response.size() >= limit) {
+                            return response;
+                        }
+                        VariableBinding binding = next(cursors[i]);
+                        response.add(binding);
+                        cursors[i] = binding.getOid();
+                    }
+                }
+                return response;
+            default:
+                response.setErrorStatus(PDU.notWritable);
+                response.setErrorIndex(1);
+                response.addAll(request.getVariableBindings());
+                return response;
+        }
+    }
+
+    /**
+     * Build REPORT of the {@link #injectReports(OID, int)}
+     *
+     * @param request to respond to
+     * @return REPORT PDU
+     * */
+    private PDU report(PDU request) {
+        PDU report = emptyResponse(request);
+        report.setType(PDU.REPORT);
+        report.add(new VariableBinding(reportOid, new Counter32(reportsSent.incrementAndGet())));
+        return report;
+    }
+
+    /**
+     * Create response of the same PDU class (scoped for SNMPv3) and request ID as the request
+     *
+     * @param request to respond to
+     * @return response PDU without variable bindings
+     * */
+    private static PDU emptyResponse(PDU request) {
+        PDU response = (PDU) request.clone();
+        response.clear();
+        response.setRequestID(request.getRequestID());
+        response.setType(PDU.RESPONSE);
+        response.setErrorStatus(PDU.noError);
+        response.setErrorIndex(0);
+        return response;
+    }
+
+    /**
+     * Retrieve value of the OID
+     *
+     * @param oid to retrieve value of
+     * @return OID value binding, noSuchInstance if the OID is not in the dataset
+     * */
+    private VariableBinding get(OID oid) {
+        Variable value = dataset.get(oid);
+        return new VariableBinding(oid, value == null ? Null.noSuchInstance : value);
+    }
+
+    /**
+     * Retrieve successor of the OID
+     *
+     * @param oid to retrieve successor of
+     * @return next OID value binding, endOfMibView at the end of the dataset
+     * */
+    private VariableBinding next(OID oid) {
+        Map.Entry<OID, Variable> next = dataset.next(oid);
+        return next == null ? new VariableBinding(oid, Null.endOfMibView) : new VariableBinding(next.getKey(), next.getValue());
+    }
+
+    /**
+     * Send response of the request
+     *
+     * @param event request event
+     * @param response to send
+     * */
+    private static <A extends Address> void send(CommandResponderEvent<A> event, PDU response) {
+        try {
+            event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(), event.getSecurityModel(),
+                    event.getSecurityName(), event.getSecurityLevel(), response, event.getMaxSizeResponsePDU(),
+                    event.getStateReference(), new StatusInformation());
+        } catch (MessageException e) {
+            throw new IllegalStateException("Unable to respond to " + event.getPeerAddress(), e);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.simulator;
+
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Gauge32;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.Variable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OID to value dataset of the {@link SnmpAgentSimulator}, ordered by OID for GETNEXT/GETBULK traversal.
+ * Loaded from the numeric snmpwalk output (snmpwalk -On), e.g.
+ * .1.3.6.1.2.1.1.1.0 = STRING: "Linux device 5.10"
+ * .1.3.6.1.2.1.1.3.0 = Timeticks: (1234500) 3:25:45.00
+ * Values may be changed while the simulator is running.
+ *
+ * @author Symphony Dev Team
+ * @since 2.1.0
+ * */
+public class SnmpWalkDataset {
+    /**
+     * snmpwalk output line: OID = TYPE: value, or OID = "" for empty strings
+     * */
+    private static final Pattern WALK_LINE = Pattern.compile("^(\\S+)\\s+=\\s+(?:([\\w-]+):\\s*)?(.*)$");
+    /**
+     * Numeric value in brackets, e.g. up(1) of the INTEGER enumerations or (1234500) of the Timeticks
+     * */
+    private static final Pattern BRACKETED_NUMBER = Pattern.compile("\\((\\d+)\\)");
+
+    private final ConcurrentNavigableMap<OID, Variable> values = new ConcurrentSkipListMap<>();
+
+    /**
+     * Load dataset from the snmpwalk output. Lines without an OID continue the string value of the previous line,
+     * lines of unsupported types (e.g. No Such Object) are skipped.
+     *
+     * @param reader snmpwalk output
+     * @return loaded dataset
+     * @throws IOException if the snmpwalk output cannot be read
+     * @throws IllegalArgumentException if the snmpwalk output contains symbolic OIDs
+     * */
+    public static SnmpWalkDataset load(Reader reader) throws IOException {
+        SnmpWalkDataset dataset = new SnmpWalkDataset();
+        BufferedReader lines = new BufferedReader(reader);
+        OID lastOid = null;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            Matcher matcher = WALK_LINE.matcher(line);
+            if (!matcher.matches()) {
+                Variable lastValue = lastOid == null ? null : dataset.values.get(lastOid);
+                if (lastValue instanceof OctetString && !line.isEmpty()) {
+                    dataset.values.put(lastOid, new OctetString(trimQuotes(lastValue.toString() + "\n" + line)));
+                }
+                continue;
+            }
+            OID oid = parseOid(matcher.group(1));
+            Variable value = parseValue(matcher.group(2), matcher.group(3));
+            if (value != null) {
+                dataset.values.put(oid, value);
+                lastOid = oid;
+            } else {
+                lastOid = null;
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Load dataset from the snmpwalk output on the test classpath
+     *
+     * @param resource name of the classpath resource, e.g. /simulator/device.walk
+     * @return loaded dataset
+     * @throws IOException if the resource cannot be found or read
+     * */
+    public static SnmpWalkDataset fromResource(String resource) throws IOException {
+        InputStream stream = SnmpWalkDataset.class.getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IOException("Dataset " + resource + " is not found.");
+        }
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            return load(reader);
+        }
+    }
+
+    /**
+     * Set value of the OID
+     *
+     * @param oid numeric OID, with or without the leading dot
+     * @param value new value
+     * @return this dataset
+     * */
+    public SnmpWalkDataset put(String oid, Variable value) {
+        values.put(parseOid(oid), value);
+        return this;
+    }
+
+    /**
+     * Remove OID from the dataset
+     *
+     * @param oid numeric OID, with or without the leading dot
+     * @return this dataset
+     * */
+    public SnmpWalkDataset remove(String oid) {
+        values.remove(parseOid(oid));
+        return this;
+    }
+
+    /**
+     * Retrieve value of the OID
+     *
+     * @param oid to retrieve value of
+     * @return OID value, null if the OID is not in the dataset
+     * */
+    public Variable get(OID oid) {
+        return values.get(oid);
+    }
+
+    /**
+     * Retrieve lexicographic successor of the OID
+     *
+     * @param oid to retrieve successor of
+     * @return next OID and its value, null at the end of the dataset
+     * */
+    public Map.Entry<OID, Variable> next(OID oid) {
+        return values.higherEntry(oid);
+    }
+
+    /**
+     * Retrieve number of OIDs in the dataset
+     *
+     * @return number of OIDs
+     * */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Parse numeric OID of the snmpwalk output, iso prefix of the default output format is also accepted
+     *
+     * @param oid to parse
+     * @return parsed OID
+     * */
+    private static OID parseOid(String oid) {
+        String numericOid = oid.startsWith("iso.") ? "1" + oid.substring(3) : oid;
+        if (!numericOid.matches("\\.?\\d+(\\.\\d+)*")) {
+            throw new IllegalArgumentException("OID " + oid + " is not numeric, please use snmpwalk -On output.");
+        }
+        return new OID(numericOid.startsWith(".") ? numericOid.substring(1) : numericOid);
+    }
+
+    /**
+     * Parse value of the snmpwalk output
+     *
+     * @param type value type, null for the "" empty strings
+     * @param value value text
+     * @return parsed value, null if the type is not supported
+     * */
+    private static Variable parseValue(String type, String value) {
+        if (type == null) {
+            return value.startsWith("\"") ? new OctetString(trimQuotes(value)) : null;
+        }
+        switch (type) {
+            case "STRING":
+                return new OctetString(trimQuotes(value));
+            case "Hex-STRING":
+                return OctetString.fromHexString(value.trim().replace(' ', ':'));
+            case "INTEGER":
+                return new Integer32(Integer.parseInt(bracketedNumber(value)));
+            case "Gauge32":
+                return new Gauge32(Long.parseLong(bracketedNumber(value)));
+            case "Counter32":
+                return new Counter32(Long.parseLong(value.trim()));
+            case "Counter64":
+                return new Counter64(Long.parseUnsignedLong(value.trim()));
+            case "Timeticks":
+                return new TimeTicks(Long.parseLong(bracketedNumber(value)));
+            case "OID":
+                return parseOid(value.trim());
+            case "IpAddress":
+                return new IpAddress(value.trim());
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Extract numeric part of the enumeration or Timeticks values, e.g. 1 out of up(1)
+     *
+     * @param value value text
+     * @return numeric value text
+     * */
+    private static String bracketedNumber(String value) {
+        Matcher matcher = BRACKETED_NUMBER.matcher(value);
+        return matcher.find() ? matcher.group(1) : value.trim();
+    }
+
+    /**
+     * Remove quotes around the string value
+     *
+     * @param value value text
+     * @return value without the surrounding quotes
+     * */
+    private static String trimQuotes(String value) {
+        String result = value;
+        if (result.startsWith("\"")) {
+            result = result.substring(1);
+        }
+        if (result.endsWith("\"")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+}
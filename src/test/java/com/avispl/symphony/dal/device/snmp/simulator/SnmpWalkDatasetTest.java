@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.simulator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Gauge32;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+
+import java.io.StringReader;
+
+public class SnmpWalkDatasetTest {
+
+    @Test
+    public void testLoad() throws Exception {
+        SnmpWalkDataset dataset = SnmpWalkDataset.fromResource("/simulator/device.walk");
+
+        Assertions.assertEquals(new OctetString("av-switch"), dataset.get(new OID("1.3.6.1.2.1.1.5.0")));
+        Assertions.assertEquals(new OID("1.3.6.1.4.1.8072.3.2.10"), dataset.get(new OID("1.3.6.1.2.1.1.2.0")));
+        Assertions.assertEquals(new TimeTicks(1234500), dataset.get(new OID("1.3.6.1.2.1.1.3.0")));
+        Assertions.assertEquals(new Integer32(6), dataset.get(new OID("1.3.6.1.2.1.2.2.1.3.2")));
+        Assertions.assertEquals(new Integer32(2), dataset.get(new OID("1.3.6.1.2.1.2.2.1.8.3")));
+        Assertions.assertEquals(new Gauge32(1000000000), dataset.get(new OID("1.3.6.1.2.1.2.2.1.5.2")));
+        Assertions.assertEquals(new OctetString(), dataset.get(new OID("1.3.6.1.2.1.2.2.1.6.1")));
+        Assertions.assertEquals(new OctetString(new byte[]{0x00, 0x1A, 0x2B, 0x3C, 0x4D, 0x5E}), dataset.get(new OID("1.3.6.1.2.1.2.2.1.6.2")));
+        Assertions.assertEquals(new Counter32(3918276354L), dataset.get(new OID("1.3.6.1.2.1.2.2.1.10.2")));
+        Assertions.assertEquals(new Counter64(Long.parseUnsignedLong("18446744073709551000")), dataset.get(new OID("1.3.6.1.2.1.31.1.1.1.6.2")));
+        Assertions.assertEquals(new IpAddress("192.168.1.20"), dataset.get(new OID("1.3.6.1.2.1.4.20.1.1.192.168.1.20")));
+        Assertions.assertEquals(new OctetString("Chassis\nrev. B"), dataset.get(new OID("1.3.6.1.2.1.47.1.1.1.1.2.1")));
+        Assertions.assertNull(dataset.get(new OID("1.3.6.1.2.1.47.1.1.1.1.3.1")));
+        Assertions.assertEquals(34, dataset.size());
+    }
+
+    @Test
+    public void testNext() throws Exception {
+        SnmpWalkDataset dataset = SnmpWalkDataset.load(new StringReader(
+                "iso.3.6.1.2.1.1.5.0 = STRING: \"b\"\n.1.3.6.1.2.1.1.10.0 = STRING: \"c\"\n.1.3.6.1.2.1.1.1.0 = STRING: \"a\""));
+
+        Assertions.assertEquals(new OID("1.3.6.1.2.1.1.1.0"), dataset.next(new OID("1.3.6.1.2.1.1")).getKey());
+        Assertions.assertEquals(new OID("1.3.6.1.2.1.1.5.0"), dataset.next(new OID("1.3.6.1.2.1.1.1.0")).getKey());
+        Assertions.assertEquals(new OID("1.3.6.1.2.1.1.10.0"), dataset.next(new OID("1.3.6.1.2.1.1.5.0")).getKey());
+        Assertions.assertNull(dataset.next(new OID("1.3.6.1.2.1.1.10.0")));
+    }
+
+    @Test
+    public void testSymbolicOid() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> SnmpWalkDataset.load(new StringReader("SNMPv2-MIB::sysName.0 = STRING: \"a\"")));
+    }
+}
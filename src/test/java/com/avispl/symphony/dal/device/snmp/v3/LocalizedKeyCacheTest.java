@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.device.snmp.v3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.mp.MPv3;
+import org.snmp4j.security.AuthSHA;
+import org.snmp4j.security.PrivAES128;
+import org.snmp4j.security.SecurityProtocols;
+import org.snmp4j.security.USM;
+import org.snmp4j.security.UsmUserEntry;
+import org.snmp4j.smi.OctetString;
+
+public class LocalizedKeyCacheTest {
+    private static final OctetString ENGINE_1 = OctetString.fromHexString("80:00:1f:88:01");
+    private static final OctetString ENGINE_2 = OctetString.fromHexString("80:00:1f:88:02");
+    private static final OctetString ENGINE_3 = OctetString.fromHexString("80:00:1f:88:03");
+
+    @Test
+    public void testUsersAreRegisteredWithCachedKeys() {
+        LocalizedKeyCache cache = new LocalizedKeyCache(8);
+        SecurityProtocols securityProtocols = SecurityProtocols.getInstance();
+        securityProtocols.addDefaultProtocols();
+        securityProtocols.addAuthenticationProtocol(new AuthSHA());
+        SnmpV3Credentials credentials = credentials("authPassword");
+        USM first = new USM(securityProtocols, new OctetString(MPv3.createLocalEngineID()), 0);
+        USM second = new USM(securityProtocols, new OctetString(MPv3.createLocalEngineID()), 0);
+
+        cache.addUser(first, credentials, ENGINE_1);
+        cache.addUser(second, credentials, ENGINE_1);
+        Assertions.assertEquals(1, cache.getMisses());
+        Assertions.assertEquals(1, cache.getHits());
+
+        UsmUserEntry entry = second.getUser(ENGINE_1, credentials.getSecurityName());
+        Assertions.assertArrayEquals(securityProtocols.passwordToKey(AuthSHA.ID, new OctetString("authPassword"), ENGINE_1.getValue()),
+                entry.getAuthenticationKey());
+        Assertions.assertArrayEquals(securityProtocols.passwordToKey(PrivAES128.ID, AuthSHA.ID, new OctetString("privPassword"), ENGINE_1.getValue()),
+                entry.getPrivacyKey());
+
+        // another password or engine ID is localized separately
+        cache.addUser(first, credentials("changedPassword"), ENGINE_1);
+        cache.addUser(first, credentials, ENGINE_2);
+        Assertions.assertEquals(3, cache.getMisses());
+        Assertions.assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedKeysAreEvicted() {
+        LocalizedKeyCache cache = new LocalizedKeyCache(2);
+        SecurityProtocols securityProtocols = SecurityProtocols.getInstance();
+        securityProtocols.addDefaultProtocols();
+        securityProtocols.addAuthenticationProtocol(new AuthSHA());
+        USM usm = new USM(securityProtocols, new OctetString(MPv3.createLocalEngineID()), 0);
+        SnmpV3Credentials credentials = credentials("authPassword");
+
+        cache.addUser(usm, credentials, ENGINE_1);
+        cache.addUser(usm, credentials, ENGINE_2);
+        cache.addUser(usm, credentials, ENGINE_1);
+        cache.addUser(usm, credentials, ENGINE_3);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(3, cache.getMisses());
+
+        cache.addUser(usm, credentials, ENGINE_1);
+        Assertions.assertEquals(2, cache.getHits());
+        cache.addUser(usm, credentials, ENGINE_2);
+        Assertions.assertEquals(4, cache.getMisses());
+    }
+
+    private static SnmpV3Credentials credentials(String authPassword) {
+        return new SnmpV3Credentials("user", "AUTH_PRIV", AuthSHA.ID, authPassword, PrivAES128.ID, "privPassword");
+    }
+}